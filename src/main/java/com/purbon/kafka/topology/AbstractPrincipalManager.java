@@ -6,8 +6,8 @@ import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.User;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -20,14 +20,14 @@ import org.apache.logging.log4j.Logger;
 abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
 
   private static final Logger LOGGER = LogManager.getLogger(AbstractPrincipalManager.class);
-  private final List<String> managedPrefixes;
+  private final PrefixMatcher managedPrefixes;
   protected PrincipalProvider provider;
   protected Configuration config;
 
   public AbstractPrincipalManager(PrincipalProvider provider, Configuration config) {
     this.provider = provider;
     this.config = config;
-    this.managedPrefixes = config.getServiceAccountManagedPrefixes();
+    this.managedPrefixes = PrefixMatcher.of(config.getServiceAccountManagedPrefixes());
   }
 
   @Override
@@ -70,11 +70,7 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String principal) {
-    boolean matches =
-        managedPrefixes.size() == 0 || managedPrefixes.stream().anyMatch(principal::startsWith);
-    LOGGER.debug(
-        String.format("Principal %s matches %s with $s", principal, matches, managedPrefixes));
-    return matches;
+    return managedPrefixes.matchesOrEmpty(principal);
   }
 
   private List<String> parseListOfPrincipals(Topology topology) {
@@ -105,10 +101,4 @@ abstract class AbstractPrincipalManager implements ExecutionPlanUpdater {
         .filter(this::matchesPrefixList)
         .collect(Collectors.toList());
   }
-
-  @Override
-  public final void printCurrentState(PrintStream out) throws IOException {
-    out.println("List of Principles: ");
-    provider.listServiceAccounts().forEach(out::println);
-  }
 }
@@ -11,10 +11,10 @@ import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.users.*;
 import com.purbon.kafka.topology.model.users.platform.*;
+import com.purbon.kafka.topology.roles.AclBindingStore;
 import com.purbon.kafka.topology.roles.ResourceFilter;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
@@ -73,7 +73,9 @@ public class AccessControlManager implements ExecutionPlanUpdater {
   private Set<TopologyAclBinding> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
     Set<TopologyAclBinding> bindings =
-        config.fetchStateFromTheCluster() ? providerBindings() : plan.getBindings();
+        config.fetchStateFromTheCluster()
+            ? plan.getClusterSnapshot().getBindings(this::providerBindings)
+            : plan.getBindings();
     var currentState =
         bindings.stream()
             .filter(resourceFilter::matchesManagedPrefixList)
@@ -95,13 +97,12 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     return currentState;
   }
 
-  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan)
-      throws RemoteValidationException {
+  private void detectDivergencesInTheRemoteCluster(ExecutionPlan plan) throws IOException {
     if (!config.isAllowDeleteTopics()) {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteAcls = providerBindings();
+    var remoteAcls = plan.getClusterSnapshot().getBindings(this::providerBindings);
 
     var delta =
         plan.getBindings().stream()
@@ -123,7 +124,17 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     return internalPrincipal.map(i -> !binding.getPrincipal().equals(i)).orElse(true);
   }
 
-  private Set<TopologyAclBinding> providerBindings() {
+  /**
+   * List the bindings in the cluster, as known by the snapshot of the current run.
+   *
+   * @param snapshot The cluster snapshot of the current run
+   * @return the set of bindings
+   */
+  public Set<TopologyAclBinding> currentBindings(ClusterSnapshot snapshot) throws IOException {
+    return snapshot.getBindings(this::providerBindings);
+  }
+
+  private Set<TopologyAclBinding> providerBindings() throws IOException {
     Set<TopologyAclBinding> bindings = new HashSet<>();
     controlProvider.listAcls().values().forEach(bindings::addAll);
     return bindings;
@@ -279,19 +290,21 @@ public class AccessControlManager implements ExecutionPlanUpdater {
       throw new IOException(errorMessages.get(0));
     }
 
-    Set<TopologyAclBinding> allFinalBindings =
-        aclBindingsResults.stream()
-            .flatMap(aboe -> aboe.getAclBindings().stream())
-            .collect(Collectors.toSet());
+    List<TopologyAclBinding> desiredBindings = new ArrayList<>();
+    for (AclBindingsResult result : aclBindingsResults) {
+      for (TopologyAclBinding binding : result.getAclBindings()) {
+        // Only create what we manage, the current bindings are all managed ones
+        if (binding != null && resourceFilter.matchesManagedPrefixList(binding)) {
+          desiredBindings.add(binding);
+        }
+      }
+    }
+    AclBindingStore.Dictionary dictionary = new AclBindingStore.Dictionary();
+    AclBindingStore finalBindings = new AclBindingStore(dictionary, desiredBindings);
+    AclBindingStore currentBindings = new AclBindingStore(dictionary, new ArrayList<>(bindings));
 
-    Set<TopologyAclBinding> bindingsToBeCreated =
-        allFinalBindings.stream()
-            .filter(Objects::nonNull)
-            // Only create what we manage
-            .filter(resourceFilter::matchesManagedPrefixList)
-            // Diff of bindings, so we only create what is not already created in the cluster.
-            .filter(binding -> !bindings.contains(binding))
-            .collect(Collectors.toSet());
+    // Diff of bindings, so we only create what is not already created in the cluster.
+    Set<TopologyAclBinding> bindingsToBeCreated = finalBindings.minus(currentBindings);
 
     if (!bindingsToBeCreated.isEmpty()) {
       CreateBindings createBindings = new CreateBindings(controlProvider, bindingsToBeCreated);
@@ -301,10 +314,7 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     if (config.isAllowDeleteBindings()) {
       // clear acls that does not appear anymore in the new generated list,
       // but where previously created
-      Set<TopologyAclBinding> bindingsToDelete =
-          bindings.stream()
-              .filter(binding -> !allFinalBindings.contains(binding))
-              .collect(Collectors.toSet());
+      Set<TopologyAclBinding> bindingsToDelete = currentBindings.minus(finalBindings);
       if (!bindingsToDelete.isEmpty()) {
         ClearBindings clearBindings = new ClearBindings(controlProvider, bindingsToDelete);
         updateActions.add(clearBindings);
@@ -389,16 +399,4 @@ public class AccessControlManager implements ExecutionPlanUpdater {
     }
     return Optional.ofNullable(aclBindingsResult);
   }
-
-  @Override
-  public void printCurrentState(PrintStream out) {
-    out.println("List of ACLs: ");
-    controlProvider
-        .listAcls()
-        .forEach(
-            (topic, aclBindings) -> {
-              out.println(topic);
-              aclBindings.forEach(out::println);
-            });
-  }
 }
@@ -13,7 +13,7 @@ public interface AccessControlProvider {
 
   void clearBindings(Set<TopologyAclBinding> bindings) throws IOException;
 
-  default Map<String, List<TopologyAclBinding>> listAcls() {
+  default Map<String, List<TopologyAclBinding>> listAcls() throws IOException {
     return new HashMap<>();
   }
 }
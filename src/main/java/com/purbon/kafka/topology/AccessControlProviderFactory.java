@@ -38,8 +38,9 @@ public class AccessControlProviderFactory {
       switch (accessControlClassName) {
         case ACCESS_CONTROL_DEFAULT_CLASS:
           Constructor<?> aclsProviderConstructor =
-              clazz.getConstructor(TopologyBuilderAdminClient.class);
-          return (SimpleAclsProvider) aclsProviderConstructor.newInstance(builderAdminClient);
+              clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
+          return (SimpleAclsProvider)
+              aclsProviderConstructor.newInstance(builderAdminClient, config);
         case CONFLUENT_CLOUD_CONTROL_CLASS:
           Constructor<?> ccloudProviderConstructor =
               clazz.getConstructor(TopologyBuilderAdminClient.class, Configuration.class);
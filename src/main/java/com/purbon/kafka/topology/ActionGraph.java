@@ -0,0 +1,372 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.BaseAccessControlAction;
+import com.purbon.kafka.topology.actions.BaseAccountsAction;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.DeleteArtefactAction;
+import com.purbon.kafka.topology.actions.SyncArtefactAction;
+import com.purbon.kafka.topology.actions.access.ClearBindings;
+import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The actions of an execution plan as a dependency graph, so the ones that do not depend on each
+ * other can run at the same time. The dependencies are derived from the kind of each action and its
+ * position in the plan:
+ *
+ * <ul>
+ *   <li>ACLs run after the accounts created before them in the plan.
+ *   <li>Topic actions run in plan order, schemas, connectors and ksqlDB artefacts after them.
+ *   <li>Connectors run after the ACLs, so their principals can use the topics once they start.
+ *   <li>ksqlDB artefacts run in plan order, so streams are created before the tables built on them,
+ *       and after the ACLs.
+ *   <li>Deletions run last and in plan order.
+ *   <li>Any other action is a barrier, it runs alone after everything before it.
+ * </ul>
+ *
+ * <p>Whatever the order the actions complete in, they are handed to the {@link Listener} in the
+ * same order: plan order, except that an action always comes after the ones it depends on. So the
+ * plan output, the audit log and the tracked state do not depend on the timing of the remote calls.
+ */
+class ActionGraph {
+
+  enum Kind {
+    ACCOUNTS,
+    TOPICS,
+    SCHEMAS,
+    ACLS,
+    CONNECTORS,
+    KSQL,
+    DELETES,
+    OTHER
+  }
+
+  interface Runner {
+
+    /**
+     * Run an action, called on the worker threads.
+     *
+     * @param action The action
+     * @throws IOException if the action fails
+     */
+    void run(Action action) throws IOException;
+  }
+
+  interface Listener {
+
+    /**
+     * Called in plan order for every action that ran.
+     *
+     * @param action The action
+     * @param failure The error thrown by the action, or null if it succeeded
+     * @throws IOException if the action outcome can not be processed
+     */
+    void completed(Action action, Throwable failure) throws IOException;
+  }
+
+  private final List<Action> actions;
+  private final List<List<Integer>> dependents;
+  private final int[] dependencies;
+  private final int[] order;
+
+  ActionGraph(List<Action> actions) {
+    this.actions = actions;
+    this.dependents = new ArrayList<>(actions.size());
+    this.dependencies = new int[actions.size()];
+    for (int i = 0; i < actions.size(); i++) {
+      dependents.add(new ArrayList<>());
+    }
+    build();
+    this.order = sort();
+  }
+
+  static Kind kindOf(Action action) {
+    if (action instanceof ClearAccounts
+        || action instanceof ClearBindings
+        || action instanceof DeleteTopics
+        || action instanceof DeleteArtefactAction) {
+      return Kind.DELETES;
+    } else if (action instanceof BaseAccountsAction) {
+      return Kind.ACCOUNTS;
+    } else if (action instanceof BaseAccessControlAction) {
+      return Kind.ACLS;
+    } else if (action instanceof CreateTopicAction
+        || action instanceof CreateTopicsAction
+        || action instanceof UpdateTopicConfigAction
+        || action instanceof UpdateTopicConfigsAction) {
+      return Kind.TOPICS;
+    } else if (action instanceof RegisterSchemaAction) {
+      return Kind.SCHEMAS;
+    } else if (action instanceof CreateArtefactAction || action instanceof SyncArtefactAction) {
+      Artefact artefact =
+          action instanceof CreateArtefactAction
+              ? ((CreateArtefactAction) action).getArtefact()
+              : ((SyncArtefactAction) action).getArtefact();
+      return artefact instanceof KsqlArtefact ? Kind.KSQL : Kind.CONNECTORS;
+    }
+    return Kind.OTHER;
+  }
+
+  private void build() {
+    int barrier = -1;
+    int segmentStart = 0;
+    int lastTopics = -1;
+    int lastKsql = -1;
+    List<Integer> accounts = new ArrayList<>();
+    List<Integer> acls = new ArrayList<>();
+    List<Integer> deletes = new ArrayList<>();
+    List<Integer> nonDeletes = new ArrayList<>();
+
+    for (int i = 0; i <= actions.size(); i++) {
+      Kind kind = i < actions.size() ? kindOf(actions.get(i)) : Kind.OTHER;
+      if (kind == Kind.OTHER) {
+        // close the segment: deletes after every other action of it, then the barrier after all
+        for (int j = 0; j < deletes.size(); j++) {
+          int delete = deletes.get(j);
+          if (j == 0) {
+            nonDeletes.forEach(other -> dependsOn(delete, other));
+          } else {
+            dependsOn(delete, deletes.get(j - 1));
+          }
+        }
+        if (i == actions.size()) {
+          break;
+        }
+        for (int j = segmentStart; j < i; j++) {
+          dependsOn(i, j);
+        }
+        if (segmentStart == i) {
+          dependsOn(i, barrier);
+        }
+        barrier = i;
+        segmentStart = i + 1;
+        lastTopics = -1;
+        lastKsql = -1;
+        accounts.clear();
+        acls.clear();
+        deletes.clear();
+        nonDeletes.clear();
+        continue;
+      }
+
+      if (kind == Kind.DELETES) {
+        deletes.add(i);
+        dependsOn(i, barrier);
+        continue;
+      }
+      nonDeletes.add(i);
+      dependsOn(i, barrier);
+      switch (kind) {
+        case ACCOUNTS:
+          accounts.add(i);
+          break;
+        case ACLS:
+          for (int account : accounts) {
+            dependsOn(i, account);
+          }
+          acls.add(i);
+          break;
+        case TOPICS:
+          dependsOn(i, lastTopics);
+          lastTopics = i;
+          break;
+        case SCHEMAS:
+          dependsOn(i, lastTopics);
+          break;
+        case CONNECTORS:
+          dependsOn(i, lastTopics);
+          for (int acl : acls) {
+            dependsOn(i, acl);
+          }
+          break;
+        case KSQL:
+          dependsOn(i, lastTopics);
+          dependsOn(i, lastKsql);
+          for (int acl : acls) {
+            dependsOn(i, acl);
+          }
+          lastKsql = i;
+          break;
+        default:
+          break;
+      }
+    }
+  }
+
+  /** Topological order of the actions, taking the first one in plan order whenever possible. */
+  private int[] sort() {
+    int[] sorted = new int[actions.size()];
+    int[] pending = dependencies.clone();
+    PriorityQueue<Integer> ready = new PriorityQueue<>();
+    for (int i = 0; i < actions.size(); i++) {
+      if (pending[i] == 0) {
+        ready.add(i);
+      }
+    }
+    int count = 0;
+    while (!ready.isEmpty()) {
+      int i = ready.poll();
+      sorted[count++] = i;
+      for (int dependent : dependents.get(i)) {
+        if (--pending[dependent] == 0) {
+          ready.add(dependent);
+        }
+      }
+    }
+    return sorted;
+  }
+
+  private void dependsOn(int action, int dependency) {
+    if (dependency < 0) {
+      return;
+    }
+    dependents.get(dependency).add(action);
+    dependencies[action]++;
+  }
+
+  int dependencies(int action) {
+    return dependencies[action];
+  }
+
+  List<Integer> dependents(int action) {
+    return dependents.get(action);
+  }
+
+  List<Action> orderedActions() {
+    List<Action> ordered = new ArrayList<>(order.length);
+    for (int i : order) {
+      ordered.add(actions.get(i));
+    }
+    return ordered;
+  }
+
+  /**
+   * Run all the actions on a pool of the given size. Once an action fails no new action is started,
+   * the running ones are awaited and the failure is thrown.
+   *
+   * @param parallelism The number of actions run at the same time
+   * @param listener Notified of every action that ran, see {@link #orderedActions()}
+   * @throws IOException the failure of the first failed action
+   */
+  void run(int parallelism, Listener listener) throws IOException {
+    run(parallelism, Action::run, listener);
+  }
+
+  /**
+   * Run all the actions on a pool of the given size, like {@link #run(int, Listener)}.
+   *
+   * @param parallelism The number of actions run at the same time
+   * @param runner Runs each action on the worker threads
+   * @param listener Notified of every action that ran, see {@link #orderedActions()}
+   * @throws IOException the failure of the first failed action
+   */
+  void run(int parallelism, Runner runner, Listener listener) throws IOException {
+    int size = actions.size();
+    ExecutorService pool = Executors.newFixedThreadPool(parallelism, new WorkerFactory());
+    BlockingQueue<Integer> finished = new LinkedBlockingQueue<>();
+    Throwable[] failures = new Throwable[size];
+    boolean[] done = new boolean[size];
+    int[] pending = dependencies.clone();
+    int inFlight = 0;
+    int next = 0;
+    boolean failed = false;
+
+    try {
+      for (int i = 0; i < size; i++) {
+        if (pending[i] == 0) {
+          submit(pool, runner, i, failures, finished);
+          inFlight++;
+        }
+      }
+      while (inFlight > 0) {
+        int i = finished.take();
+        inFlight--;
+        done[i] = true;
+        if (failures[i] != null) {
+          failed = true;
+        } else if (!failed) {
+          for (int dependent : dependents.get(i)) {
+            if (--pending[dependent] == 0) {
+              submit(pool, runner, dependent, failures, finished);
+              inFlight++;
+            }
+          }
+        }
+        while (next < size && done[order[next]]) {
+          listener.completed(actions.get(order[next]), failures[order[next]]);
+          next++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while running the execution plan", e);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    // after a failure some actions never ran, the ones after them that did are still reported
+    for (; next < size; next++) {
+      if (done[order[next]]) {
+        listener.completed(actions.get(order[next]), failures[order[next]]);
+      }
+    }
+    for (int i : order) {
+      Throwable failure = failures[i];
+      if (failure instanceof IOException) {
+        throw (IOException) failure;
+      } else if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+    }
+  }
+
+  private void submit(
+      ExecutorService pool,
+      Runner runner,
+      int i,
+      Throwable[] failures,
+      BlockingQueue<Integer> finished) {
+    pool.execute(
+        () -> {
+          try {
+            runner.run(actions.get(i));
+          } catch (Throwable t) {
+            failures[i] = t;
+          } finally {
+            finished.add(i);
+          }
+        });
+  }
+
+  private static class WorkerFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "julie-plan-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
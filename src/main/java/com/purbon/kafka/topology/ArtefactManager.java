@@ -123,7 +123,10 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
 
   protected Collection<? extends Artefact> loadActualClusterStateIfAvailable(ExecutionPlan plan)
       throws IOException {
-    var currentState = config.fetchStateFromTheCluster() ? getClustersState() : getLocalState(plan);
+    Collection<? extends Artefact> currentState =
+        config.fetchStateFromTheCluster()
+            ? new ArrayList<>(getClustersState(plan.getClusterSnapshot()))
+            : getLocalState(plan);
 
     if (!config.shouldVerifyRemoteState()) {
       LOGGER.warn(
@@ -145,7 +148,7 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    var remoteArtefacts = getClustersState();
+    var remoteArtefacts = getClustersState(plan.getClusterSnapshot());
 
     var delta =
         getLocalState(plan).stream()
@@ -166,6 +169,15 @@ public abstract class ArtefactManager implements ExecutionPlanUpdater {
 
   protected abstract Collection<? extends Artefact> getClustersState() throws IOException;
 
+  /**
+   * Current artefacts in the cluster, managers that share their state with the cluster snapshot of
+   * the run should override this method.
+   */
+  protected Collection<? extends Artefact> getClustersState(ClusterSnapshot snapshot)
+      throws IOException {
+    return getClustersState();
+  }
+
   abstract Set<? extends Artefact> parseNewArtefacts(Topology topology);
 
   abstract boolean isAllowDelete();
@@ -3,13 +3,16 @@ package com.purbon.kafka.topology;
 import com.purbon.kafka.topology.backend.Backend;
 import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.backend.FileBackend;
+import com.purbon.kafka.topology.backend.StateDelta;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.Getter;
 import org.apache.logging.log4j.LogManager;
@@ -18,6 +21,7 @@ import org.apache.logging.log4j.Logger;
 public class BackendController {
 
   public static final String STATE_FILE_NAME = ".cluster-state";
+  public static final String JOURNAL_FILE_NAME = ".cluster-state.journal";
 
   public enum Mode {
     TRUNCATE,
@@ -27,6 +31,8 @@ public class BackendController {
   private static final Logger LOGGER = LogManager.getLogger(BackendController.class);
   @Getter private final Backend backend;
   @Getter private BackendState state;
+  private final List<StateDelta> journal;
+  private int journalBatchSize;
 
   public BackendController() {
     this(new FileBackend());
@@ -35,6 +41,48 @@ public class BackendController {
   public BackendController(Backend backend) {
     this.backend = backend;
     this.state = new BackendState();
+    this.journal = new ArrayList<>();
+    this.journalBatchSize = 0;
+  }
+
+  /**
+   * Keep a journal of the completed actions, written through the backend every given number of
+   * entries, so a run that fails does not lose track of what it already applied.
+   *
+   * @param journalBatchSize The number of entries written at once, 0 to not keep a journal
+   */
+  public void setJournalBatchSize(int journalBatchSize) {
+    this.journalBatchSize = journalBatchSize;
+  }
+
+  /**
+   * Record the state delta of a completed action in the journal.
+   *
+   * @param delta The resources the action removed and added
+   * @throws IOException if the journal can not be written
+   */
+  public void journal(StateDelta delta) throws IOException {
+    if (journalBatchSize <= 0 || delta.isEmpty()) {
+      return;
+    }
+    journal.add(delta);
+    if (journal.size() >= journalBatchSize) {
+      flushJournal();
+    }
+  }
+
+  /**
+   * Write the journal entries not written yet, called when a run fails.
+   *
+   * @throws IOException if the journal can not be written
+   */
+  public void flushJournal() throws IOException {
+    if (journal.isEmpty()) {
+      return;
+    }
+    LOGGER.debug(String.format("Append %d entries to the journal", journal.size()));
+    backend.appendJournal(journal);
+    journal.clear();
   }
 
   public void addBindings(List<TopologyAclBinding> bindings) {
@@ -67,6 +115,31 @@ public class BackendController {
     state.addKSqlTables(ksqlTable);
   }
 
+  public void addTopicFingerprints(Map<String, String> topicFingerprints, long lastTopicSweepMs) {
+    LOGGER.debug(
+        String.format("Adding %d topic fingerprints to the backend", topicFingerprints.size()));
+    state.addTopicFingerprints(topicFingerprints);
+    state.setLastTopicSweepMs(lastTopicSweepMs);
+  }
+
+  /**
+   * Replace the stored topic fingerprints.
+   *
+   * @param topicFingerprints a map of topic name and fingerprint for all the managed topics
+   * @param lastTopicSweepMs the time of the last run that compared every topic with the cluster
+   */
+  public void setTopicFingerprints(Map<String, String> topicFingerprints, long lastTopicSweepMs) {
+    if (topicFingerprints != state.getTopicFingerprints()) {
+      state.getTopicFingerprints().clear();
+      state.addTopicFingerprints(topicFingerprints);
+    }
+    state.setLastTopicSweepMs(lastTopicSweepMs);
+  }
+
+  public void setRunFingerprint(String runFingerprint) {
+    state.setRunFingerprint(runFingerprint);
+  }
+
   public Set<ServiceAccount> getServiceAccounts() {
     return state.getAccounts();
   }
@@ -91,10 +164,26 @@ public class BackendController {
     return state.getKSqlTables();
   }
 
+  public Map<String, String> getTopicFingerprints() {
+    return state.getTopicFingerprints();
+  }
+
+  public long getLastTopicSweepMs() {
+    return state.getLastTopicSweepMs();
+  }
+
+  public String getRunFingerprint() {
+    return state.getRunFingerprint();
+  }
+
   public void flushAndClose() throws IOException {
     LOGGER.debug(String.format("Flush data from the backend at %s", backend.getClass()));
     backend.createOrOpen(Mode.TRUNCATE);
     backend.save(state);
+    // the saved state includes everything recorded in the journal, a journal left by an earlier
+    // run while the journal was enabled included
+    journal.clear();
+    backend.clearJournal();
     backend.close();
   }
 
@@ -102,6 +191,27 @@ public class BackendController {
     LOGGER.debug(String.format("Loading data from the backend at %s", backend.getClass()));
     backend.createOrOpen();
     state = backend.load();
+    List<StateDelta> entries = backend.loadJournal();
+    if (entries.isEmpty()) {
+      return;
+    }
+    if (journalBatchSize > 0) {
+      LOGGER.info(
+          String.format(
+              "Resuming a run that did not complete, replaying %d journal entries",
+              entries.size()));
+      entries.forEach(entry -> entry.applyTo(state));
+    } else {
+      // left by a run made while the journal was enabled, it would be replayed over a newer state
+      // once the journal is enabled again
+      LOGGER.warn(
+          String.format(
+              "Discarding %d journal entries of a run that did not complete, the journal is disabled",
+              entries.size()));
+      backend.clearJournal();
+    }
+    // the previous run did not complete, so its fingerprint does not describe the cluster
+    state.setRunFingerprint(null);
   }
 
   public void reset() {
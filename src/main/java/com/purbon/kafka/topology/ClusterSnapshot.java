@@ -0,0 +1,174 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
+
+/**
+ * View of the remote cluster state shared by all the managers during a single run. Each part of the
+ * state is fetched the first time it is requested, using the loader provided by the caller, and
+ * kept up to date by the {@link ExecutionPlan} as actions are executed. This way every remote
+ * listing happens at most once per run.
+ */
+public class ClusterSnapshot {
+
+  @FunctionalInterface
+  public interface Loader<T> {
+    T load() throws IOException;
+  }
+
+  @FunctionalInterface
+  public interface BulkLoader<K, V> {
+    Map<K, V> load(Collection<K> keys) throws IOException;
+  }
+
+  private Set<String> topics;
+  private final Map<String, TopicDescription> topicDescriptions;
+  private final Map<String, Config> topicConfigs;
+  private Set<TopologyAclBinding> bindings;
+  private Set<Artefact> connectors;
+  private Set<Artefact> kSqlArtefacts;
+  private RunProfiler profiler = RunProfiler.DISABLED;
+
+  public ClusterSnapshot() {
+    this.topicDescriptions = new HashMap<>();
+    this.topicConfigs = new HashMap<>();
+  }
+
+  void setProfiler(RunProfiler profiler) {
+    this.profiler = profiler;
+  }
+
+  public synchronized Set<String> getTopics(Loader<? extends Collection<String>> loader)
+      throws IOException {
+    if (topics == null) {
+      topics = new HashSet<>(load("fetch topics", loader));
+    }
+    return Collections.unmodifiableSet(topics);
+  }
+
+  public synchronized Map<String, TopicDescription> getTopicDescriptions(
+      Collection<String> topics, BulkLoader<String, TopicDescription> loader) throws IOException {
+    return getAll("fetch topic descriptions", topicDescriptions, topics, loader);
+  }
+
+  public synchronized Map<String, Config> getTopicConfigs(
+      Collection<String> topics, BulkLoader<String, Config> loader) throws IOException {
+    return getAll("fetch topic configs", topicConfigs, topics, loader);
+  }
+
+  public synchronized Set<TopologyAclBinding> getBindings(
+      Loader<? extends Collection<TopologyAclBinding>> loader) throws IOException {
+    if (bindings == null) {
+      bindings = new HashSet<>(load("fetch bindings", loader));
+    }
+    return Collections.unmodifiableSet(bindings);
+  }
+
+  public synchronized Collection<? extends Artefact> getConnectors(
+      Loader<? extends Collection<? extends Artefact>> loader) throws IOException {
+    if (connectors == null) {
+      connectors = new HashSet<>(load("fetch connectors", loader));
+    }
+    return Collections.unmodifiableSet(connectors);
+  }
+
+  public synchronized Collection<? extends Artefact> getKSqlArtefacts(
+      Loader<? extends Collection<? extends Artefact>> loader) throws IOException {
+    if (kSqlArtefacts == null) {
+      kSqlArtefacts = new HashSet<>(load("fetch ksqlDB artefacts", loader));
+    }
+    return Collections.unmodifiableSet(kSqlArtefacts);
+  }
+
+  synchronized void topicsCreated(Collection<String> createdTopics) {
+    if (topics != null) {
+      topics.addAll(createdTopics);
+    }
+  }
+
+  synchronized void topicsUpdated(Collection<String> updatedTopics) {
+    // the cached descriptions and configs are not accurate anymore, they are fetched again if
+    // requested later on.
+    topicDescriptions.keySet().removeAll(updatedTopics);
+    topicConfigs.keySet().removeAll(updatedTopics);
+  }
+
+  synchronized void topicsDeleted(Collection<String> deletedTopics) {
+    if (topics != null) {
+      topics.removeAll(deletedTopics);
+    }
+    topicsUpdated(deletedTopics);
+  }
+
+  synchronized void bindingsCreated(Collection<TopologyAclBinding> createdBindings) {
+    if (bindings != null) {
+      bindings.addAll(createdBindings);
+    }
+  }
+
+  synchronized void bindingsDeleted(Collection<TopologyAclBinding> deletedBindings) {
+    if (bindings != null) {
+      bindings.removeAll(deletedBindings);
+    }
+  }
+
+  synchronized void artefactCreated(Artefact artefact) {
+    Set<Artefact> artefacts = artefactsOf(artefact);
+    if (artefacts != null) {
+      // remove first, so an updated artefact replaces the previous version
+      artefacts.remove(artefact);
+      artefacts.add(artefact);
+    }
+  }
+
+  synchronized void artefactDeleted(Artefact artefact) {
+    Set<Artefact> artefacts = artefactsOf(artefact);
+    if (artefacts != null) {
+      artefacts.remove(artefact);
+    }
+  }
+
+  private <T> T load(String phase, Loader<T> loader) throws IOException {
+    try (RunProfiler.Phase profiled = profiler.start(phase)) {
+      return loader.load();
+    }
+  }
+
+  private Set<Artefact> artefactsOf(Artefact artefact) {
+    return artefact instanceof KafkaConnectArtefact ? connectors : kSqlArtefacts;
+  }
+
+  private <V> Map<String, V> getAll(
+      String phase, Map<String, V> cache, Collection<String> keys, BulkLoader<String, V> loader)
+      throws IOException {
+    List<String> missing = new ArrayList<>();
+    for (String key : keys) {
+      if (!cache.containsKey(key)) {
+        missing.add(key);
+      }
+    }
+    if (!missing.isEmpty()) {
+      cache.putAll(load(phase, () -> loader.load(missing)));
+    }
+    Map<String, V> values = new HashMap<>();
+    for (String key : keys) {
+      V value = cache.get(key);
+      if (value != null) {
+        values.put(key, value);
+      }
+    }
+    return values;
+  }
+}
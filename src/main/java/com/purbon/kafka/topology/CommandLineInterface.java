@@ -2,6 +2,7 @@ package com.purbon.kafka.topology;
 
 import static java.lang.System.exit;
 
+import com.purbon.kafka.topology.metrics.FlightRecording;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +34,26 @@ public class CommandLineInterface {
   public static final String DRY_RUN_OPTION = "dryRun";
   public static final String DRY_RUN_DESC = "Print the execution plan without altering anything.";
 
+  public static final String PARALLELISM_OPTION = "parallelism";
+  public static final String PARALLELISM_DESC =
+      "Number of actions of the execution plan run at the same time, one by default.";
+
+  public static final String PLAN_OUT_OPTION = "planOut";
+  public static final String PLAN_OUT_DESC =
+      "Write the execution plan to this file, to be applied later with --applyPlan, instead of running it.";
+
+  public static final String APPLY_PLAN_OPTION = "applyPlan";
+  public static final String APPLY_PLAN_DESC =
+      "Run the execution plan written to this file with --planOut, without computing it again.";
+
+  public static final String PROFILE_OPTION = "profile";
+  public static final String PROFILE_DESC =
+      "Write the time and memory allocated by each phase of the run to this JSON file, and print them as a table.";
+
+  public static final String JFR_OPTION = "jfr";
+  public static final String JFR_DESC =
+      "Record the run with the JDK Flight Recorder, with events for each action, remote call and phase, into this .jfr file.";
+
   public static final String RECURSIVE_OPTION = "recursive";
   public static final String RECURSIVE_DESC =
       "Recursively look for topology files below the given directory.";
@@ -101,6 +122,41 @@ public class CommandLineInterface {
             .required(false)
             .build();
 
+    final Option parallelismOption =
+        Option.builder()
+            .longOpt(PARALLELISM_OPTION)
+            .hasArg()
+            .desc(PARALLELISM_DESC)
+            .required(false)
+            .build();
+
+    final Option planOutOption =
+        Option.builder()
+            .longOpt(PLAN_OUT_OPTION)
+            .hasArg()
+            .desc(PLAN_OUT_DESC)
+            .required(false)
+            .build();
+
+    final Option applyPlanOption =
+        Option.builder()
+            .longOpt(APPLY_PLAN_OPTION)
+            .hasArg()
+            .desc(APPLY_PLAN_DESC)
+            .required(false)
+            .build();
+
+    final Option profileOption =
+        Option.builder()
+            .longOpt(PROFILE_OPTION)
+            .hasArg()
+            .desc(PROFILE_DESC)
+            .required(false)
+            .build();
+
+    final Option jfrOption =
+        Option.builder().longOpt(JFR_OPTION).hasArg().desc(JFR_DESC).required(false).build();
+
     final Option recursiveOption =
         Option.builder()
             .longOpt(RECURSIVE_OPTION)
@@ -145,6 +201,11 @@ public class CommandLineInterface {
 
     options.addOption(overridingAdminClientConfigFileOption);
     options.addOption(dryRunOption);
+    options.addOption(parallelismOption);
+    options.addOption(planOutOption);
+    options.addOption(applyPlanOption);
+    options.addOption(profileOption);
+    options.addOption(jfrOption);
     options.addOption(recursiveOption);
     options.addOption(quietOption);
     options.addOption(validateOption);
@@ -173,7 +234,9 @@ public class CommandLineInterface {
 
     processTopology(
         cmd.getOptionValue(TOPOLOGY_OPTION), cmd.getOptionValue(PLANS_OPTION, "default"), config);
-    if (!cmd.hasOption(DRY_RUN_OPTION) && !cmd.hasOption(VALIDATE_OPTION)) {
+    if (!cmd.hasOption(DRY_RUN_OPTION)
+        && !cmd.hasOption(VALIDATE_OPTION)
+        && !cmd.hasOption(PLAN_OUT_OPTION)) {
       System.out.println("Kafka Topology updated");
     }
   }
@@ -184,6 +247,21 @@ public class CommandLineInterface {
       config.put(BROKERS_OPTION, cmd.getOptionValue(BROKERS_OPTION));
     }
     config.put(DRY_RUN_OPTION, String.valueOf(cmd.hasOption(DRY_RUN_OPTION)));
+    if (cmd.hasOption(PARALLELISM_OPTION)) {
+      config.put(PARALLELISM_OPTION, cmd.getOptionValue(PARALLELISM_OPTION));
+    }
+    if (cmd.hasOption(PLAN_OUT_OPTION)) {
+      config.put(PLAN_OUT_OPTION, cmd.getOptionValue(PLAN_OUT_OPTION));
+    }
+    if (cmd.hasOption(APPLY_PLAN_OPTION)) {
+      config.put(APPLY_PLAN_OPTION, cmd.getOptionValue(APPLY_PLAN_OPTION));
+    }
+    if (cmd.hasOption(PROFILE_OPTION)) {
+      config.put(PROFILE_OPTION, cmd.getOptionValue(PROFILE_OPTION));
+    }
+    if (cmd.hasOption(JFR_OPTION)) {
+      config.put(JFR_OPTION, cmd.getOptionValue(JFR_OPTION));
+    }
     config.put(RECURSIVE_OPTION, String.valueOf(cmd.hasOption(RECURSIVE_OPTION)));
     config.put(QUIET_OPTION, String.valueOf(cmd.hasOption(QUIET_OPTION)));
     config.put(VALIDATE_OPTION, String.valueOf(cmd.hasOption(VALIDATE_OPTION)));
@@ -222,7 +300,8 @@ public class CommandLineInterface {
 
   void processTopology(String topologyFile, String plansFile, Map<String, String> config)
       throws Exception {
-    try (JulieOps builder = JulieOps.build(topologyFile, plansFile, config)) {
+    try (FlightRecording recording = FlightRecording.start(config.get(JFR_OPTION));
+        JulieOps builder = JulieOps.build(topologyFile, plansFile, config)) {
       builder.run();
     }
   }
@@ -364,6 +364,37 @@ public class Configuration {
     return Boolean.parseBoolean(cliParams.getOrDefault(DRY_RUN_OPTION, "false"));
   }
 
+  public int getParallelism() {
+    String value = cliParams.get(PARALLELISM_OPTION);
+    if (value == null) {
+      return 1;
+    }
+    try {
+      int parallelism = Integer.parseInt(value.trim());
+      if (parallelism > 0) {
+        return parallelism;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    throw new ConfigurationException(
+        String.format(
+            "The option %s should be a positive number of actions, got '%s'",
+            PARALLELISM_OPTION, value));
+  }
+
+  public Optional<String> getPlanOutFile() {
+    return Optional.ofNullable(cliParams.get(PLAN_OUT_OPTION));
+  }
+
+  public Optional<String> getApplyPlanFile() {
+    return Optional.ofNullable(cliParams.get(APPLY_PLAN_OPTION));
+  }
+
+  public Optional<String> getProfileFile() {
+    return Optional.ofNullable(cliParams.get(PROFILE_OPTION));
+  }
+
   public boolean isRecursive() {
     return Boolean.parseBoolean(cliParams.getOrDefault(RECURSIVE_OPTION, "false"));
   }
@@ -713,6 +744,59 @@ public class Configuration {
     return config.getInt(JULIE_HTTP_BACKOFF_TIME_MS);
   }
 
+  public Integer getAdminRequestBatchSize() {
+    return config.getInt(JULIE_ADMIN_REQUEST_BATCH_SIZE);
+  }
+
+  public Integer getAdminRequestMaxInFlight() {
+    return config.getInt(JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT);
+  }
+
+  public Long getAdminRequestTimeoutMs() {
+    return config.getLong(JULIE_ADMIN_REQUEST_TIMEOUT_MS);
+  }
+
+  public Integer getTopicDeletionBatchSize() {
+    return config.getInt(JULIE_TOPIC_DELETION_BATCH_SIZE);
+  }
+
+  public Long getTopicDeletionSettleTimeoutMs() {
+    return config.getLong(JULIE_TOPIC_DELETION_SETTLE_TIMEOUT_MS);
+  }
+
+  public Long getTopicDeletionSettlePollMs() {
+    return config.getLong(JULIE_TOPIC_DELETION_SETTLE_POLL_MS);
+  }
+
+  public Long getTopicFullSweepIntervalMs() {
+    return config.getLong(JULIE_TOPIC_FULL_SWEEP_INTERVAL_MS);
+  }
+
+  public boolean isNoopFastPathEnabled() {
+    return config.getBoolean(JULIE_NOOP_FAST_PATH_ENABLED);
+  }
+
+  public boolean isPlanOptimizerEnabled() {
+    return config.getBoolean(JULIE_PLAN_OPTIMIZER_ENABLED);
+  }
+
+  public int getJournalBatchSize() {
+    return config.getInt(JULIE_JOURNAL_BATCH_SIZE);
+  }
+
+  public PlanPrinter.Format getPlanOutputFormat() {
+    return PlanPrinter.Format.valueOf(getString(JULIE_PLAN_OUTPUT_FORMAT).toUpperCase());
+  }
+
+  public Optional<String> getMetricsPrometheusFile() {
+    String file = getString(JULIE_METRICS_PROMETHEUS_FILE);
+    return file.isEmpty() ? Optional.empty() : Optional.of(file);
+  }
+
+  public boolean isMetricsJmxEnabled() {
+    return config.getBoolean(JULIE_METRICS_JMX_ENABLED);
+  }
+
   private String getString(String path) {
     return config.getString(path).strip().trim();
   }
@@ -192,4 +192,30 @@ public class Constants {
 
   public static final String JULIE_HTTP_RETRY_TIMES = "julie.http.retry.times";
   public static final String JULIE_HTTP_BACKOFF_TIME_MS = "julie.http.retry.backoff.time.ms";
+
+  public static final String JULIE_ADMIN_REQUEST_BATCH_SIZE = "julie.admin.request.batch.size";
+  public static final String JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT =
+      "julie.admin.request.max.in.flight";
+  public static final String JULIE_ADMIN_REQUEST_TIMEOUT_MS = "julie.admin.request.timeout.ms";
+
+  public static final String JULIE_TOPIC_DELETION_BATCH_SIZE =
+      "julie.admin.topic.deletion.batch.size";
+  public static final String JULIE_TOPIC_DELETION_SETTLE_TIMEOUT_MS =
+      "julie.admin.topic.deletion.settle.timeout.ms";
+  public static final String JULIE_TOPIC_DELETION_SETTLE_POLL_MS =
+      "julie.admin.topic.deletion.settle.poll.ms";
+
+  public static final String JULIE_TOPIC_FULL_SWEEP_INTERVAL_MS =
+      "julie.topic.full.sweep.interval.ms";
+
+  public static final String JULIE_NOOP_FAST_PATH_ENABLED = "julie.noop.fast.path.enabled";
+
+  public static final String JULIE_PLAN_OPTIMIZER_ENABLED = "julie.plan.optimizer.enabled";
+
+  public static final String JULIE_JOURNAL_BATCH_SIZE = "julie.journal.batch.size";
+
+  public static final String JULIE_PLAN_OUTPUT_FORMAT = "julie.plan.output.format";
+
+  public static final String JULIE_METRICS_PROMETHEUS_FILE = "julie.metrics.prometheus.file";
+  public static final String JULIE_METRICS_JMX_ENABLED = "julie.metrics.jmx.enabled";
 }
@@ -5,9 +5,15 @@ import com.purbon.kafka.topology.actions.access.ClearBindings;
 import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
 import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction;
 import com.purbon.kafka.topology.audit.Auditor;
 import com.purbon.kafka.topology.audit.VoidAuditor;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.backend.StateDelta;
+import com.purbon.kafka.topology.metrics.ActionEvent;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
@@ -15,7 +21,6 @@ import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
 import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
-import com.purbon.kafka.topology.utils.StreamUtils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.*;
@@ -30,15 +35,20 @@ public class ExecutionPlan {
 
   private final List<Action> plan;
   private final PrintStream outputStream;
+  private PlanPrinter printer;
+  private RunProfiler profiler = RunProfiler.DISABLED;
   private final BackendController backendController;
 
-  private Set<TopologyAclBinding> bindings;
-  private Set<ServiceAccount> serviceAccounts;
-  private Set<String> topics;
-  private Set<KafkaConnectArtefact> connectors;
-  private Set<KsqlStreamArtefact> ksqlStreams;
-  private Set<KsqlTableArtefact> ksqlTables;
+  // the state of the backend, updated in place as the actions complete
+  private final BackendState state;
 
+  private final Map<String, String> previousTopicFingerprints;
+  private Map<String, String> topicFingerprints;
+  private long lastTopicSweepMs;
+  private final String previousRunFingerprint;
+  private RunFingerprint runFingerprint;
+
+  private final ClusterSnapshot clusterSnapshot;
   private Auditor auditor;
 
   private ExecutionPlan(
@@ -48,24 +58,17 @@ public class ExecutionPlan {
       Auditor auditor) {
     this.plan = plan;
     this.outputStream = outputStream;
+    this.printer = new PlanPrinter(outputStream, PlanPrinter.Format.PRETTY);
     this.auditor = auditor;
 
-    this.bindings = new HashSet<>();
-    this.serviceAccounts = new HashSet<>();
-    this.topics = new HashSet<>();
-    this.connectors = new HashSet<>();
-    this.ksqlStreams = new HashSet<>();
-    this.ksqlTables = new HashSet<>();
     this.backendController = backendController;
+    this.state = backendController.getState();
+    this.clusterSnapshot = new ClusterSnapshot();
 
-    if (backendController.size() > 0) {
-      this.bindings.addAll(backendController.getBindings());
-      this.serviceAccounts.addAll(backendController.getServiceAccounts());
-      this.topics.addAll(backendController.getTopics());
-      this.connectors.addAll(backendController.getConnectors());
-      this.ksqlStreams.addAll(backendController.getKSqlStreams());
-      this.ksqlTables.addAll(backendController.getKSqlTables());
-    }
+    this.previousTopicFingerprints = backendController.getTopicFingerprints();
+    this.topicFingerprints = previousTopicFingerprints;
+    this.lastTopicSweepMs = backendController.getLastTopicSweepMs();
+    this.previousRunFingerprint = backendController.getRunFingerprint();
   }
 
   public void add(Action action) {
@@ -85,119 +88,324 @@ public class ExecutionPlan {
     return new ExecutionPlan(listOfActions, outputStream, backendController, auditor);
   }
 
+  /**
+   * Set how the actions are printed as they are executed, see {@link PlanPrinter}.
+   *
+   * @param format The output format
+   */
+  public void setOutputFormat(PlanPrinter.Format format) {
+    this.printer = new PlanPrinter(outputStream, format);
+  }
+
+  /**
+   * Set the profiler recording the execution of the actions, the backend flush, the audit and the
+   * remote listings of the cluster snapshot.
+   *
+   * @param profiler The profiler of the run
+   */
+  public void setProfiler(RunProfiler profiler) {
+    this.profiler = profiler;
+    this.clusterSnapshot.setProfiler(profiler);
+  }
+
+  /**
+   * Remove, merge and sort the actions of the plan before running it, see {@link PlanOptimizer}.
+   */
+  public void optimize() {
+    PlanOptimizer optimizer = new PlanOptimizer();
+    int size;
+    synchronized (plan) {
+      List<Action> optimized = optimizer.optimize(new ArrayList<>(plan));
+      plan.clear();
+      plan.addAll(optimized);
+      size = plan.size();
+    }
+    LOGGER.info(
+        String.format(
+            "Plan optimization removed %d actions with nothing to do and merged %d actions, %d actions left",
+            optimizer.getRemovedActions(), optimizer.getMergedActions(), size));
+  }
+
   public void run() throws IOException {
     run(false);
   }
 
   public void run(boolean dryRun) throws IOException {
-    for (Action action : plan) {
-      try {
-        execute(action, dryRun);
-      } catch (IOException e) {
-        LOGGER.error(String.format("Something happen running action %s", action), e);
-        throw e;
+    run(dryRun, 1);
+  }
+
+  /**
+   * Execute the plan. With a parallelism above one the actions run as a dependency graph, see
+   * {@link ActionGraph}, the state is still tracked and audited in a deterministic order.
+   *
+   * @param dryRun If true the actions are only printed
+   * @param parallelism The number of actions run at the same time
+   * @throws IOException if an action fails
+   */
+  public void run(boolean dryRun, int parallelism) throws IOException {
+    try {
+      if (dryRun || parallelism <= 1 || plan.size() <= 1) {
+        for (Action action : plan) {
+          try {
+            execute(action, dryRun);
+          } catch (IOException e) {
+            LOGGER.error(String.format("Something happen running action %s", action), e);
+            throw e;
+          }
+        }
+      } else {
+        List<Action> actions;
+        synchronized (plan) {
+          actions = new ArrayList<>(plan);
+        }
+        new ActionGraph(actions).run(parallelism, this::runAction, this::completed);
       }
+    } catch (IOException | RuntimeException e) {
+      if (!dryRun) {
+        flushJournal(e);
+      }
+      throw e;
+    } finally {
+      printer.finish();
     }
 
     if (!dryRun) {
-      backendController.reset();
-      backendController.addBindings(new ArrayList<>(bindings));
-      backendController.addServiceAccounts(serviceAccounts);
-      backendController.addTopics(topics);
-      backendController.addConnectors(connectors);
-      backendController.addKSqlStreams(ksqlStreams);
-      backendController.addKSqlTables(ksqlTables);
-      backendController.flushAndClose();
+      // the resources are already up to date, as the state is updated in place
+      backendController.setTopicFingerprints(topicFingerprints, lastTopicSweepMs);
+      // computed once all actions are applied, so it matches the state the next run starts from
+      backendController.setRunFingerprint(
+          runFingerprint != null ? runFingerprint.compute(clusterSnapshot) : null);
+      try (RunProfiler.Phase phase = profiler.start("backend flush")) {
+        backendController.flushAndClose();
+      }
+    }
+  }
+
+  private void flushJournal(Exception failure) {
+    try {
+      // so the next run starts from the actions this one completed
+      backendController.flushJournal();
+    } catch (IOException e) {
+      LOGGER.error("Could not write the journal of the completed actions", e);
+      failure.addSuppressed(e);
     }
   }
 
   private void execute(Action action, boolean dryRun) throws IOException {
-    LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
-    if (!action.toString().isEmpty()) {
-      outputStream.println(action);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(String.format("Execution action %s (dryRun=%s)", action, dryRun));
     }
+    print(action);
     if (!dryRun) {
+      try {
+        runAction(action);
+      } finally {
+        trackPartiallyApplied(action);
+      }
+      track(action);
+    }
+  }
+
+  private void runAction(Action action) throws IOException {
+    ActionEvent event = new ActionEvent();
+    event.begin();
+    Throwable failure = null;
+    try (RunProfiler.Phase phase = profiler.start("execute " + action.getClass().getSimpleName())) {
       action.run();
-      auditor.log(action);
-      // TODO: a nicer and more clean version of this might be a cool thing to have, current version
-      // is shitty.
-      if (action instanceof CreateTopicAction) {
-        topics.add(((CreateTopicAction) action).getTopic());
-      } else if (action instanceof DeleteTopics) {
-        List<String> topicsToBeDeleted = ((DeleteTopics) action).getTopicsToBeDeleted();
-        topics =
-            new StreamUtils<>(topics.stream())
-                .filterAsSet(topic -> !topicsToBeDeleted.contains(topic));
+    } catch (IOException | RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        int resources = action instanceof BaseAction ? ((BaseAction) action).resourceCount() : 1;
+        event.describe(action.getClass().getSimpleName(), resources, failure);
+        event.commit();
       }
-      if (action instanceof BaseAccessControlAction
-          && !((BaseAccessControlAction) action).getAclBindings().isEmpty()) {
+    }
+  }
+
+  private void completed(Action action, Throwable failure) throws IOException {
+    print(action);
+    trackPartiallyApplied(action);
+    if (failure != null) {
+      LOGGER.error(String.format("Something happen running action %s", action), failure);
+    } else {
+      track(action);
+    }
+  }
+
+  private void print(Action action) throws IOException {
+    printer.print(action);
+  }
+
+  /**
+   * Track the resources of the actions applied per resource, which can partially fail: the
+   * resources applied before a failure must be tracked as well.
+   */
+  private void trackPartiallyApplied(Action action) throws IOException {
+    if (action instanceof CreateTopicsAction) {
+      Set<String> createdTopics = ((CreateTopicsAction) action).getCreatedTopics();
+      StateDelta delta = new StateDelta();
+      delta.getAdded().addTopics(createdTopics);
+      delta.applyTo(state);
+      backendController.journal(delta);
+      clusterSnapshot.topicsCreated(createdTopics);
+    } else if (action instanceof DeleteTopics) {
+      Set<String> deletedTopics = ((DeleteTopics) action).getDeletedTopics();
+      StateDelta delta = new StateDelta();
+      delta.getRemoved().addTopics(deletedTopics);
+      delta.applyTo(state);
+      backendController.journal(delta);
+      clusterSnapshot.topicsDeleted(deletedTopics);
+    } else if (action instanceof BaseAccessControlAction) {
+      List<TopologyAclBinding> appliedBindings =
+          ((BaseAccessControlAction) action).getAppliedBindings();
+      if (!appliedBindings.isEmpty()) {
+        StateDelta delta = new StateDelta();
         if (action instanceof ClearBindings) {
-          bindings =
-              new StreamUtils<>(bindings.stream())
-                  .filterAsSet(
-                      binding ->
-                          !((BaseAccessControlAction) action).getAclBindings().contains(binding));
+          delta.getRemoved().addBindings(appliedBindings);
+          clusterSnapshot.bindingsDeleted(appliedBindings);
         } else {
-          bindings.addAll(((BaseAccessControlAction) action).getAclBindings());
+          delta.getAdded().addBindings(appliedBindings);
+          clusterSnapshot.bindingsCreated(appliedBindings);
         }
+        delta.applyTo(state);
+        backendController.journal(delta);
       }
-      if (action instanceof BaseAccountsAction) {
-        if (action instanceof ClearAccounts) {
-          Collection<ServiceAccount> toDeletePrincipals = ((ClearAccounts) action).getPrincipals();
-          serviceAccounts =
-              new StreamUtils<>(serviceAccounts.stream())
-                  .filterAsSet(sa -> !toDeletePrincipals.contains(sa));
-        } else {
-          CreateAccounts createAction = (CreateAccounts) action;
-          serviceAccounts.addAll(createAction.getPrincipals());
-        }
+    }
+  }
+
+  private void track(Action action) throws IOException {
+    try (RunProfiler.Phase phase = profiler.start("audit")) {
+      auditor.log(action);
+    }
+    StateDelta delta = new StateDelta();
+    BackendState added = delta.getAdded();
+    BackendState removed = delta.getRemoved();
+    // TODO: a nicer and more clean version of this might be a cool thing to have, current version
+    // is shitty.
+    if (action instanceof CreateTopicAction) {
+      String topic = ((CreateTopicAction) action).getTopic();
+      added.addTopics(Collections.singleton(topic));
+      clusterSnapshot.topicsCreated(Collections.singleton(topic));
+    } else if (action instanceof UpdateTopicConfigsAction) {
+      clusterSnapshot.topicsUpdated(
+          ((UpdateTopicConfigsAction) action)
+              .getTopicConfigUpdatePlans().stream()
+                  .map(TopicConfigUpdatePlan::getFullTopicName)
+                  .collect(Collectors.toList()));
+    }
+    if (action instanceof BaseAccountsAction) {
+      if (action instanceof ClearAccounts) {
+        removed.addAccounts(((ClearAccounts) action).getPrincipals());
+      } else {
+        added.addAccounts(((CreateAccounts) action).getPrincipals());
       }
+    }
 
-      if (action instanceof CreateArtefactAction) {
-        Artefact artefact = ((CreateArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors.add((KafkaConnectArtefact) artefact);
-        } else if (artefact instanceof KsqlStreamArtefact) {
-          ksqlStreams.add((KsqlStreamArtefact) artefact);
-        } else if (artefact instanceof KsqlTableArtefact) {
-          ksqlTables.add((KsqlTableArtefact) artefact);
-        }
-      } else if (action instanceof SyncArtefactAction) {
-        Artefact artefact = ((SyncArtefactAction) action).getArtefact();
-        if (artefact instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(artefact));
-          connectors.add((KafkaConnectArtefact) artefact);
-        }
-      } else if (action instanceof DeleteArtefactAction) {
-        Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
-        if (toBeDeleted instanceof KafkaConnectArtefact) {
-          connectors =
-              new StreamUtils<>(connectors.stream())
-                  .filterAsSet(connector -> !connector.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlStreamArtefact) {
-          ksqlStreams =
-              new StreamUtils<>(ksqlStreams.stream())
-                  .filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        } else if (toBeDeleted instanceof KsqlTableArtefact) {
-          ksqlTables =
-              new StreamUtils<>(ksqlTables.stream()).filterAsSet(ksql -> !ksql.equals(toBeDeleted));
-        }
+    if (action instanceof CreateArtefactAction) {
+      Artefact artefact = ((CreateArtefactAction) action).getArtefact();
+      clusterSnapshot.artefactCreated(artefact);
+      addArtefact(added, artefact);
+    } else if (action instanceof SyncArtefactAction) {
+      Artefact artefact = ((SyncArtefactAction) action).getArtefact();
+      clusterSnapshot.artefactCreated(artefact);
+      if (artefact instanceof KafkaConnectArtefact) {
+        // replace the stored connector with the synced one
+        addArtefact(removed, artefact);
+        addArtefact(added, artefact);
       }
+    } else if (action instanceof DeleteArtefactAction) {
+      Artefact toBeDeleted = ((DeleteArtefactAction) action).getArtefact();
+      clusterSnapshot.artefactDeleted(toBeDeleted);
+      addArtefact(removed, toBeDeleted);
+    }
+
+    delta.applyTo(state);
+    backendController.journal(delta);
+  }
+
+  private void addArtefact(BackendState resources, Artefact artefact) {
+    if (artefact instanceof KafkaConnectArtefact) {
+      resources.addConnectors(Collections.singleton((KafkaConnectArtefact) artefact));
+    } else if (artefact instanceof KsqlStreamArtefact) {
+      resources.addKSqlStreams(Collections.singleton((KsqlStreamArtefact) artefact));
+    } else if (artefact instanceof KsqlTableArtefact) {
+      resources.addKSqlTables(Collections.singleton((KsqlTableArtefact) artefact));
     }
   }
 
   public Set<ServiceAccount> getServiceAccounts() {
-    return serviceAccounts;
+    return state.getAccounts();
   }
 
   public Set<TopologyAclBinding> getBindings() {
-    return bindings;
+    return state.getBindings();
   }
 
   public Set<String> getTopics() {
-    return topics;
+    return state.getTopics();
+  }
+
+  /**
+   * The fingerprint of each topic as it was successfully applied by the previous run.
+   *
+   * @return a map of topic name and fingerprint
+   */
+  public Map<String, String> getTopicFingerprints() {
+    return Collections.unmodifiableMap(previousTopicFingerprints);
+  }
+
+  /**
+   * The time of the last run that compared every topic with the cluster, instead of only the ones
+   * with a changed fingerprint.
+   *
+   * @return the time in milliseconds since the epoch, 0 if unknown
+   */
+  public long getLastTopicSweepMs() {
+    return lastTopicSweepMs;
+  }
+
+  /**
+   * Set the topic fingerprints stored in the backend once this plan is successfully executed.
+   *
+   * @param topicFingerprints a map of topic name and fingerprint for all the managed topics
+   * @param sweepTimeMs the time this run compared every topic with the cluster, or 0 if it only
+   *     compared the changed ones
+   */
+  public void updateTopicFingerprints(Map<String, String> topicFingerprints, long sweepTimeMs) {
+    this.topicFingerprints = topicFingerprints;
+    if (sweepTimeMs > 0) {
+      this.lastTopicSweepMs = sweepTimeMs;
+    }
+  }
+
+  /**
+   * The fingerprint of the last successful run, see {@link RunFingerprint}.
+   *
+   * @return the fingerprint, or null if unknown
+   */
+  public String getPreviousRunFingerprint() {
+    return previousRunFingerprint;
+  }
+
+  /**
+   * Set the fingerprint stored in the backend once this plan is successfully executed.
+   *
+   * @param runFingerprint the fingerprint of this run
+   */
+  void setRunFingerprint(RunFingerprint runFingerprint) {
+    this.runFingerprint = runFingerprint;
+  }
+
+  /**
+   * The remote cluster state for this run, shared by all the managers updating this plan.
+   *
+   * @return the cluster snapshot
+   */
+  public ClusterSnapshot getClusterSnapshot() {
+    return clusterSnapshot;
   }
 
   public List<Action> getActions() {
@@ -205,11 +413,11 @@ public class ExecutionPlan {
   }
 
   public Set<KafkaConnectArtefact> getConnectors() {
-    return connectors;
+    return state.getConnectors();
   }
 
   public Set<? extends KsqlArtefact> getKSqlArtefacts() {
-    return Stream.of(ksqlStreams, ksqlTables)
+    return Stream.of(state.getKSqlStreams(), state.getKSqlTables())
         .flatMap(Collection::stream)
         .collect(Collectors.toSet());
   }
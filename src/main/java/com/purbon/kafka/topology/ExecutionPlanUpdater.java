@@ -2,7 +2,6 @@ package com.purbon.kafka.topology;
 
 import com.purbon.kafka.topology.model.Topology;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.Collections;
 import java.util.Map;
 
@@ -13,6 +12,4 @@ public interface ExecutionPlanUpdater {
   }
 
   void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException;
-
-  void printCurrentState(PrintStream out) throws IOException;
 }
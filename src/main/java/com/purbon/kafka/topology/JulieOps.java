@@ -2,11 +2,13 @@ package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.JulieOpsAuxiliary.*;
 
+import com.purbon.kafka.topology.actions.Action;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClientBuilder;
 import com.purbon.kafka.topology.api.mds.MDSApiClientBuilder;
 import com.purbon.kafka.topology.audit.Auditor;
 import com.purbon.kafka.topology.exceptions.ValidationException;
+import com.purbon.kafka.topology.metrics.RemoteCallMetrics;
 import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import com.purbon.kafka.topology.serviceAccounts.VoidPrincipalProvider;
@@ -21,11 +23,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.LogManager;
@@ -44,19 +49,29 @@ public class JulieOps implements AutoCloseable {
   private KafkaConnectArtefactManager connectorManager;
   private KSqlArtefactManager kSqlArtefactManager;
   private final Map<String, Topology> topologies;
+  private final String topologyFileOrDir;
   private final Configuration config;
   private final PrintStream outputStream;
 
+  @Getter(AccessLevel.NONE)
+  private final PlanArtifact.Clients planClients;
+
+  private final RunProfiler profiler;
+
   private JulieOps(
       Map<String, Topology> topologies,
+      String topologyFileOrDir,
       Configuration config,
       TopicManager topicManager,
       AccessControlManager accessControlManager,
       PrincipalUpdateManager principalUpdateManager,
       PrincipalDeleteManager principalDeleteManager,
       KafkaConnectArtefactManager connectorManager,
-      KSqlArtefactManager kSqlArtefactManager) {
+      KSqlArtefactManager kSqlArtefactManager,
+      PlanArtifact.Clients planClients,
+      RunProfiler profiler) {
     this.topologies = topologies;
+    this.topologyFileOrDir = topologyFileOrDir;
     this.config = config;
     this.topicManager = topicManager;
     this.accessControlManager = accessControlManager;
@@ -64,6 +79,8 @@ public class JulieOps implements AutoCloseable {
     this.principalDeleteManager = principalDeleteManager;
     this.connectorManager = connectorManager;
     this.kSqlArtefactManager = kSqlArtefactManager;
+    this.planClients = planClients;
+    this.profiler = profiler;
     this.outputStream = System.out;
   }
 
@@ -122,22 +139,40 @@ public class JulieOps implements AutoCloseable {
       PrincipalProvider principalProvider)
       throws Exception {
 
-    Map<String, Topology> topologies;
-    if (plansFile.equals("default")) {
-      topologies = TopologyObjectBuilder.build(topologyFileOrDir, config);
-    } else {
-      topologies = TopologyObjectBuilder.build(topologyFileOrDir, plansFile, config);
+    RunProfiler profiler =
+        config.getProfileFile().isPresent() ? new RunProfiler() : RunProfiler.DISABLED;
+    if (config.isMetricsJmxEnabled()) {
+      RemoteCallMetrics.get().enableJmx();
     }
 
-    TopologyValidator validator = new TopologyValidator(config);
+    Map<String, Topology> topologies;
+    try {
+      try (RunProfiler.Phase phase = profiler.start("parse topology")) {
+        if (config.getApplyPlanFile().isPresent()) {
+          // the plan is already computed, the topology is not needed
+          topologies = Collections.emptyMap();
+        } else if (plansFile.equals("default")) {
+          topologies = TopologyObjectBuilder.build(topologyFileOrDir, config);
+        } else {
+          topologies = TopologyObjectBuilder.build(topologyFileOrDir, plansFile, config);
+        }
+      }
 
-    for (Topology topology : topologies.values()) {
-      List<String> validationResults = validator.validate(topology);
-      if (!validationResults.isEmpty()) {
-        String resultsMessage = String.join("\n", validationResults);
-        throw new ValidationException(resultsMessage);
+      try (RunProfiler.Phase phase = profiler.start("validate topology")) {
+        TopologyValidator validator = new TopologyValidator(config);
+        for (Topology topology : topologies.values()) {
+          List<String> validationResults = validator.validate(topology);
+          if (!validationResults.isEmpty()) {
+            String resultsMessage = String.join("\n", validationResults);
+            throw new ValidationException(resultsMessage);
+          }
+          config.validateWith(topology);
+        }
       }
-      config.validateWith(topology);
+    } catch (Exception e) {
+      // a run failing to parse or validate its topologies still reports the time spent on them
+      writeReports(config, profiler, System.out);
+      throw e;
     }
 
     AccessControlManager accessControlManager =
@@ -177,51 +212,182 @@ public class JulieOps implements AutoCloseable {
 
     return new JulieOps(
         topologies,
+        topologyFileOrDir,
         config,
         topicManager,
         accessControlManager,
         principalUpdateManager,
         principalDeleteManager,
         connectorManager,
-        kSqlArtefactManager);
+        kSqlArtefactManager,
+        new PlanArtifact.Clients(
+            adminClient,
+            accessControlProvider,
+            principalProvider,
+            schemaRegistryManager,
+            connectorManager),
+        profiler);
   }
 
   void run(BackendController backendController, PrintStream printStream, Auditor auditor)
       throws IOException {
-    ExecutionPlan plan = ExecutionPlan.init(backendController, printStream, auditor);
+    try {
+      run(backendController, printStream, auditor, profiler);
+    } finally {
+      writeReports(config, profiler, printStream);
+    }
+  }
+
+  /**
+   * Write the profile and the remote call metrics of the run, when requested. Failing to write them
+   * is logged, so it does not hide the outcome of the run.
+   */
+  private static void writeReports(
+      Configuration config, RunProfiler profiler, PrintStream printStream) {
+    if (config.getProfileFile().isPresent()) {
+      Path report = Paths.get(config.getProfileFile().get());
+      try {
+        profiler.writeReport(report);
+        profiler.printTable(printStream);
+        LOGGER.info(String.format("Profile of the run written to %s", report));
+      } catch (IOException e) {
+        LOGGER.error(String.format("Failed to write the profile of the run to %s", report), e);
+      }
+    }
+    if (config.getMetricsPrometheusFile().isPresent()) {
+      Path metrics = Paths.get(config.getMetricsPrometheusFile().get());
+      try {
+        RemoteCallMetrics.get().writePrometheus(metrics);
+        LOGGER.info(String.format("Remote call metrics written to %s", metrics));
+      } catch (IOException e) {
+        LOGGER.error(String.format("Failed to write the remote call metrics to %s", metrics), e);
+      }
+    }
+  }
+
+  private void run(
+      BackendController backendController,
+      PrintStream printStream,
+      Auditor auditor,
+      RunProfiler profiler)
+      throws IOException {
+    ExecutionPlan plan;
+    try (RunProfiler.Phase phase = profiler.start("backend load")) {
+      plan = ExecutionPlan.init(backendController, printStream, auditor);
+    }
+    plan.setOutputFormat(config.getPlanOutputFormat());
+    plan.setProfiler(profiler);
     LOGGER.debug(
         String.format(
             "Running topology builder with topicManager=[%s], accessControlManager=[%s], dryRun=[%s], isQuiet=[%s]",
             topicManager, accessControlManager, config.isDryRun(), config.isQuiet()));
 
+    if (config.getApplyPlanFile().isPresent()) {
+      applyPlan(plan, Paths.get(config.getApplyPlanFile().get()));
+      printCurrentState(plan, printStream);
+      return;
+    }
+
+    // a plan file is always written, so it can be applied even when nothing changed
+    if (config.isNoopFastPathEnabled() && config.getPlanOutFile().isEmpty()) {
+      RunFingerprint fingerprint =
+          new RunFingerprint(
+              RunFingerprint.local(topologies, config, topologyFileOrDir),
+              topicManager,
+              accessControlManager);
+      if (fingerprint.compute(plan.getClusterSnapshot()).equals(plan.getPreviousRunFingerprint())) {
+        LOGGER.info("No changes since the last successful run, nothing to do");
+        printStream.println("No changes detected since the last successful run");
+        return;
+      }
+      plan.setRunFingerprint(fingerprint);
+    }
+
     // Create users should always be first, so user exists when making acl link
-    for (Topology topology : topologies.values()) {
-      principalUpdateManager.updatePlan(topology, plan);
+    try (RunProfiler.Phase phase = profiler.start("updatePlan PrincipalUpdateManager")) {
+      for (Topology topology : topologies.values()) {
+        principalUpdateManager.updatePlan(topology, plan);
+      }
+    }
+    try (RunProfiler.Phase phase = profiler.start("updatePlan TopicManager")) {
+      topicManager.updatePlan(plan, topologies);
+    }
+    try (RunProfiler.Phase phase = profiler.start("updatePlan AccessControlManager")) {
+      accessControlManager.updatePlan(plan, topologies);
+    }
+    try (RunProfiler.Phase phase = profiler.start("updatePlan KafkaConnectArtefactManager")) {
+      connectorManager.updatePlan(plan, topologies);
+    }
+    try (RunProfiler.Phase phase = profiler.start("updatePlan KSqlArtefactManager")) {
+      kSqlArtefactManager.updatePlan(plan, topologies);
     }
-    topicManager.updatePlan(plan, topologies);
-    accessControlManager.updatePlan(plan, topologies);
-    connectorManager.updatePlan(plan, topologies);
-    kSqlArtefactManager.updatePlan(plan, topologies);
     // Delete users should always be last,
     // avoids any unlinked acls, e.g. if acl delete or something errors then there is a link still
     // from the account, and can be re-run or manually fixed more easily
-    for (Topology topology : topologies.values()) {
-      principalDeleteManager.updatePlan(topology, plan);
+    try (RunProfiler.Phase phase = profiler.start("updatePlan PrincipalDeleteManager")) {
+      for (Topology topology : topologies.values()) {
+        principalDeleteManager.updatePlan(topology, plan);
+      }
     }
 
-    plan.run(config.isDryRun());
+    if (config.isPlanOptimizerEnabled()) {
+      try (RunProfiler.Phase phase = profiler.start("optimize plan")) {
+        plan.optimize();
+      }
+    }
 
-    if (!config.isQuiet() && !config.isDryRun()) {
-      topicManager.printCurrentState(System.out);
-      accessControlManager.printCurrentState(System.out);
-      principalUpdateManager.printCurrentState(System.out);
-      connectorManager.printCurrentState(System.out);
-      kSqlArtefactManager.printCurrentState(System.out);
+    if (config.getPlanOutFile().isPresent()) {
+      Path planFile = Paths.get(config.getPlanOutFile().get());
+      PlanArtifact.write(
+          planFile, plan.getActions(), remoteStateFingerprint(plan.getActions(), plan));
+      LOGGER.info(String.format("Execution plan written to %s", planFile));
+      plan.run(true);
+      return;
+    }
+
+    plan.run(config.isDryRun(), config.getParallelism());
+
+    printCurrentState(plan, printStream);
+  }
+
+  private void applyPlan(ExecutionPlan plan, Path planFile) throws IOException {
+    PlanArtifact artifact = PlanArtifact.read(planFile);
+    List<Action> actions = artifact.actions(planClients);
+    if (!remoteStateFingerprint(actions, plan).equals(artifact.getRemoteStateFingerprint())) {
+      throw new IOException(
+          String.format(
+              "The cluster changed since the execution plan %s was computed, please compute a new plan",
+              planFile));
+    }
+    actions.forEach(plan::add);
+    plan.run(config.isDryRun(), config.getParallelism());
+  }
+
+  private String remoteStateFingerprint(List<Action> actions, ExecutionPlan plan)
+      throws IOException {
+    return PlanArtifact.remoteStateFingerprint(
+        actions, plan.getClusterSnapshot(), topicManager, accessControlManager, connectorManager);
+  }
+
+  /**
+   * Print a summary of the managed resources, taken from the state the run already holds instead of
+   * listing them again from the cluster.
+   */
+  private void printCurrentState(ExecutionPlan plan, PrintStream printStream) {
+    if (config.isQuiet() || config.isDryRun()) {
+      return;
     }
+    printStream.println("Managed resources:");
+    printStream.printf("  Topics: %d%n", plan.getTopics().size());
+    printStream.printf("  ACLs: %d%n", plan.getBindings().size());
+    printStream.printf("  Service accounts: %d%n", plan.getServiceAccounts().size());
+    printStream.printf("  Connectors: %d%n", plan.getConnectors().size());
+    printStream.printf("  ksqlDB artefacts: %d%n", plan.getKSqlArtefacts().size());
   }
 
   public void run() throws IOException {
     if (config.doValidate()) {
+      writeReports(config, profiler, outputStream);
       return;
     }
     run(buildBackendController(config), outputStream, configureAndBuildAuditor(config));
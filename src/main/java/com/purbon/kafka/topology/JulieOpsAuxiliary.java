@@ -23,7 +23,9 @@ public class JulieOpsAuxiliary {
     String backendClass = config.getStateProcessorImplementationClassName();
     var backend = (Backend) initializeClassFromString(backendClass, config);
     backend.configure(config);
-    return new BackendController(backend);
+    BackendController backendController = new BackendController(backend);
+    backendController.setJournalBatchSize(config.getJournalBatchSize());
+    return backendController;
   }
 
   public static Auditor configureAndBuildAuditor(Configuration config) throws IOException {
@@ -11,7 +11,6 @@ import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
 import com.purbon.kafka.topology.utils.Either;
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
@@ -74,6 +73,12 @@ public class KSqlArtefactManager extends ArtefactManager {
     return toDeleteArtefactsList;
   }
 
+  @Override
+  protected Collection<? extends Artefact> getClustersState(ClusterSnapshot snapshot)
+      throws IOException {
+    return snapshot.getKSqlArtefacts(this::getClustersState);
+  }
+
   @Override
   protected Collection<? extends Artefact> getClustersState() throws IOException {
     List<Either> list =
@@ -151,10 +156,4 @@ public class KSqlArtefactManager extends ArtefactManager {
         ? topologyFileOrDir
         : new File(topologyFileOrDir).getParent();
   }
-
-  @Override
-  public void printCurrentState(PrintStream out) throws IOException {
-    out.println("List of KSQL Artifacts:");
-    getClustersState().forEach(out::println);
-  }
 }
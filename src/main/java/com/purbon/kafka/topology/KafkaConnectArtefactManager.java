@@ -13,7 +13,6 @@ import com.purbon.kafka.topology.utils.JSON;
 import com.purbon.kafka.topology.utils.Utils;
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collection;
@@ -45,6 +44,12 @@ public class KafkaConnectArtefactManager extends ArtefactManager {
     super(clients, config, topologyFileOrDir);
   }
 
+  @Override
+  protected Collection<? extends Artefact> getClustersState(ClusterSnapshot snapshot)
+      throws IOException {
+    return snapshot.getConnectors(this::getClustersState);
+  }
+
   @Override
   protected Collection<? extends Artefact> getClustersState() throws IOException {
     List<Either> list =
@@ -130,10 +135,4 @@ public class KafkaConnectArtefactManager extends ArtefactManager {
         ? topologyFileOrDir
         : new File(topologyFileOrDir).getParent();
   }
-
-  @Override
-  public void printCurrentState(PrintStream out) throws IOException {
-    out.println("List of Connectors:");
-    getClustersState().forEach(out::println);
-  }
 }
@@ -0,0 +1,524 @@
+package com.purbon.kafka.topology;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.DeleteArtefactAction;
+import com.purbon.kafka.topology.actions.SyncArtefactAction;
+import com.purbon.kafka.topology.actions.access.ClearBindings;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction;
+import com.purbon.kafka.topology.api.adminclient.AclBuilder;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.SubjectNameStrategy;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.model.schema.Subject;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import com.purbon.kafka.topology.utils.Fingerprint;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourceType;
+
+/**
+ * An execution plan written to a file with {@code --planOut}, to be applied later with {@code
+ * --applyPlan} without parsing the topology or computing the plan again. The file is a JSON
+ * document with the format version, the fingerprint of the remote state the plan was computed from,
+ * and the data of each action. The actions are built again with the clients of the run applying the
+ * plan.
+ */
+class PlanArtifact {
+
+  static final int VERSION = 1;
+
+  private static final String CREATE_TOPICS = "CreateTopics";
+  private static final String UPDATE_TOPIC_CONFIGS = "UpdateTopicConfigs";
+  private static final String DELETE_TOPICS = "DeleteTopics";
+  private static final String REGISTER_SCHEMAS = "RegisterSchemas";
+  private static final String CREATE_BINDINGS = "CreateBindings";
+  private static final String CLEAR_BINDINGS = "ClearBindings";
+  private static final String CREATE_ACCOUNTS = "CreateAccounts";
+  private static final String CLEAR_ACCOUNTS = "ClearAccounts";
+  private static final String CREATE_CONNECTOR = "CreateConnector";
+  private static final String SYNC_CONNECTOR = "SyncConnector";
+  private static final String DELETE_CONNECTOR = "DeleteConnector";
+
+  /** The clients the actions of an applied plan run with. */
+  static class Clients {
+
+    private final TopologyBuilderAdminClient adminClient;
+    private final AccessControlProvider accessControlProvider;
+    private final PrincipalProvider principalProvider;
+    private final SchemaRegistryManager schemaRegistryManager;
+    private final KafkaConnectArtefactManager connectorManager;
+
+    Clients(
+        TopologyBuilderAdminClient adminClient,
+        AccessControlProvider accessControlProvider,
+        PrincipalProvider principalProvider,
+        SchemaRegistryManager schemaRegistryManager,
+        KafkaConnectArtefactManager connectorManager) {
+      this.adminClient = adminClient;
+      this.accessControlProvider = accessControlProvider;
+      this.principalProvider = principalProvider;
+      this.schemaRegistryManager = schemaRegistryManager;
+      this.connectorManager = connectorManager;
+    }
+  }
+
+  private final String remoteStateFingerprint;
+  private final JsonNode actions;
+
+  private PlanArtifact(String remoteStateFingerprint, JsonNode actions) {
+    this.remoteStateFingerprint = remoteStateFingerprint;
+    this.actions = actions;
+  }
+
+  String getRemoteStateFingerprint() {
+    return remoteStateFingerprint;
+  }
+
+  /**
+   * Write the actions of a plan to a file.
+   *
+   * @param file The file to write
+   * @param actions The actions of the plan
+   * @param remoteStateFingerprint The fingerprint of the remote state the plan was computed from
+   * @throws IOException if an action can not be written to a plan file, or the file can not be
+   *     written
+   */
+  static void write(Path file, List<Action> actions, String remoteStateFingerprint)
+      throws IOException {
+    List<Map<String, Object>> entries = new ArrayList<>(actions.size());
+    for (Action action : actions) {
+      entries.add(encode(action));
+    }
+    Map<String, Object> artifact = new LinkedHashMap<>();
+    artifact.put("version", VERSION);
+    artifact.put("remoteStateFingerprint", remoteStateFingerprint);
+    artifact.put("actions", entries);
+    Files.writeString(file, JSON.asString(artifact), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Read a plan file.
+   *
+   * @param file The file to read
+   * @return the plan artifact
+   * @throws IOException if the file can not be read, or was written by an incompatible version
+   */
+  static PlanArtifact read(Path file) throws IOException {
+    JsonNode root = JSON.toNode(Files.readString(file, StandardCharsets.UTF_8));
+    int version = root.path("version").asInt(-1);
+    if (version != VERSION) {
+      throw new IOException(
+          String.format(
+              "The plan file %s has version %d, only version %d is supported",
+              file, version, VERSION));
+    }
+    return new PlanArtifact(root.path("remoteStateFingerprint").asText(), root.path("actions"));
+  }
+
+  /**
+   * Build the actions of the plan again.
+   *
+   * @param clients The clients the actions run with
+   * @return the actions, in plan order
+   * @throws IOException if an action can not be built
+   */
+  List<Action> actions(Clients clients) throws IOException {
+    List<Action> result = new ArrayList<>(actions.size());
+    for (JsonNode entry : actions) {
+      result.add(decode(entry, clients));
+    }
+    return result;
+  }
+
+  /**
+   * Fingerprint of the parts of the remote state a plan depends on: the topics and ACLs in the
+   * cluster, the current config of the topics the plan updates and, when the plan changes
+   * connectors, the connectors in the cluster.
+   *
+   * @param actions The actions of the plan
+   * @param snapshot The cluster snapshot of the run
+   * @param topicManager The topic manager of the run
+   * @param accessControlManager The access control manager of the run
+   * @param connectorManager The connector manager of the run
+   * @return the fingerprint as an hex string
+   * @throws IOException if the remote state can not be listed
+   */
+  static String remoteStateFingerprint(
+      List<Action> actions,
+      ClusterSnapshot snapshot,
+      TopicManager topicManager,
+      AccessControlManager accessControlManager,
+      KafkaConnectArtefactManager connectorManager)
+      throws IOException {
+    Fingerprint fingerprint = Fingerprint.create().add(VERSION);
+    addAll(fingerprint, new TreeSet<>(topicManager.currentTopics(snapshot)));
+    addAll(
+        fingerprint,
+        accessControlManager.currentBindings(snapshot).stream()
+            .map(TopologyAclBinding::toString)
+            .collect(Collectors.toCollection(TreeSet::new)));
+
+    Set<String> updatedTopics = new TreeSet<>();
+    boolean changesConnectors = false;
+    for (Action action : actions) {
+      if (action instanceof UpdateTopicConfigsAction) {
+        ((UpdateTopicConfigsAction) action)
+            .getTopicConfigUpdatePlans()
+            .forEach(plan -> updatedTopics.add(plan.getFullTopicName()));
+      }
+      changesConnectors |= artefactOf(action) instanceof KafkaConnectArtefact;
+    }
+    Map<String, Config> configs = topicManager.currentTopicConfigs(snapshot, updatedTopics);
+    for (String topic : updatedTopics) {
+      Map<String, String> values = new TreeMap<>();
+      Config config = configs.get(topic);
+      if (config != null) {
+        for (ConfigEntry entry : config.entries()) {
+          values.put(entry.name(), entry.value());
+        }
+      }
+      fingerprint.add(topic).add(values);
+    }
+    if (changesConnectors) {
+      addAll(
+          fingerprint,
+          connectorManager.getClustersState(snapshot).stream()
+              .map(artefact -> artefact.getServerLabel() + "/" + artefact.getName())
+              .collect(Collectors.toCollection(TreeSet::new)));
+    }
+    return fingerprint.toHex();
+  }
+
+  private static void addAll(Fingerprint fingerprint, Collection<String> values) {
+    fingerprint.add(values.size());
+    values.forEach(fingerprint::add);
+  }
+
+  private static Artefact artefactOf(Action action) {
+    if (action instanceof CreateArtefactAction) {
+      return ((CreateArtefactAction) action).getArtefact();
+    } else if (action instanceof SyncArtefactAction) {
+      return ((SyncArtefactAction) action).getArtefact();
+    } else if (action instanceof DeleteArtefactAction) {
+      return ((DeleteArtefactAction) action).getArtefact();
+    }
+    return null;
+  }
+
+  private static Map<String, Object> encode(Action action) throws IOException {
+    Map<String, Object> entry = new LinkedHashMap<>();
+    if (action instanceof CreateTopicsAction) {
+      entry.put("type", CREATE_TOPICS);
+      entry.put("topics", encodeTopics(((CreateTopicsAction) action).getTopics()));
+    } else if (action instanceof UpdateTopicConfigsAction) {
+      List<Map<String, Object>> plans = new ArrayList<>();
+      for (TopicConfigUpdatePlan plan :
+          ((UpdateTopicConfigsAction) action).getTopicConfigUpdatePlans()) {
+        Map<String, Object> encoded = new LinkedHashMap<>();
+        encoded.put("topic", encodeTopic(plan.getFullTopicName(), plan.getTopic()));
+        encoded.put("updatePartitionCount", plan.isUpdatePartitionCount());
+        encoded.put("newConfigs", plan.getNewConfigValues());
+        encoded.put("updatedConfigs", plan.getUpdatedConfigValues());
+        encoded.put("deletedConfigs", plan.getDeletedConfigValues());
+        plans.add(encoded);
+      }
+      entry.put("type", UPDATE_TOPIC_CONFIGS);
+      entry.put("plans", plans);
+    } else if (action instanceof DeleteTopics) {
+      entry.put("type", DELETE_TOPICS);
+      entry.put("topics", ((DeleteTopics) action).getTopicsToBeDeleted());
+    } else if (action instanceof RegisterSchemaAction) {
+      entry.put("type", REGISTER_SCHEMAS);
+      entry.put("topics", encodeTopics(((RegisterSchemaAction) action).getTopicsByName()));
+    } else if (action instanceof CreateBindings) {
+      entry.put("type", CREATE_BINDINGS);
+      entry.put("bindings", encodeBindings(((CreateBindings) action).getAclBindings()));
+    } else if (action instanceof ClearBindings) {
+      entry.put("type", CLEAR_BINDINGS);
+      entry.put("bindings", encodeBindings(((ClearBindings) action).getAclBindings()));
+    } else if (action instanceof CreateAccounts) {
+      entry.put("type", CREATE_ACCOUNTS);
+      entry.put("accounts", ((CreateAccounts) action).getPrincipals());
+    } else if (action instanceof ClearAccounts) {
+      entry.put("type", CLEAR_ACCOUNTS);
+      entry.put("accounts", ((ClearAccounts) action).getPrincipals());
+    } else if (artefactOf(action) instanceof KafkaConnectArtefact) {
+      entry.put(
+          "type",
+          action instanceof CreateArtefactAction
+              ? CREATE_CONNECTOR
+              : action instanceof SyncArtefactAction ? SYNC_CONNECTOR : DELETE_CONNECTOR);
+      Artefact connector = artefactOf(action);
+      Map<String, Object> encoded = new LinkedHashMap<>();
+      encoded.put("path", connector.getPath());
+      encoded.put("server", connector.getServerLabel());
+      encoded.put("name", connector.getName());
+      encoded.put("hash", connector.getHash());
+      entry.put("connector", encoded);
+    } else {
+      throw new IOException(
+          String.format(
+              "The action %s can not be written to a plan file", action.getClass().getName()));
+    }
+    return entry;
+  }
+
+  private static List<Map<String, Object>> encodeTopics(Map<String, Topic> topics) {
+    return topics.entrySet().stream()
+        .map(entry -> encodeTopic(entry.getKey(), entry.getValue()))
+        .collect(Collectors.toList());
+  }
+
+  private static Map<String, Object> encodeTopic(String fullTopicName, Topic topic) {
+    Map<String, Object> encoded = new LinkedHashMap<>();
+    encoded.put("name", fullTopicName);
+    encoded.put("partitionCount", topic.getPartitionCount().orElse(null));
+    encoded.put("replicationFactor", topic.replicationFactor().orElse(null));
+    encoded.put("config", topic.getRawConfig());
+    if (!topic.getSchemas().isEmpty()) {
+      encoded.put("subjectNameStrategy", topic.getSubjectNameStrategy().name());
+      List<Map<String, Object>> schemas = new ArrayList<>();
+      for (TopicSchemas topicSchemas : topic.getSchemas()) {
+        Map<String, Object> encodedSchemas = new LinkedHashMap<>();
+        encodedSchemas.put("key", encodeSubject(topicSchemas.getKeySubject()));
+        encodedSchemas.put("value", encodeSubject(topicSchemas.getValueSubject()));
+        schemas.add(encodedSchemas);
+      }
+      encoded.put("schemas", schemas);
+    }
+    return encoded;
+  }
+
+  private static List<Map<String, Object>> encodeBindings(Collection<TopologyAclBinding> bindings)
+      throws IOException {
+    List<Map<String, Object>> encoded = new ArrayList<>(bindings.size());
+    for (TopologyAclBinding binding : bindings) {
+      Map<String, Object> encodedBinding = JSON.toMap(JSON.asString(binding));
+      // not in the binding json, without it no Kafka ACL is created when the plan is applied
+      binding
+          .asAclBinding()
+          .ifPresent(
+              aclBinding ->
+                  encodedBinding.put("permissionType", aclBinding.entry().permissionType().name()));
+      encoded.add(encodedBinding);
+    }
+    return encoded;
+  }
+
+  private static Map<String, Object> encodeSubject(Subject subject) {
+    Map<String, Object> encoded = new LinkedHashMap<>();
+    if (subject.hasSchemaFile()) {
+      try {
+        encoded.put("file", subject.getSchemaFile());
+      } catch (IOException e) {
+        // not reachable, the schema file is present
+        throw new IllegalStateException(e);
+      }
+      encoded.put("format", subject.getFormat());
+    }
+    subject.getRecordType().ifPresent(recordType -> encoded.put("recordType", recordType));
+    subject
+        .getOptionalCompatibility()
+        .ifPresent(compatibility -> encoded.put("compatibility", compatibility));
+    return encoded;
+  }
+
+  private static Action decode(JsonNode entry, Clients clients) throws IOException {
+    String type = entry.path("type").asText();
+    switch (type) {
+      case CREATE_TOPICS:
+        return new CreateTopicsAction(clients.adminClient, decodeTopics(entry.path("topics")));
+      case UPDATE_TOPIC_CONFIGS:
+        List<TopicConfigUpdatePlan> plans = new ArrayList<>();
+        for (JsonNode encoded : entry.path("plans")) {
+          TopicConfigUpdatePlan plan = new TopicConfigUpdatePlan(decodeTopic(encoded.get("topic")));
+          plan.setUpdatePartitionCount(encoded.path("updatePartitionCount").asBoolean());
+          encoded
+              .path("newConfigs")
+              .fields()
+              .forEachRemaining(
+                  field -> plan.addNewConfig(field.getKey(), field.getValue().asText()));
+          encoded
+              .path("updatedConfigs")
+              .fields()
+              .forEachRemaining(
+                  field -> plan.addConfigToUpdate(field.getKey(), field.getValue().asText()));
+          encoded
+              .path("deletedConfigs")
+              .fields()
+              .forEachRemaining(
+                  field -> plan.addConfigToDelete(field.getKey(), field.getValue().asText()));
+          plans.add(plan);
+        }
+        return new UpdateTopicConfigsAction(clients.adminClient, plans);
+      case DELETE_TOPICS:
+        List<String> topics = new ArrayList<>();
+        entry.path("topics").forEach(topic -> topics.add(topic.asText()));
+        return new DeleteTopics(clients.adminClient, topics);
+      case REGISTER_SCHEMAS:
+        return new RegisterSchemaAction(
+            clients.schemaRegistryManager, decodeTopics(entry.path("topics")));
+      case CREATE_BINDINGS:
+        return new CreateBindings(
+            clients.accessControlProvider, decodeBindings(entry.path("bindings")));
+      case CLEAR_BINDINGS:
+        return new ClearBindings(
+            clients.accessControlProvider, decodeBindings(entry.path("bindings")));
+      case CREATE_ACCOUNTS:
+        return new CreateAccounts(
+            clients.principalProvider, decodeAccounts(entry.path("accounts")));
+      case CLEAR_ACCOUNTS:
+        return new ClearAccounts(clients.principalProvider, decodeAccounts(entry.path("accounts")));
+      case CREATE_CONNECTOR:
+      case SYNC_CONNECTOR:
+      case DELETE_CONNECTOR:
+        JsonNode encoded = entry.path("connector");
+        KafkaConnectArtefact connector =
+            new KafkaConnectArtefact(
+                encoded.path("path").asText(null),
+                encoded.path("server").asText(null),
+                encoded.path("name").asText(null),
+                encoded.path("hash").asText(null));
+        ArtefactClient client = clients.connectorManager.selectClient(connector);
+        if (client == null) {
+          throw new IOException(
+              "The Artefact "
+                  + connector.getName()
+                  + " require a non configured client, please check our configuration");
+        }
+        String rootPath = clients.connectorManager.rootPath();
+        if (type.equals(CREATE_CONNECTOR)) {
+          return new CreateArtefactAction(client, rootPath, Collections.emptyList(), connector);
+        } else if (type.equals(SYNC_CONNECTOR)) {
+          return new SyncArtefactAction(client, rootPath, connector);
+        }
+        return new DeleteArtefactAction(client, connector);
+      default:
+        throw new IOException(String.format("Unknown action %s in the plan file", type));
+    }
+  }
+
+  private static Map<String, Topic> decodeTopics(JsonNode encoded) {
+    Map<String, Topic> topics = new HashMap<>();
+    for (JsonNode topic : encoded) {
+      topics.put(topic.path("name").asText(), decodeTopic(topic));
+    }
+    return topics;
+  }
+
+  private static Topic decodeTopic(JsonNode encoded) {
+    Map<String, String> config = new HashMap<>();
+    encoded
+        .path("config")
+        .fields()
+        .forEachRemaining(field -> config.put(field.getKey(), field.getValue().asText()));
+    // the name is the full topic name, see Topic#toString
+    Topic topic =
+        new Topic(
+            encoded.path("name").asText(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            Optional.empty(),
+            config,
+            new Configuration(),
+            "name");
+    if (encoded.hasNonNull("partitionCount")) {
+      topic.setPartitionCount(Optional.of(encoded.get("partitionCount").asInt()));
+    }
+    if (encoded.hasNonNull("replicationFactor")) {
+      topic.setReplicationFactor(Optional.of((short) encoded.get("replicationFactor").asInt()));
+    }
+    if (encoded.hasNonNull("subjectNameStrategy")) {
+      topic.setSubjectNameStrategy(
+          Optional.of(SubjectNameStrategy.valueOf(encoded.get("subjectNameStrategy").asText())));
+    }
+    List<TopicSchemas> schemas = new ArrayList<>();
+    for (JsonNode encodedSchemas : encoded.path("schemas")) {
+      JsonNode key = encodedSchemas.path("key");
+      JsonNode value = encodedSchemas.path("value");
+      schemas.add(
+          new TopicSchemas(
+              Optional.ofNullable(key.get("file")),
+              Optional.ofNullable(key.get("recordType")),
+              Optional.ofNullable(key.get("format")),
+              Optional.ofNullable(key.get("compatibility")),
+              Optional.ofNullable(value.get("file")),
+              Optional.ofNullable(value.get("recordType")),
+              Optional.ofNullable(value.get("format")),
+              Optional.ofNullable(value.get("compatibility"))));
+    }
+    topic.setSchemas(schemas);
+    return topic;
+  }
+
+  private static Set<TopologyAclBinding> decodeBindings(JsonNode encoded) throws IOException {
+    Set<TopologyAclBinding> bindings = new HashSet<>();
+    for (JsonNode binding : encoded) {
+      ObjectNode fields = binding.deepCopy();
+      JsonNode permissionType = fields.remove("permissionType");
+      TopologyAclBinding decoded =
+          (TopologyAclBinding) JSON.toObject(fields.toString(), TopologyAclBinding.class);
+      if (permissionType != null) {
+        decoded =
+            new TopologyAclBinding(
+                new AclBuilder(decoded.getPrincipal())
+                    .addResource(
+                        ResourceType.fromString(decoded.getResourceType()),
+                        decoded.getResourceName(),
+                        PatternType.fromString(decoded.getPattern()))
+                    .addControlEntry(
+                        decoded.getHost(),
+                        AclOperation.fromString(decoded.getOperation()),
+                        AclPermissionType.fromString(permissionType.asText()))
+                    .build());
+      }
+      bindings.add(decoded);
+    }
+    return bindings;
+  }
+
+  private static Set<ServiceAccount> decodeAccounts(JsonNode encoded) throws IOException {
+    Set<ServiceAccount> accounts = new HashSet<>();
+    for (JsonNode account : encoded) {
+      accounts.add((ServiceAccount) JSON.toObject(account.toString(), ServiceAccount.class));
+    }
+    return accounts;
+  }
+}
@@ -0,0 +1,103 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.ActionGraph.Kind;
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.MergeableAction;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimization pass run on the actions of an execution plan before they are executed:
+ *
+ * <ul>
+ *   <li>actions with nothing to do, like the schema registration of topics without schemas, are
+ *       removed.
+ *   <li>actions of the same type using the same client are merged into one, so their remote calls
+ *       are batched.
+ *   <li>actions are sorted by kind, in the same order the managers add them to the plan, but with
+ *       all deletions last, see {@link ActionGraph}.
+ * </ul>
+ *
+ * Actions of unknown type are not moved and nothing is merged or sorted across them.
+ */
+class PlanOptimizer {
+
+  private int removedActions;
+  private int mergedActions;
+
+  List<Action> optimize(List<Action> actions) {
+    removedActions = 0;
+    mergedActions = 0;
+    List<Action> optimized = new ArrayList<>(actions.size());
+    List<Action> segment = new ArrayList<>();
+    for (Action action : actions) {
+      if (ActionGraph.kindOf(action) == Kind.OTHER) {
+        optimized.addAll(optimizeSegment(segment));
+        optimized.add(action);
+        segment.clear();
+      } else {
+        segment.add(action);
+      }
+    }
+    optimized.addAll(optimizeSegment(segment));
+    return optimized;
+  }
+
+  private List<Action> optimizeSegment(List<Action> segment) {
+    List<Action> optimized = new ArrayList<>(segment.size());
+    // position in the optimized list of the first action of each group of mergeable actions
+    Map<Integer, List<MergeableAction>> groups = new LinkedHashMap<>();
+    Map<Class<?>, List<Integer>> groupsPerType = new HashMap<>();
+    for (Action action : segment) {
+      if (action instanceof MergeableAction) {
+        MergeableAction mergeable = (MergeableAction) action;
+        if (mergeable.isEmpty()) {
+          removedActions++;
+          continue;
+        }
+        List<Integer> candidates =
+            groupsPerType.computeIfAbsent(action.getClass(), type -> new ArrayList<>());
+        Integer group =
+            candidates.stream()
+                .filter(i -> ((MergeableAction) optimized.get(i)).canMergeWith(mergeable))
+                .findFirst()
+                .orElse(null);
+        if (group != null) {
+          groups.get(group).add(mergeable);
+          continue;
+        }
+        candidates.add(optimized.size());
+        groups.put(optimized.size(), new ArrayList<>());
+      }
+      optimized.add(action);
+    }
+    groups.forEach(
+        (i, others) -> {
+          if (!others.isEmpty()) {
+            optimized.set(i, ((MergeableAction) optimized.get(i)).mergeWith(others));
+            mergedActions += others.size();
+          }
+        });
+    // a stable sort, so actions of the same kind keep their relative order
+    optimized.sort(Comparator.comparing(ActionGraph::kindOf));
+    return optimized;
+  }
+
+  /**
+   * @return the number of actions removed by the last optimization because they had nothing to do
+   */
+  int getRemovedActions() {
+    return removedActions;
+  }
+
+  /**
+   * @return the number of actions merged into another one by the last optimization
+   */
+  int getMergedActions() {
+    return mergedActions;
+  }
+}
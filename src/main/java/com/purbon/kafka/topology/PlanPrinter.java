@@ -0,0 +1,107 @@
+package com.purbon.kafka.topology;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the actions of an execution plan as they are executed, in one of the {@link Format}s.
+ * Large plans, with hundreds of thousands of bindings, are better printed as JSON Lines or as a
+ * summary, as pretty printing each action builds its whole string representation first.
+ */
+public class PlanPrinter {
+
+  public enum Format {
+    /** each action as an indented JSON object, the default */
+    PRETTY,
+    /** each action as a compact JSON object in a single line, streamed to the output */
+    JSONL,
+    /** only the number of actions and resources per type of action, once the plan is executed */
+    SUMMARY
+  }
+
+  private final PrintStream out;
+  private final Format format;
+  private JsonGenerator generator;
+  private final Map<String, long[]> counts = new LinkedHashMap<>();
+
+  public PlanPrinter(PrintStream out, Format format) {
+    this.out = out;
+    this.format = format;
+  }
+
+  /**
+   * Print an action, or count it in the summary.
+   *
+   * @param action The action
+   * @throws IOException if the action can not be written
+   */
+  public synchronized void print(Action action) throws IOException {
+    switch (format) {
+      case JSONL:
+        printLine(action);
+        break;
+      case SUMMARY:
+        int resources = action instanceof BaseAction ? ((BaseAction) action).resourceCount() : 1;
+        long[] count =
+            counts.computeIfAbsent(action.getClass().getSimpleName(), type -> new long[2]);
+        count[0]++;
+        count[1] += resources;
+        break;
+      default:
+        if (!action.toString().isEmpty()) {
+          out.println(action);
+        }
+    }
+  }
+
+  private void printLine(Action action) throws IOException {
+    if (!(action instanceof BaseAction)) {
+      String value = action.toString();
+      if (!value.isEmpty()) {
+        out.println(JSON.asString(value));
+      }
+      return;
+    }
+    if (generator == null) {
+      // reused for all the actions, one JSON value per line
+      generator = JSON.createGenerator(out);
+      generator.setRootValueSeparator(null);
+    }
+    if (((BaseAction) action).writeTo(generator)) {
+      generator.writeRaw('\n');
+      generator.flush();
+    }
+  }
+
+  /**
+   * Complete the output once the plan is executed, printing the summary if requested.
+   *
+   * @throws IOException if the output can not be written
+   */
+  public synchronized void finish() throws IOException {
+    if (generator != null) {
+      generator.close();
+      generator = null;
+    }
+    if (format != Format.SUMMARY) {
+      return;
+    }
+    long actions = 0;
+    long resources = 0;
+    out.println("Execution plan summary:");
+    for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+      long[] count = entry.getValue();
+      out.printf("  %s: %d actions, %d resources%n", entry.getKey(), count[0], count[1]);
+      actions += count[0];
+      resources += count[1];
+    }
+    out.printf("  Total: %d actions, %d resources%n", actions, resources);
+    counts.clear();
+  }
+}
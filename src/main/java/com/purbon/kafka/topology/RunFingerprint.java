@@ -0,0 +1,171 @@
+package com.purbon.kafka.topology;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.Project;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.Subject;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.Fingerprint;
+import com.purbon.kafka.topology.utils.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
+
+/**
+ * Fingerprint of everything a run depends on: the resolved topologies, the files they reference,
+ * the configuration, and the remote state, the application topics with their config and partitions
+ * and the ACLs of the cluster. When it matches the fingerprint stored after the last successful
+ * run, the run can not change anything and is skipped. The remote state is still listed, through
+ * the cluster snapshot so the plan reuses it when the run is not skipped, only the planning and the
+ * execution are saved.
+ */
+class RunFingerprint {
+
+  private static final List<String> SYSTEM_PROPERTY_PREFIXES =
+      Arrays.asList(
+          "java.", "jdk.", "sun.", "os.", "user.", "file.", "line.", "path.", "awt.", "native.",
+          "stdout.", "stderr.");
+
+  private final String localFingerprint;
+  private final TopicManager topicManager;
+  private final AccessControlManager accessControlManager;
+
+  RunFingerprint(
+      String localFingerprint,
+      TopicManager topicManager,
+      AccessControlManager accessControlManager) {
+    this.localFingerprint = localFingerprint;
+    this.topicManager = topicManager;
+    this.accessControlManager = accessControlManager;
+  }
+
+  /**
+   * Compute the full fingerprint, using the remote state as currently known by the snapshot.
+   *
+   * @param snapshot The cluster snapshot of the run
+   * @return the fingerprint as an hex string
+   * @throws IOException if the remote state can not be listed
+   */
+  String compute(ClusterSnapshot snapshot) throws IOException {
+    Fingerprint fingerprint = Fingerprint.create().add(localFingerprint);
+
+    Set<String> topics = new TreeSet<>(topicManager.currentTopics(snapshot));
+    Map<String, Config> configs = topicManager.currentTopicConfigs(snapshot, topics);
+    Map<String, TopicDescription> descriptions =
+        topicManager.currentTopicDescriptions(snapshot, topics);
+    fingerprint.add(topics.size());
+    for (String topic : topics) {
+      Map<String, String> values = new TreeMap<>();
+      Config config = configs.get(topic);
+      if (config != null) {
+        config.entries().forEach(entry -> values.put(entry.name(), entry.value()));
+      }
+      TopicDescription description = descriptions.get(topic);
+      fingerprint
+          .add(topic)
+          .add(values)
+          .add(description == null ? -1 : description.partitions().size());
+    }
+
+    List<TopologyAclBinding> bindings =
+        new ArrayList<>(accessControlManager.currentBindings(snapshot));
+    Collections.sort(bindings);
+    fingerprint.add(bindings.size());
+    bindings.forEach(binding -> fingerprint.add(binding.toString()));
+    return fingerprint.toHex();
+  }
+
+  static String local(
+      Map<String, Topology> topologies, Configuration config, String topologyFileOrDir)
+      throws IOException {
+    Fingerprint fingerprint = Fingerprint.create();
+    fingerprint.add(String.valueOf(JulieOps.class.getPackage().getImplementationVersion()));
+
+    // the config values, including the brokers given in the command line, without the JVM
+    // system properties that are part of the loaded config as well.
+    Map<String, Object> relevantConfig = new TreeMap<>();
+    config
+        .asProperties()
+        .forEach(
+            (key, value) -> {
+              if (SYSTEM_PROPERTY_PREFIXES.stream().noneMatch(key.toString()::startsWith)) {
+                relevantConfig.put(key.toString(), value);
+              }
+            });
+    fingerprint.add(relevantConfig);
+
+    // fields only, so the resolved model is hashed as is, whatever its getters compute
+    ObjectMapper mapper =
+        JsonMapper.builder()
+            .addModule(new Jdk8Module())
+            .visibility(PropertyAccessor.ALL, Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, Visibility.ANY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .build();
+    String rootPath =
+        Files.isDirectory(Paths.get(topologyFileOrDir))
+            ? topologyFileOrDir
+            : new File(topologyFileOrDir).getParent();
+    TreeSet<String> referencedFiles = new TreeSet<>();
+    for (String name : new TreeSet<>(topologies.keySet())) {
+      Topology topology = topologies.get(name);
+      fingerprint.add(name).add(mapper.writeValueAsString(topology));
+      referencedFiles.addAll(referencedFiles(topology));
+    }
+    for (String file : referencedFiles) {
+      Path path = Utils.filePath(file, rootPath);
+      fingerprint.add(file).add(Files.exists(path) ? Utils.readFullFile(path) : "");
+    }
+    return fingerprint.toHex();
+  }
+
+  private static List<String> referencedFiles(Topology topology) throws IOException {
+    List<String> files = new ArrayList<>();
+    List<Topic> topics = new ArrayList<>(topology.getSpecialTopics());
+    for (Project project : topology.getProjects()) {
+      topics.addAll(project.getTopics());
+      Stream.of(
+              project.getConnectorArtefacts().getConnectors().stream(),
+              project.getKsqlArtefacts().getStreams().stream(),
+              project.getKsqlArtefacts().getTables().stream(),
+              Stream.of(project.getKsqlArtefacts().getVars()))
+          .flatMap(artefacts -> artefacts)
+          .map(artefact -> artefact == null ? null : ((Artefact) artefact).getPath())
+          .filter(path -> path != null && !path.isEmpty())
+          .forEach(files::add);
+    }
+    for (Topic topic : topics) {
+      for (TopicSchemas schemas : topic.getSchemas()) {
+        for (Subject subject : Arrays.asList(schemas.getKeySubject(), schemas.getValueSubject())) {
+          if (subject.hasSchemaFile()) {
+            files.add(subject.getSchemaFile());
+          }
+        }
+      }
+    }
+    return files;
+  }
+}
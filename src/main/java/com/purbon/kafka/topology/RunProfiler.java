@@ -0,0 +1,132 @@
+package com.purbon.kafka.topology;
+
+import com.purbon.kafka.topology.metrics.PhaseEvent;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the wall clock time and the memory allocated by each phase of a run, enabled with the
+ * --profile option. Phases can be nested, a remote listing is for example part of the plan update
+ * that requested it, so the time of a phase includes the time of the phases it contains. The
+ * allocation is measured on the thread running the phase, actions executed on the worker pool are
+ * measured on their own thread. While a flight recording runs, each phase is also emitted as a
+ * {@link PhaseEvent}, profiling enabled or not.
+ */
+public class RunProfiler {
+
+  /** A profiler recording nothing, used when profiling is not enabled. */
+  public static final RunProfiler DISABLED = new RunProfiler(false);
+
+  /** A running phase, recorded once closed. */
+  public interface Phase extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private static final Phase NOOP = () -> {};
+
+  private final boolean enabled;
+  private final ThreadMXBean threadMXBean;
+  private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+  public RunProfiler() {
+    this(true);
+  }
+
+  private RunProfiler(boolean enabled) {
+    this.enabled = enabled;
+    this.threadMXBean = enabled ? ManagementFactory.getThreadMXBean() : null;
+  }
+
+  /**
+   * Start a phase, the same phase can run many times, its count, time and allocation are added up.
+   *
+   * @param name The name of the phase
+   * @return the running phase, to be closed once completed
+   */
+  public Phase start(String name) {
+    PhaseEvent event = new PhaseEvent();
+    if (!enabled && !event.isEnabled()) {
+      return NOOP;
+    }
+    event.begin();
+    long startBytes = enabled ? allocatedBytes() : 0;
+    long startNanos = System.nanoTime();
+    return () -> {
+      if (enabled) {
+        record(name, System.nanoTime() - startNanos, allocatedBytes() - startBytes);
+      }
+      event.end();
+      if (event.shouldCommit()) {
+        event.setName(name);
+        event.commit();
+      }
+    };
+  }
+
+  private synchronized void record(String name, long nanos, long bytes) {
+    long[] phase = phases.computeIfAbsent(name, key -> new long[3]);
+    phase[0]++;
+    phase[1] += nanos;
+    phase[2] += Math.max(0, bytes);
+  }
+
+  private long allocatedBytes() {
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+
+  /**
+   * Write the recorded phases as a JSON report.
+   *
+   * @param file The file to write
+   * @throws IOException if the file can not be written
+   */
+  public synchronized void writeReport(Path file) throws IOException {
+    List<Map<String, Object>> entries = new ArrayList<>();
+    phases.forEach(
+        (name, phase) -> {
+          Map<String, Object> entry = new LinkedHashMap<>();
+          entry.put("phase", name);
+          entry.put("count", phase[0]);
+          entry.put("wallTimeMs", phase[1] / 1_000_000.0);
+          entry.put("allocatedBytes", phase[2]);
+          entries.add(entry);
+        });
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("phases", entries);
+    Files.writeString(file, JSON.asPrettyString(report), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Print the recorded phases as a table, in the order they first ran.
+   *
+   * @param out The stream to print to
+   */
+  public synchronized void printTable(PrintStream out) {
+    int width = phases.keySet().stream().mapToInt(String::length).max().orElse(5);
+    String format = "%-" + width + "s %8s %12s %14s%n";
+    out.printf(format, "Phase", "Count", "Time (ms)", "Allocated (MB)");
+    phases.forEach(
+        (name, phase) ->
+            out.printf(
+                format,
+                name,
+                phase[0],
+                String.format("%.1f", phase[1] / 1_000_000.0),
+                String.format("%.1f", phase[2] / (1024.0 * 1024.0))));
+  }
+}
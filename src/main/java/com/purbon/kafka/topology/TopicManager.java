@@ -1,28 +1,34 @@
 package com.purbon.kafka.topology;
 
-import com.purbon.kafka.topology.actions.Action;
-import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
 import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
-import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigAction;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction;
 import com.purbon.kafka.topology.actions.topics.builders.TopicConfigUpdatePlanBuilder;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.exceptions.RemoteValidationException;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.Subject;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import com.purbon.kafka.topology.utils.Fingerprint;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,8 +42,8 @@ public class TopicManager implements ExecutionPlanUpdater {
   private final SchemaRegistryManager schemaRegistryManager;
   private final TopologyBuilderAdminClient adminClient;
   private final Configuration config;
-  private List<String> internalTopicPrefixes;
-  private final List<String> managedPrefixes;
+  private PrefixMatcher internalTopicPrefixes;
+  private final PrefixMatcher managedPrefixes;
 
   public TopicManager(
       TopologyBuilderAdminClient adminClient, SchemaRegistryManager schemaRegistryManager) {
@@ -51,46 +57,98 @@ public class TopicManager implements ExecutionPlanUpdater {
     this.adminClient = adminClient;
     this.schemaRegistryManager = schemaRegistryManager;
     this.config = config;
-    this.internalTopicPrefixes = new ArrayList<>();
-    this.managedPrefixes = config.getTopicManagedPrefixes();
+    this.internalTopicPrefixes = PrefixMatcher.of(Collections.emptyList());
+    this.managedPrefixes = PrefixMatcher.of(config.getTopicManagedPrefixes());
   }
 
   @Override
   public void updatePlan(ExecutionPlan plan, Map<String, Topology> topologies) throws IOException {
 
-    internalTopicPrefixes = config.getKafkaInternalTopicPrefixes(topologies.values());
+    internalTopicPrefixes =
+        PrefixMatcher.of(config.getKafkaInternalTopicPrefixes(topologies.values()));
     Set<String> currentTopics = loadActualClusterStateIfAvailable(plan);
     Map<String, Topic> topics = new HashMap<>();
 
-    Set<Action> createTopicActions = new HashSet<>();
-    Set<Action> updateTopicConfigActions = new HashSet<>();
     for (Topology topology : topologies.values()) {
-      Map<String, Topic> entryTopics = parseMapOfTopics(topology);
-      entryTopics.forEach(
-          (topicName, topic) -> {
-            if (currentTopics.contains(topicName)) {
-              TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient);
-              TopicConfigUpdatePlan topicConfigUpdatePlan =
-                  builder.createTopicConfigUpdatePlan(topic, topicName);
-              if (topicConfigUpdatePlan.hasConfigChanges()) {
-                updateTopicConfigActions.add(
-                    new UpdateTopicConfigAction(adminClient, topicConfigUpdatePlan));
-              }
-            } else {
-              createTopicActions.add(new CreateTopicAction(adminClient, topic, topicName));
-            }
-            topics.put(topicName, topic);
-          });
+      topics.putAll(parseMapOfTopics(topology));
+    }
+
+    // Topics with the same fingerprint as in the last successful run are not compared with the
+    // cluster again, unless a full sweep is due.
+    Map<String, String> fingerprints = new HashMap<>();
+    for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+      fingerprints.put(entry.getKey(), fingerprint(entry.getValue()));
     }
+    long now = System.currentTimeMillis();
+    long sweepIntervalMs = config.getTopicFullSweepIntervalMs();
+    boolean fullSweep = sweepIntervalMs <= 0 || now - plan.getLastTopicSweepMs() >= sweepIntervalMs;
+    Map<String, String> previousFingerprints = plan.getTopicFingerprints();
+    Set<String> unchangedTopics =
+        fullSweep
+            ? Collections.emptySet()
+            : fingerprints.entrySet().stream()
+                .filter(entry -> currentTopics.contains(entry.getKey()))
+                .filter(entry -> entry.getValue().equals(previousFingerprints.get(entry.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    if (!unchangedTopics.isEmpty()) {
+      LOGGER.debug(
+          String.format(
+              "Skipping the comparison of %d unchanged topics with the cluster",
+              unchangedTopics.size()));
+    }
+    plan.updateTopicFingerprints(fingerprints, fullSweep ? now : 0);
 
-    createTopicActions.forEach(plan::add); // Do createActions before update actions
-    updateTopicConfigActions.forEach(plan::add);
+    // Fetch the remote config and partitions of all existing topics at once, instead of
+    // doing two round trips per topic while building the update plans.
+    ClusterSnapshot snapshot = plan.getClusterSnapshot();
+    List<String> existingTopics =
+        topics.keySet().stream()
+            .filter(currentTopics::contains)
+            .filter(topic -> !unchangedTopics.contains(topic))
+            .collect(Collectors.toList());
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    snapshot
+        .getTopicDescriptions(existingTopics, adminClient::getTopicDescriptions)
+        .forEach((name, description) -> partitionCounts.put(name, description.partitions().size()));
+    TopicConfigUpdatePlanBuilder builder = new TopicConfigUpdatePlanBuilder(adminClient);
+    builder.prefetch(
+        snapshot.getTopicConfigs(existingTopics, adminClient::getActualTopicConfigs),
+        partitionCounts);
 
+    Map<String, Topic> topicsToBeCreated = new HashMap<>();
+    List<TopicConfigUpdatePlan> topicConfigUpdatePlans = new ArrayList<>();
     topics.forEach(
         (topicName, topic) -> {
-          plan.add(new RegisterSchemaAction(schemaRegistryManager, topic, topicName));
+          if (unchangedTopics.contains(topicName)) {
+            return;
+          }
+          if (currentTopics.contains(topicName)) {
+            TopicConfigUpdatePlan topicConfigUpdatePlan =
+                builder.createTopicConfigUpdatePlan(topic, topicName);
+            if (topicConfigUpdatePlan.hasConfigChanges()) {
+              topicConfigUpdatePlans.add(topicConfigUpdatePlan);
+            }
+          } else {
+            topicsToBeCreated.put(topicName, topic);
+          }
         });
 
+    if (!topicsToBeCreated.isEmpty()) {
+      // Do create actions before update actions, all new topics are created in batches
+      plan.add(new CreateTopicsAction(adminClient, topicsToBeCreated));
+    }
+    if (!topicConfigUpdatePlans.isEmpty()) {
+      plan.add(new UpdateTopicConfigsAction(adminClient, topicConfigUpdatePlans));
+    }
+
+    // A single action registers the schemas of all the topics, so the plan lists one action
+    // whether it is optimized or not
+    RegisterSchemaAction registerSchemas = new RegisterSchemaAction(schemaRegistryManager, topics);
+    if (!registerSchemas.isEmpty()) {
+      plan.add(registerSchemas);
+    }
+
     if (config.isAllowDeleteTopics()) {
       // Handle topic delete: Topics in the initial list, but not present anymore after a
       // full topic sync should be deleted
@@ -106,6 +164,30 @@ public class TopicManager implements ExecutionPlanUpdater {
     }
   }
 
+  /**
+   * Hash of the resolved spec of a topic: name, partitions, replication factor, config and schemas.
+   */
+  private String fingerprint(Topic topic) throws IOException {
+    Fingerprint fingerprint =
+        Fingerprint.create()
+            .add(topic.toString())
+            .add(topic.partitionsCount())
+            .add(topic.replicationFactor().orElse((short) -1))
+            .add(topic.getRawConfig());
+    for (TopicSchemas schemas : topic.getSchemas()) {
+      for (Subject subject : Arrays.asList(schemas.getKeySubject(), schemas.getValueSubject())) {
+        if (subject.hasSchemaFile()) {
+          fingerprint
+              .add(subject.buildSubjectName(topic))
+              .add(subject.getSchemaFile())
+              .add(subject.getFormat())
+              .add(subject.getOptionalCompatibility().orElse(""));
+        }
+      }
+    }
+    return fingerprint.toHex();
+  }
+
   private Map<String, Topic> parseMapOfTopics(Topology topology) {
     Stream<Topic> topics =
         topology.getProjects().stream()
@@ -120,13 +202,13 @@ public class TopicManager implements ExecutionPlanUpdater {
   }
 
   private boolean isAnInternalTopics(String topic) {
-    return internalTopicPrefixes.stream().anyMatch(topic::startsWith);
+    return internalTopicPrefixes.matches(topic);
   }
 
   private Set<String> loadActualClusterStateIfAvailable(ExecutionPlan plan) throws IOException {
     Set<String> listOfTopics =
         config.fetchTopicStateFromTheCluster()
-            ? adminClient.listApplicationTopics()
+            ? plan.getClusterSnapshot().getTopics(adminClient::listApplicationTopics)
             : plan.getTopics();
 
     listOfTopics =
@@ -155,7 +237,8 @@ public class TopicManager implements ExecutionPlanUpdater {
       /* Assume topics are cleaned up by mechanisms outside JulieOps, and do not fail. */
       return;
     }
-    Set<String> remoteTopics = adminClient.listApplicationTopics();
+    Set<String> remoteTopics =
+        plan.getClusterSnapshot().getTopics(adminClient::listApplicationTopics);
     List<String> delta =
         plan.getTopics().stream()
             .filter(localTopic -> !remoteTopics.contains(localTopic))
@@ -176,16 +259,27 @@ public class TopicManager implements ExecutionPlanUpdater {
   }
 
   private boolean matchesPrefixList(String topic) {
-    boolean matches =
-        managedPrefixes.size() == 0 || managedPrefixes.stream().anyMatch(topic::startsWith);
-    LOGGER.debug(String.format("Topic %s matches %s with $s", topic, matches, managedPrefixes));
-    return matches;
+    return managedPrefixes.matchesOrEmpty(topic);
   }
 
-  @Override
-  public void printCurrentState(PrintStream os) throws IOException {
-    os.println("List of Topics:");
-    adminClient.listTopics().forEach(os::println);
+  /**
+   * List the application topics in the cluster, as known by the snapshot of the current run.
+   *
+   * @param snapshot The cluster snapshot of the current run
+   * @return the set of topic names
+   */
+  public Set<String> currentTopics(ClusterSnapshot snapshot) throws IOException {
+    return snapshot.getTopics(adminClient::listApplicationTopics);
+  }
+
+  public Map<String, Config> currentTopicConfigs(
+      ClusterSnapshot snapshot, Collection<String> topics) throws IOException {
+    return snapshot.getTopicConfigs(topics, adminClient::getActualTopicConfigs);
+  }
+
+  public Map<String, TopicDescription> currentTopicDescriptions(
+      ClusterSnapshot snapshot, Collection<String> topics) throws IOException {
+    return snapshot.getTopicDescriptions(topics, adminClient::getTopicDescriptions);
   }
 
   public void close() {
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.actions;
 
+import com.purbon.kafka.topology.exceptions.BindingsFailureException;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -8,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -18,6 +20,7 @@ public abstract class BaseAccessControlAction extends BaseAction {
   private static final Logger LOGGER = LogManager.getLogger(BaseAccessControlAction.class);
 
   protected Collection<TopologyAclBinding> aclBindings;
+  private final List<TopologyAclBinding> appliedBindings = new ArrayList<>();
 
   public BaseAccessControlAction(Collection<TopologyAclBinding> aclBindings) {
     this.aclBindings = aclBindings;
@@ -30,10 +33,28 @@ public abstract class BaseAccessControlAction extends BaseAction {
   @Override
   public void run() throws IOException {
     LOGGER.debug(String.format("Running Action %s", getClass()));
-    execute();
+    try {
+      execute();
+    } catch (BindingsFailureException ex) {
+      Set<TopologyAclBinding> failedBindings = ex.getFailedBindings();
+      aclBindings.stream().filter(b -> !failedBindings.contains(b)).forEach(appliedBindings::add);
+      throw ex;
+    }
+    appliedBindings.addAll(aclBindings);
     if (!getAclBindings().isEmpty()) logResults();
   }
 
+  /**
+   * The bindings applied by this action. If the action failed with a {@link
+   * BindingsFailureException} these are the bindings applied before the failure, with any other
+   * failure none are.
+   *
+   * @return the list of bindings applied
+   */
+  public List<TopologyAclBinding> getAppliedBindings() {
+    return new ArrayList<>(appliedBindings);
+  }
+
   private void logResults() {
     List<String> bindingsAsList =
         getAclBindings().stream()
@@ -49,6 +70,11 @@ public abstract class BaseAccessControlAction extends BaseAction {
     return new ArrayList<>(aclBindings);
   }
 
+  @Override
+  public int resourceCount() {
+    return aclBindings.size();
+  }
+
   @Override
   protected List<Map<String, Object>> detailedProps() {
     return aclBindings.stream()
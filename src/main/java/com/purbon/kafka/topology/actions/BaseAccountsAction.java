@@ -24,6 +24,11 @@ public abstract class BaseAccountsAction extends BaseAction {
     return accounts;
   }
 
+  @Override
+  public int resourceCount() {
+    return accounts.size();
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
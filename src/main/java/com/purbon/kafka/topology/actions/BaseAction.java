@@ -1,7 +1,9 @@
 package com.purbon.kafka.topology.actions;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,6 +28,29 @@ public abstract class BaseAction implements Action {
         .collect(Collectors.toList());
   }
 
+  /**
+   * @return the number of resources the action works on, one per audit entry
+   */
+  public int resourceCount() {
+    return detailedProps().size();
+  }
+
+  /**
+   * Write the action as a single JSON value, without building its string representation first.
+   *
+   * @param generator The generator to write to
+   * @return false if the action has nothing to print, so nothing was written
+   * @throws IOException if the value can not be written
+   */
+  public boolean writeTo(JsonGenerator generator) throws IOException {
+    final Map<String, Object> props = props();
+    if (props.isEmpty()) {
+      return false;
+    }
+    generator.writeObject(props);
+    return true;
+  }
+
   @Override
   public String toString() {
     try {
@@ -0,0 +1,30 @@
+package com.purbon.kafka.topology.actions;
+
+import java.util.List;
+
+/**
+ * An action working on a group of resources, that can be merged with other actions of the same type
+ * into a single one doing the work of all of them.
+ */
+public interface MergeableAction extends Action {
+
+  /**
+   * @return true if the action has no resource to work on
+   */
+  boolean isEmpty();
+
+  /**
+   * @param other Another action
+   * @return true if the other action is of the same type and uses the same client, so it can be
+   *     merged with this one
+   */
+  boolean canMergeWith(MergeableAction other);
+
+  /**
+   * Merge this action with other ones.
+   *
+   * @param others Actions that can all be merged with this one
+   * @return a new action doing the work of this action and of the other ones
+   */
+  MergeableAction mergeWith(List<MergeableAction> others);
+}
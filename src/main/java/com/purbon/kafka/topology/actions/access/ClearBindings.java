@@ -2,16 +2,19 @@ package com.purbon.kafka.topology.actions.access;
 
 import com.purbon.kafka.topology.AccessControlProvider;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class ClearBindings extends BaseAccessControlAction {
+public class ClearBindings extends BaseAccessControlAction implements MergeableAction {
 
   private static final Logger LOGGER = LogManager.getLogger(ClearBindings.class);
 
@@ -29,6 +32,24 @@ public class ClearBindings extends BaseAccessControlAction {
     controlProvider.clearBindings(new HashSet(aclBindings));
   }
 
+  @Override
+  public boolean isEmpty() {
+    return aclBindings.isEmpty();
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof ClearBindings
+        && ((ClearBindings) other).controlProvider == controlProvider;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    Set<TopologyAclBinding> merged = new HashSet<>(aclBindings);
+    others.forEach(other -> merged.addAll(((ClearBindings) other).aclBindings));
+    return new ClearBindings(controlProvider, merged);
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
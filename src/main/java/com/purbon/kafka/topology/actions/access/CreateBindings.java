@@ -2,16 +2,18 @@ package com.purbon.kafka.topology.actions.access;
 
 import com.purbon.kafka.topology.AccessControlProvider;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class CreateBindings extends BaseAccessControlAction {
+public class CreateBindings extends BaseAccessControlAction implements MergeableAction {
 
   private static final Logger LOGGER = LogManager.getLogger(CreateBindings.class);
 
@@ -28,6 +30,24 @@ public class CreateBindings extends BaseAccessControlAction {
     controlProvider.createBindings(new HashSet<>(aclBindings));
   }
 
+  @Override
+  public boolean isEmpty() {
+    return aclBindings.isEmpty();
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof CreateBindings
+        && ((CreateBindings) other).controlProvider == controlProvider;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    Set<TopologyAclBinding> merged = new HashSet<>(aclBindings);
+    others.forEach(other -> merged.addAll(((CreateBindings) other).aclBindings));
+    return new CreateBindings(controlProvider, merged);
+  }
+
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new HashMap<>();
@@ -0,0 +1,116 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Create a group of topics at once, using batched createTopics requests. */
+public class CreateTopicsAction extends BaseAction implements MergeableAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(CreateTopicsAction.class);
+
+  private final Map<String, Topic> topics;
+  private final Set<String> createdTopics;
+  private final TopologyBuilderAdminClient adminClient;
+
+  public CreateTopicsAction(TopologyBuilderAdminClient adminClient, Map<String, Topic> topics) {
+    this.topics = new TreeMap<>(topics);
+    this.createdTopics = new HashSet<>();
+    this.adminClient = adminClient;
+  }
+
+  public Map<String, Topic> getTopics() {
+    return topics;
+  }
+
+  @Override
+  public int resourceCount() {
+    return topics.size();
+  }
+
+  /**
+   * The topics created by this action, including the ones that already existed in the cluster.
+   *
+   * @return the set of full topic names created
+   */
+  public Set<String> getCreatedTopics() {
+    return createdTopics;
+  }
+
+  @Override
+  public void run() throws IOException {
+    LOGGER.debug(String.format("Create %d new topics", topics.size()));
+    Map<String, Throwable> errors = adminClient.createTopics(topics);
+    topics.keySet().stream()
+        .filter(topic -> !errors.containsKey(topic))
+        .forEach(createdTopics::add);
+
+    if (!errors.isEmpty()) {
+      errors.forEach(
+          (topic, error) ->
+              LOGGER.error(String.format("Failed to create topic %s: %s", topic, error)));
+      String failedTopics = String.join(",", new TreeMap<>(errors).keySet());
+      throw new IOException(
+          String.format(
+              "Failed to create %d out of %d topics: %s",
+              errors.size(), topics.size(), failedTopics));
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return topics.isEmpty();
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof CreateTopicsAction
+        && ((CreateTopicsAction) other).adminClient == adminClient;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    Map<String, Topic> merged = new TreeMap<>(topics);
+    others.forEach(other -> merged.putAll(((CreateTopicsAction) other).topics));
+    return new CreateTopicsAction(adminClient, merged);
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put("Topics", new ArrayList<>(topics.keySet()));
+    map.put("Action", "create");
+    return map;
+  }
+
+  @Override
+  protected List<Map<String, Object>> detailedProps() {
+    return topics.entrySet().stream()
+        .map(
+            entry -> {
+              Map<String, Object> map = new HashMap<>();
+              map.put(
+                  "resource_name",
+                  String.format("rn://create.topic/%s/%s", getClass().getName(), entry.getKey()));
+              map.put("operation", getClass().getName());
+              map.put("topic", entry.getKey());
+              map.put("config", entry.getValue().getConfig());
+              return map;
+            })
+        .collect(Collectors.toList());
+  }
+}
@@ -1,33 +1,63 @@
 package com.purbon.kafka.topology.actions.topics;
 
 import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.exceptions.TopicDeletionFailureException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class DeleteTopics extends BaseAction {
+public class DeleteTopics extends BaseAction implements MergeableAction {
 
   private static final Logger LOGGER = LogManager.getLogger(DeleteTopics.class);
 
   private final List<String> topicsToBeDeleted;
+  private final Set<String> deletedTopics;
   private final TopologyBuilderAdminClient adminClient;
 
   public DeleteTopics(TopologyBuilderAdminClient adminClient, List<String> topicsToBeDeleted) {
     this.topicsToBeDeleted = topicsToBeDeleted;
+    this.deletedTopics = new LinkedHashSet<>();
     this.adminClient = adminClient;
   }
 
   @Override
   public void run() throws IOException {
     LOGGER.debug("Delete topics: " + topicsToBeDeleted);
-    adminClient.deleteTopics(topicsToBeDeleted);
+    try {
+      adminClient.deleteTopicsInChunks(topicsToBeDeleted);
+      deletedTopics.addAll(topicsToBeDeleted);
+    } catch (TopicDeletionFailureException e) {
+      deletedTopics.addAll(e.getDeletedTopics());
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return topicsToBeDeleted.isEmpty();
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof DeleteTopics && ((DeleteTopics) other).adminClient == adminClient;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    Set<String> merged = new LinkedHashSet<>(topicsToBeDeleted);
+    others.forEach(other -> merged.addAll(((DeleteTopics) other).topicsToBeDeleted));
+    return new DeleteTopics(adminClient, new ArrayList<>(merged));
   }
 
   @Override
@@ -42,6 +72,21 @@ public class DeleteTopics extends BaseAction {
     return topicsToBeDeleted;
   }
 
+  /**
+   * The topics deleted by this action, all of them once it completed, or the ones deleted before it
+   * failed.
+   *
+   * @return the set of full topic names deleted
+   */
+  public Set<String> getDeletedTopics() {
+    return deletedTopics;
+  }
+
+  @Override
+  public int resourceCount() {
+    return topicsToBeDeleted.size();
+  }
+
   @Override
   protected List<Map<String, Object>> detailedProps() {
     return topicsToBeDeleted.stream()
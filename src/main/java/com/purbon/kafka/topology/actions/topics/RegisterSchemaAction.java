@@ -1,6 +1,7 @@
 package com.purbon.kafka.topology.actions.topics;
 
 import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.schema.Subject;
 import com.purbon.kafka.topology.model.schema.TopicSchemas;
@@ -9,31 +10,69 @@ import java.io.IOException;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class RegisterSchemaAction extends BaseAction {
+/** Register the schemas of one or more topics, in topic name order. */
+public class RegisterSchemaAction extends BaseAction implements MergeableAction {
 
   private static final Logger LOGGER = LogManager.getLogger(RegisterSchemaAction.class);
 
-  private final Topic topic;
-  private final String fullTopicName;
+  private final Map<String, Topic> topics;
   private final SchemaRegistryManager schemaRegistryManager;
 
   public RegisterSchemaAction(
       SchemaRegistryManager schemaRegistryManager, Topic topic, String fullTopicName) {
-    this.topic = topic;
-    this.fullTopicName = fullTopicName;
+    this(schemaRegistryManager, Collections.singletonMap(fullTopicName, topic));
+  }
+
+  public RegisterSchemaAction(
+      SchemaRegistryManager schemaRegistryManager, Map<String, Topic> topics) {
+    this.topics = new TreeMap<>(topics);
     this.schemaRegistryManager = schemaRegistryManager;
   }
 
-  public String getTopic() {
-    return fullTopicName;
+  public Set<String> getTopics() {
+    return topics.keySet();
+  }
+
+  /**
+   * @return the topics to register the schemas of, by full topic name
+   */
+  public Map<String, Topic> getTopicsByName() {
+    return Collections.unmodifiableMap(topics);
   }
 
   @Override
   public void run() throws IOException {
-    registerSchemas(topic, fullTopicName);
+    for (Map.Entry<String, Topic> entry : topics.entrySet()) {
+      registerSchemas(entry.getValue(), entry.getKey());
+    }
+  }
+
+  /**
+   * @return true if none of the topics has a schema file to register
+   */
+  @Override
+  public boolean isEmpty() {
+    return topics.values().stream()
+        .flatMap(topic -> topic.getSchemas().stream())
+        .flatMap(schemas -> Stream.of(schemas.getKeySubject(), schemas.getValueSubject()))
+        .noneMatch(Subject::hasSchemaFile);
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof RegisterSchemaAction
+        && ((RegisterSchemaAction) other).schemaRegistryManager == schemaRegistryManager;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    Map<String, Topic> merged = new TreeMap<>(topics);
+    others.forEach(other -> merged.putAll(((RegisterSchemaAction) other).topics));
+    return new RegisterSchemaAction(schemaRegistryManager, merged);
   }
 
   private void registerSchemas(Topic topic, String fullTopicName) throws IOException {
@@ -62,21 +101,38 @@ public class RegisterSchemaAction extends BaseAction {
   @Override
   protected Map<String, Object> props() {
     Map<String, Object> map = new LinkedHashMap<>();
-    Map<String, String> schemas = new LinkedHashMap<>();
-    for (TopicSchemas schema : topic.getSchemas()) {
-      addSubjectIfExists(schemas, schema.getKeySubject());
-      addSubjectIfExists(schemas, schema.getValueSubject());
-    }
-    if (!schemas.isEmpty()) {
+    Map<String, Map<String, String>> schemasPerTopic = new LinkedHashMap<>();
+    topics.forEach(
+        (fullTopicName, topic) -> {
+          Map<String, String> schemas = new LinkedHashMap<>();
+          for (TopicSchemas schema : topic.getSchemas()) {
+            addSubjectIfExists(schemas, schema.getKeySubject(), topic);
+            addSubjectIfExists(schemas, schema.getValueSubject(), topic);
+          }
+          if (!schemas.isEmpty()) {
+            schemasPerTopic.put(fullTopicName, schemas);
+          }
+        });
+    if (schemasPerTopic.size() == 1) {
+      Map.Entry<String, Map<String, String>> entry = schemasPerTopic.entrySet().iterator().next();
+      map.put("Operation", getClass().getName());
+      map.put("Topic", entry.getKey());
+      map.put("Schemas", entry.getValue());
+    } else if (!schemasPerTopic.isEmpty()) {
       map.put("Operation", getClass().getName());
-      map.put("Topic", fullTopicName);
-      map.put("Schemas", schemas);
+      map.put("Topics", schemasPerTopic);
     }
     return map;
   }
 
   @Override
   protected List<Map<String, Object>> detailedProps() {
+    return topics.entrySet().stream()
+        .flatMap(entry -> detailedProps(entry.getValue(), entry.getKey()).stream())
+        .collect(Collectors.toList());
+  }
+
+  private List<Map<String, Object>> detailedProps(Topic topic, String fullTopicName) {
     return topic.getSchemas().stream()
         .map(
             new Function<TopicSchemas, Map<String, Object>>() {
@@ -84,8 +140,8 @@ public class RegisterSchemaAction extends BaseAction {
               public Map<String, Object> apply(TopicSchemas topicSchemas) {
                 Map<String, Object> map = new LinkedHashMap<>();
                 Map<String, String> schema = new LinkedHashMap<>();
-                addSubjectIfExists(schema, topicSchemas.getKeySubject());
-                addSubjectIfExists(schema, topicSchemas.getValueSubject());
+                addSubjectIfExists(schema, topicSchemas.getKeySubject(), topic);
+                addSubjectIfExists(schema, topicSchemas.getValueSubject(), topic);
 
                 try {
                   map.put(
@@ -108,7 +164,7 @@ public class RegisterSchemaAction extends BaseAction {
         .collect(Collectors.toList());
   }
 
-  private void addSubjectIfExists(Map<String, String> schemas, Subject subject) {
+  private void addSubjectIfExists(Map<String, String> schemas, Subject subject, Topic topic) {
     if (subject.hasSchemaFile()) {
       try {
         schemas.put(subject.buildSubjectName(topic), subject.getSchemaFile());
@@ -0,0 +1,155 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigSource;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigType;
+import org.apache.kafka.common.config.TopicConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Compares the topic config requested in a topology with the config currently in the cluster.
+ * Values are normalized according to the type of each config key before being compared, so
+ * equivalent values such as "0.5" and "0.50" for a ratio, or a value equal to the effective broker
+ * default, do not produce an update. Integer values are only trimmed, the broker rejects values
+ * such as "1000.0" or "1e3" for them, so they are reported as changes.
+ */
+public class TopicConfigDiff {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopicConfigDiff.class);
+
+  private static final Map<String, ConfigType> TOPIC_CONFIG_TYPES = new HashMap<>();
+
+  static {
+    TOPIC_CONFIG_TYPES.put(TopicConfig.CLEANUP_POLICY_CONFIG, ConfigType.LIST);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.COMPRESSION_TYPE_CONFIG, ConfigType.STRING);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.DELETE_RETENTION_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.FILE_DELETE_DELAY_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.FLUSH_MESSAGES_INTERVAL_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.FLUSH_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put("follower.replication.throttled.replicas", ConfigType.LIST);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.INDEX_INTERVAL_BYTES_CONFIG, ConfigType.INT);
+    TOPIC_CONFIG_TYPES.put("leader.replication.throttled.replicas", ConfigType.LIST);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.LOCAL_LOG_RETENTION_BYTES_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.LOCAL_LOG_RETENTION_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MAX_COMPACTION_LAG_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MAX_MESSAGE_BYTES_CONFIG, ConfigType.INT);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MESSAGE_DOWNCONVERSION_ENABLE_CONFIG, ConfigType.BOOLEAN);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MESSAGE_FORMAT_VERSION_CONFIG, ConfigType.STRING);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MESSAGE_TIMESTAMP_DIFFERENCE_MAX_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MESSAGE_TIMESTAMP_TYPE_CONFIG, ConfigType.STRING);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG, ConfigType.DOUBLE);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, ConfigType.INT);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.PREALLOCATE_CONFIG, ConfigType.BOOLEAN);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.REMOTE_LOG_STORAGE_ENABLE_CONFIG, ConfigType.BOOLEAN);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.RETENTION_BYTES_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.RETENTION_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.SEGMENT_BYTES_CONFIG, ConfigType.INT);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.SEGMENT_INDEX_BYTES_CONFIG, ConfigType.INT);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.SEGMENT_JITTER_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.SEGMENT_MS_CONFIG, ConfigType.LONG);
+    TOPIC_CONFIG_TYPES.put(TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG, ConfigType.BOOLEAN);
+  }
+
+  private TopicConfigDiff() {}
+
+  /**
+   * Add to an update plan the configs that need to be created, updated or removed so the topic
+   * config in the cluster matches the requested one.
+   *
+   * @param plan The plan the changes are added to
+   * @param topicConfigs The topic config requested in the topology
+   * @param currentKafkaConfigs The topic config currently in the cluster
+   */
+  public static void diff(
+      TopicConfigUpdatePlan plan, Map<String, String> topicConfigs, Config currentKafkaConfigs) {
+    addNewOrUpdatedConfigs(plan, topicConfigs, currentKafkaConfigs);
+    addDeletedConfigs(plan, topicConfigs, currentKafkaConfigs);
+  }
+
+  static void addNewOrUpdatedConfigs(
+      TopicConfigUpdatePlan plan, Map<String, String> topicConfigs, Config currentKafkaConfigs) {
+    topicConfigs.forEach(
+        (configKey, configValue) -> {
+          ConfigEntry currentConfigEntry = currentKafkaConfigs.get(configKey);
+          if (currentConfigEntry == null) {
+            plan.addNewConfig(configKey, configValue);
+          } else if (!isSameValue(currentConfigEntry, configValue)) {
+            LOGGER.debug(
+                String.format(
+                    "Config %s of topic %s changed from %s to %s",
+                    configKey, plan.getFullTopicName(), currentConfigEntry.value(), configValue));
+            if (isDynamicTopicConfig(currentConfigEntry)) {
+              plan.addConfigToUpdate(configKey, configValue);
+            } else {
+              plan.addNewConfig(configKey, configValue);
+            }
+          }
+        });
+  }
+
+  static void addDeletedConfigs(
+      TopicConfigUpdatePlan plan, Map<String, String> topicConfigs, Config currentKafkaConfigs) {
+    currentKafkaConfigs
+        .entries()
+        .forEach(
+            entry -> {
+              if (isDynamicTopicConfig(entry) && !topicConfigs.containsKey(entry.name())) {
+                plan.addConfigToDelete(entry.name(), entry.value());
+              }
+            });
+  }
+
+  /**
+   * Check if a requested value is equivalent to the effective value of a config entry, whatever the
+   * source of this entry is.
+   */
+  public static boolean isSameValue(ConfigEntry currentConfigEntry, String value) {
+    ConfigType type = typeOf(currentConfigEntry);
+    String currentValue = normalize(type, currentConfigEntry.value());
+    return currentValue != null && currentValue.equals(normalize(type, value));
+  }
+
+  public static boolean isDynamicTopicConfig(ConfigEntry configEntry) {
+    return ConfigSource.DYNAMIC_TOPIC_CONFIG.equals(configEntry.source());
+  }
+
+  static ConfigType typeOf(ConfigEntry configEntry) {
+    if (configEntry.type() != null && configEntry.type() != ConfigType.UNKNOWN) {
+      return configEntry.type();
+    }
+    return TOPIC_CONFIG_TYPES.getOrDefault(configEntry.name(), ConfigType.STRING);
+  }
+
+  static String normalize(ConfigType type, String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    switch (type) {
+      case DOUBLE:
+        try {
+          return new BigDecimal(trimmed).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+          return trimmed;
+        }
+      case BOOLEAN:
+        return trimmed.toLowerCase(Locale.ROOT);
+      case LIST:
+        return Arrays.stream(trimmed.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.joining(","));
+      default:
+        return trimmed;
+    }
+  }
+}
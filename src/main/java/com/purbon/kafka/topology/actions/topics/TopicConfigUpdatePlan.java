@@ -3,16 +3,10 @@ package com.purbon.kafka.topology.actions.topics;
 import com.purbon.kafka.topology.model.Topic;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import org.apache.kafka.clients.admin.Config;
-import org.apache.kafka.clients.admin.ConfigEntry;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
 
 public class TopicConfigUpdatePlan {
 
-  private static final Logger LOGGER = LogManager.getLogger(TopicConfigUpdatePlan.class);
-
   private final Topic topic;
   private boolean updatePartitionCount;
   private Map<String, String> newConfigValues = new HashMap<>();
@@ -85,40 +79,10 @@ public class TopicConfigUpdatePlan {
 
   public void addNewOrUpdatedConfigs(
       HashMap<String, String> topicConfigs, Config currentKafkaConfigs) {
-    topicConfigs.forEach(
-        (configKey, configValue) -> {
-          ConfigEntry currentConfigEntry = currentKafkaConfigs.get(configKey);
-          LOGGER.debug(
-              String.format(
-                  "addNewOrUpdatedConfigs compare: currentConfigEntryValue = %s and configValue = %s",
-                  currentConfigEntry.value(), configValue));
-          if (!currentConfigEntry.value().equals(configValue)) {
-            LOGGER.debug(
-                String.format(
-                    "addNewOrUpdatedConfigs detected as different: currentConfigEntryValue = %s and configValue = %s",
-                    currentConfigEntry.value(), configValue));
-            if (isDynamicTopicConfig(currentConfigEntry)) {
-              addConfigToUpdate(configKey, configValue);
-            } else {
-              addNewConfig(configKey, configValue);
-            }
-          }
-        });
+    TopicConfigDiff.addNewOrUpdatedConfigs(this, topicConfigs, currentKafkaConfigs);
   }
 
   public void addDeletedConfigs(HashMap<String, String> topicConfigs, Config currentKafkaConfigs) {
-    Set<String> configKeys = topicConfigs.keySet();
-    currentKafkaConfigs
-        .entries()
-        .forEach(
-            entry -> {
-              if (isDynamicTopicConfig(entry) && !configKeys.contains(entry.name())) {
-                addConfigToDelete(entry.name(), entry.value());
-              }
-            });
-  }
-
-  private boolean isDynamicTopicConfig(ConfigEntry currentConfigEntry) {
-    return currentConfigEntry.source().equals(ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG);
+    TopicConfigDiff.addDeletedConfigs(this, topicConfigs, currentKafkaConfigs);
   }
 }
@@ -0,0 +1,160 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import com.purbon.kafka.topology.actions.BaseAction;
+import com.purbon.kafka.topology.actions.MergeableAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Update the config and partition count of a group of topics at once, using batched
+ * createPartitions and incrementalAlterConfigs requests.
+ */
+public class UpdateTopicConfigsAction extends BaseAction implements MergeableAction {
+
+  private static final Logger LOGGER = LogManager.getLogger(UpdateTopicConfigsAction.class);
+
+  private final List<TopicConfigUpdatePlan> topicConfigUpdatePlans;
+  private final TopologyBuilderAdminClient adminClient;
+
+  public UpdateTopicConfigsAction(
+      TopologyBuilderAdminClient adminClient,
+      Collection<TopicConfigUpdatePlan> topicConfigUpdatePlans) {
+    this.topicConfigUpdatePlans = new ArrayList<>(topicConfigUpdatePlans);
+    this.topicConfigUpdatePlans.sort(Comparator.comparing(TopicConfigUpdatePlan::getFullTopicName));
+    this.adminClient = adminClient;
+  }
+
+  public List<TopicConfigUpdatePlan> getTopicConfigUpdatePlans() {
+    return topicConfigUpdatePlans;
+  }
+
+  @Override
+  public void run() throws IOException {
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    List<TopicConfigUpdatePlan> configUpdatePlans = new ArrayList<>();
+    for (TopicConfigUpdatePlan plan : topicConfigUpdatePlans) {
+      if (plan.isUpdatePartitionCount()) {
+        partitionCounts.put(plan.getFullTopicName(), plan.getTopicPartitionCount());
+      }
+      if (plan.hasNewConfigs() || plan.hasUpdatedConfigs() || plan.hasDeletedConfigs()) {
+        configUpdatePlans.add(plan);
+      }
+    }
+
+    Collection<String> failedTopics = new TreeSet<>();
+    if (!partitionCounts.isEmpty()) {
+      LOGGER.debug(String.format("Update partition count of %d topics", partitionCounts.size()));
+      adminClient
+          .updatePartitionCounts(partitionCounts)
+          .forEach(
+              (topic, error) -> {
+                LOGGER.error(
+                    String.format(
+                        "Failed to update partition count of topic %s: %s", topic, error));
+                failedTopics.add(topic);
+              });
+    }
+
+    if (!configUpdatePlans.isEmpty()) {
+      LOGGER.debug(String.format("Update config of %d topics", configUpdatePlans.size()));
+      Map<ConfigResource, Throwable> errors = adminClient.updateTopicConfigs(configUpdatePlans);
+      errors.forEach(
+          (resource, error) -> {
+            LOGGER.error(
+                String.format("Failed to update config of topic %s: %s", resource.name(), error));
+            failedTopics.add(resource.name());
+          });
+    }
+
+    if (!failedTopics.isEmpty()) {
+      throw new IOException(
+          String.format(
+              "Failed to update %d out of %d topics: %s",
+              failedTopics.size(), topicConfigUpdatePlans.size(), String.join(",", failedTopics)));
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return topicConfigUpdatePlans.isEmpty();
+  }
+
+  @Override
+  public boolean canMergeWith(MergeableAction other) {
+    return other instanceof UpdateTopicConfigsAction
+        && ((UpdateTopicConfigsAction) other).adminClient == adminClient;
+  }
+
+  @Override
+  public MergeableAction mergeWith(List<MergeableAction> others) {
+    List<TopicConfigUpdatePlan> merged = new ArrayList<>(topicConfigUpdatePlans);
+    others.forEach(
+        other -> merged.addAll(((UpdateTopicConfigsAction) other).topicConfigUpdatePlans));
+    return new UpdateTopicConfigsAction(adminClient, merged);
+  }
+
+  @Override
+  protected Map<String, Object> props() {
+    Map<String, Object> changes = new LinkedHashMap<>();
+    topicConfigUpdatePlans.forEach(plan -> changes.put(plan.getFullTopicName(), changes(plan)));
+
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("Operation", getClass().getName());
+    map.put(
+        "Topics",
+        topicConfigUpdatePlans.stream()
+            .map(TopicConfigUpdatePlan::getFullTopicName)
+            .collect(Collectors.toList()));
+    map.put("Action", "update");
+    map.put("Changes", changes);
+    return map;
+  }
+
+  @Override
+  protected List<Map<String, Object>> detailedProps() {
+    return topicConfigUpdatePlans.stream()
+        .map(
+            plan -> {
+              Map<String, Object> map = new HashMap<>();
+              map.put("operation", getClass().getName());
+              map.put("topic", plan.getFullTopicName());
+              map.put("changes", changes(plan));
+              map.put(
+                  "resource_name",
+                  String.format(
+                      "rn://update.topic.config/%s/%s",
+                      getClass().getName(), plan.getTopic().getName()));
+              return map;
+            })
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, Object> changes(TopicConfigUpdatePlan plan) {
+    Map<String, Object> changes = new LinkedHashMap<>();
+    if (plan.hasNewConfigs()) {
+      changes.put("NewConfigs", plan.getNewConfigValues());
+    }
+    if (plan.hasUpdatedConfigs()) {
+      changes.put("UpdatedConfigs", plan.getUpdatedConfigValues());
+    }
+    if (plan.hasDeletedConfigs()) {
+      changes.put("DeletedConfigs", plan.getDeletedConfigValues());
+    }
+    if (plan.isUpdatePartitionCount()) {
+      changes.put("UpdatedPartitionCount", plan.getTopicPartitionCount());
+    }
+    return changes;
+  }
+}
@@ -1,39 +1,77 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
+import com.purbon.kafka.topology.actions.topics.TopicConfigDiff;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Topic;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Map;
 import org.apache.kafka.clients.admin.Config;
 
 public class TopicConfigUpdatePlanBuilder {
 
   private TopologyBuilderAdminClient adminClient;
+  private final Map<String, Config> topicConfigs;
+  private final Map<String, Integer> partitionCounts;
 
   public TopicConfigUpdatePlanBuilder(TopologyBuilderAdminClient adminClient) {
     this.adminClient = adminClient;
+    this.topicConfigs = new HashMap<>();
+    this.partitionCounts = new HashMap<>();
+  }
+
+  /**
+   * Fetch in bulk the current config and partition count of a list of topics, so update plans for
+   * these topics are computed without any further remote request.
+   *
+   * @param topics The list of topics that are going to be compared
+   * @throws IOException if the bulk describe requests fail
+   */
+  public void prefetch(Collection<String> topics) throws IOException {
+    if (topics.isEmpty()) {
+      return;
+    }
+    prefetch(adminClient.getActualTopicConfigs(topics), adminClient.getPartitionCounts(topics));
+  }
+
+  /**
+   * Use an already known config and partition count for a list of topics, so update plans for these
+   * topics are computed without any further remote request.
+   *
+   * @param topicConfigs A map of topic name and current topic config
+   * @param partitionCounts A map of topic name and current partition count
+   */
+  public void prefetch(Map<String, Config> topicConfigs, Map<String, Integer> partitionCounts) {
+    this.topicConfigs.putAll(topicConfigs);
+    this.partitionCounts.putAll(partitionCounts);
   }
 
   public TopicConfigUpdatePlan createTopicConfigUpdatePlan(Topic topic, String fullTopicName) {
 
-    Config currentKafkaConfigs = adminClient.getActualTopicConfig(fullTopicName);
+    Config currentKafkaConfigs = topicConfigs.get(fullTopicName);
+    if (currentKafkaConfigs == null) {
+      currentKafkaConfigs = adminClient.getActualTopicConfig(fullTopicName);
+    }
 
     TopicConfigUpdatePlan topicConfigUpdatePlan = new TopicConfigUpdatePlan(topic);
 
     try {
-      if (topic.partitionsCount() > adminClient.getPartitionCount(fullTopicName)) {
+      if (topic.partitionsCount() > currentPartitionCount(fullTopicName)) {
         topicConfigUpdatePlan.setUpdatePartitionCount(true);
       }
     } catch (IOException e) {
       throw new RuntimeException("Failed to get partition count for topic " + fullTopicName, e);
     }
 
-    HashMap<String, String> topicConfigs = topic.getRawConfig();
-
-    topicConfigUpdatePlan.addNewOrUpdatedConfigs(topicConfigs, currentKafkaConfigs);
-    topicConfigUpdatePlan.addDeletedConfigs(topicConfigs, currentKafkaConfigs);
+    TopicConfigDiff.diff(topicConfigUpdatePlan, topic.getRawConfig(), currentKafkaConfigs);
 
     return topicConfigUpdatePlan;
   }
+
+  private int currentPartitionCount(String fullTopicName) throws IOException {
+    Integer partitionCount = partitionCounts.get(fullTopicName);
+    return partitionCount != null ? partitionCount : adminClient.getPartitionCount(fullTopicName);
+  }
 }
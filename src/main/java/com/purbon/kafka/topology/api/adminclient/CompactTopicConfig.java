@@ -0,0 +1,106 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import com.google.common.collect.Iterators;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigSource;
+
+/**
+ * Topic {@link Config} that only keeps in memory the entries that differ from the cluster defaults.
+ * Default entries are the same for every topic in a cluster, so they are kept once in a shared map
+ * and looked up from there. On large clusters this keeps the cached topic configs down to the
+ * overrides of each topic.
+ */
+public class CompactTopicConfig extends Config {
+
+  private final Map<String, ConfigEntry> defaults;
+  // a view of the overrides and of the defaults that are not overridden, without copying them
+  private final Collection<ConfigEntry> entries =
+      new AbstractCollection<>() {
+        @Override
+        public Iterator<ConfigEntry> iterator() {
+          return Iterators.concat(
+              overrides().iterator(),
+              Iterators.filter(
+                  defaults.values().iterator(), entry -> override(entry.name()) == null));
+        }
+
+        @Override
+        public int size() {
+          return Iterators.size(iterator());
+        }
+      };
+
+  private CompactTopicConfig(Collection<ConfigEntry> overrides, Map<String, ConfigEntry> defaults) {
+    super(overrides);
+    this.defaults = defaults;
+  }
+
+  /**
+   * Build a compact copy of a topic config.
+   *
+   * @param config The topic config as returned by the cluster
+   * @param defaults The default entries shared by all the topics of the same cluster, it is filled
+   *     with the defaults of this config that are not known yet
+   * @return The compact config
+   */
+  public static Config of(Config config, Map<String, ConfigEntry> defaults) {
+    List<ConfigEntry> overrides = new ArrayList<>();
+    for (ConfigEntry entry : config.entries()) {
+      if (entry.source() == ConfigSource.DEFAULT_CONFIG
+          && entry.equals(defaults.computeIfAbsent(entry.name(), name -> entry))) {
+        continue;
+      }
+      overrides.add(entry);
+    }
+    return new CompactTopicConfig(overrides, defaults);
+  }
+
+  @Override
+  public ConfigEntry get(String name) {
+    ConfigEntry entry = super.get(name);
+    return entry != null ? entry : defaults.get(name);
+  }
+
+  @Override
+  public Collection<ConfigEntry> entries() {
+    return entries;
+  }
+
+  private Collection<ConfigEntry> overrides() {
+    return super.entries();
+  }
+
+  private ConfigEntry override(String name) {
+    return super.get(name);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Config)) {
+      return false;
+    }
+    return new HashSet<>(entries()).equals(new HashSet<>(((Config) o).entries()));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(new HashSet<>(entries()));
+  }
+
+  @Override
+  public String toString() {
+    return "Config(entries=" + entries() + ")";
+  }
+}
@@ -0,0 +1,116 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Paces the requests that create, delete or add partitions to topics, which count against the
+ * controller mutation quota of the cluster. The limiter follows an additive increase,
+ * multiplicative decrease (AIMD) scheme: every request rejected with a {@link
+ * org.apache.kafka.common.errors.ThrottlingQuotaExceededException} halves the number of topics per
+ * request and the number of requests in flight, and pauses all the mutations for the throttle time
+ * returned by the broker. The requests in flight when the limits are decreased were sent under the
+ * previous limits, their rejections only extend the pause, so the limits are halved once per
+ * throttle window and not once per request. Every successful request grows them back again, in
+ * small steps, up to julie.admin.request.batch.size and julie.admin.request.max.in.flight. The
+ * throughput settles just under the quota instead of failing the run.
+ */
+public class MutationRateLimiter {
+
+  private static final Logger LOGGER = LogManager.getLogger(MutationRateLimiter.class);
+
+  /** The number of times a throttled item is sent before its throttling is reported as failure. */
+  public static final int MAX_THROTTLED_ATTEMPTS = 10;
+
+  private final int maxBatchSize;
+  private final int maxInFlight;
+  private final int batchSizeStep;
+
+  private int batchSize;
+  private int inFlight;
+  private int successesSinceIncrease;
+  private long pausedUntilMs;
+  private long decreases;
+
+  public MutationRateLimiter(int maxBatchSize, int maxInFlight) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxInFlight = Math.max(1, maxInFlight);
+    this.batchSizeStep = Math.max(1, this.maxBatchSize / 10);
+    this.batchSize = this.maxBatchSize;
+    this.inFlight = this.maxInFlight;
+  }
+
+  /**
+   * @return the number of topics to send in the next request
+   */
+  public synchronized int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @return the number of requests that can be in flight at the same time
+   */
+  public synchronized int getMaxInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * @return the time to wait before sending the next request, in milliseconds
+   */
+  public synchronized long getPauseMs() {
+    return Math.max(0, pausedUntilMs - currentTimeMillis());
+  }
+
+  /**
+   * @return the version of the limits, to pass to {@link #onThrottled(long, long)} for the requests
+   *     sent with them
+   */
+  public synchronized long getVersion() {
+    return decreases;
+  }
+
+  /** Grow the batch size, and once every window of successful requests the in flight window. */
+  public synchronized void onSuccess() {
+    batchSize = Math.min(maxBatchSize, batchSize + batchSizeStep);
+    if (++successesSinceIncrease >= inFlight) {
+      inFlight = Math.min(maxInFlight, inFlight + 1);
+      successesSinceIncrease = 0;
+    }
+  }
+
+  /**
+   * Halve the batch size and the in flight window, and pause the mutations, for a request sent with
+   * the current limits.
+   *
+   * @param throttleTimeMs The throttle time returned by the broker
+   */
+  public synchronized void onThrottled(long throttleTimeMs) {
+    onThrottled(throttleTimeMs, decreases);
+  }
+
+  /**
+   * Pause the mutations, and halve the batch size and the in flight window unless they were already
+   * decreased after the request was sent.
+   *
+   * @param throttleTimeMs The throttle time returned by the broker
+   * @param version The version of the limits the request was sent with, see {@link #getVersion()}
+   */
+  public synchronized void onThrottled(long throttleTimeMs, long version) {
+    pausedUntilMs = Math.max(pausedUntilMs, currentTimeMillis() + throttleTimeMs);
+    if (version < decreases) {
+      return;
+    }
+    decreases++;
+    batchSize = Math.max(1, batchSize / 2);
+    inFlight = Math.max(1, inFlight / 2);
+    successesSinceIncrease = 0;
+    LOGGER.info(
+        String.format(
+            "Topic mutations throttled by the cluster for %d ms, sending %d topics per request with %d requests in flight",
+            throttleTimeMs, batchSize, inFlight));
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
@@ -0,0 +1,180 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import com.purbon.kafka.topology.exceptions.TopicDeletionFailureException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Deletes topics in chunks instead of a single deleteTopics request, so a large cleanup does not
+ * flood the controller. After each chunk the executor waits until the deleted topics are gone from
+ * the cluster metadata before sending the next one, and topics rejected with a {@link
+ * ThrottlingQuotaExceededException} are retried once the requested throttle time has passed. The
+ * size of the chunks shrinks while the cluster throttles the deletions, see {@link
+ * MutationRateLimiter}.
+ */
+public class TopicDeletionExecutor {
+
+  private static final Logger LOGGER = LogManager.getLogger(TopicDeletionExecutor.class);
+
+  private final TopologyBuilderAdminClient adminClient;
+  private final int batchSize;
+  private final long settleTimeoutMs;
+  private final long settlePollMs;
+  private final MutationRateLimiter rateLimiter;
+
+  public TopicDeletionExecutor(
+      TopologyBuilderAdminClient adminClient,
+      int batchSize,
+      long settleTimeoutMs,
+      long settlePollMs) {
+    this(
+        adminClient,
+        batchSize,
+        settleTimeoutMs,
+        settlePollMs,
+        new MutationRateLimiter(batchSize, 1));
+  }
+
+  public TopicDeletionExecutor(
+      TopologyBuilderAdminClient adminClient,
+      int batchSize,
+      long settleTimeoutMs,
+      long settlePollMs,
+      MutationRateLimiter rateLimiter) {
+    this.adminClient = adminClient;
+    this.batchSize = Math.max(1, batchSize);
+    this.settleTimeoutMs = settleTimeoutMs;
+    this.settlePollMs = Math.max(1, settlePollMs);
+    this.rateLimiter = rateLimiter;
+  }
+
+  /**
+   * Delete the topics, chunk after chunk.
+   *
+   * @param topics The topics to delete
+   * @throws TopicDeletionFailureException if any of the topics could not be deleted, with the
+   *     topics deleted before the failure
+   */
+  public void delete(Collection<String> topics) throws IOException {
+    Map<String, Throwable> failures = new HashMap<>();
+    Set<String> deleted = new LinkedHashSet<>();
+    List<String> pending = new ArrayList<>(topics);
+    int next = 0;
+    try {
+      while (next < pending.size()) {
+        // the chunks shrink while the deletions are throttled, and grow back once they are not
+        int size = Math.min(batchSize, rateLimiter.getBatchSize());
+        List<String> chunk = pending.subList(next, Math.min(pending.size(), next + size));
+        next += chunk.size();
+        Map<String, Throwable> errors = deleteChunk(chunk);
+        failures.putAll(errors);
+        List<String> deletedTopics =
+            chunk.stream().filter(topic -> !errors.containsKey(topic)).collect(Collectors.toList());
+        deleted.addAll(deletedTopics);
+        awaitMetadata(deletedTopics);
+        LOGGER.info(String.format("Deleted %d of %d topics", deleted.size(), topics.size()));
+      }
+    } catch (IOException e) {
+      throw new TopicDeletionFailureException(
+          String.format(
+              "Failed to delete topics, %d out of %d deleted", deleted.size(), topics.size()),
+          deleted,
+          e);
+    }
+
+    if (!failures.isEmpty()) {
+      failures.forEach((topic, error) -> LOGGER.error("Failed to delete topic " + topic, error));
+      throw new TopicDeletionFailureException(
+          String.format(
+              "Failed to delete %d out of %d topics: %s",
+              failures.size(),
+              topics.size(),
+              failures.keySet().stream().sorted().collect(Collectors.joining(","))),
+          deleted);
+    }
+  }
+
+  private Map<String, Throwable> deleteChunk(List<String> chunk) throws IOException {
+    Map<String, Throwable> errors = new HashMap<>();
+    List<String> pending = chunk;
+    for (int attempt = 1; !pending.isEmpty(); attempt++) {
+      Map<String, Throwable> results = request(pending);
+      List<String> throttled = new ArrayList<>();
+      long throttleTimeMs = 0;
+      for (Map.Entry<String, Throwable> entry : results.entrySet()) {
+        Throwable error = entry.getValue();
+        if (error instanceof UnknownTopicOrPartitionException) {
+          continue;
+        }
+        if (error instanceof ThrottlingQuotaExceededException
+            && attempt < MutationRateLimiter.MAX_THROTTLED_ATTEMPTS) {
+          throttled.add(entry.getKey());
+          throttleTimeMs =
+              Math.max(throttleTimeMs, ((ThrottlingQuotaExceededException) error).throttleTimeMs());
+        } else {
+          errors.put(entry.getKey(), error);
+        }
+      }
+      if (!throttled.isEmpty()) {
+        LOGGER.info(
+            String.format(
+                "Deletion of %d topics throttled by the cluster, retrying in %d ms",
+                throttled.size(), throttleTimeMs));
+        rateLimiter.onThrottled(throttleTimeMs);
+        sleep(throttleTimeMs);
+      } else {
+        rateLimiter.onSuccess();
+      }
+      pending = throttled;
+    }
+    return errors;
+  }
+
+  private Map<String, Throwable> request(List<String> topics) throws IOException {
+    try {
+      return adminClient.deleteTopicsPerTopicAsync(topics).join();
+    } catch (CompletionException e) {
+      throw new IOException(e.getCause());
+    }
+  }
+
+  private void awaitMetadata(List<String> topics) throws IOException {
+    if (topics.isEmpty() || settleTimeoutMs <= 0) {
+      return;
+    }
+    long deadline = System.currentTimeMillis() + settleTimeoutMs;
+    Set<String> remaining = adminClient.existingTopics(topics);
+    while (!remaining.isEmpty()) {
+      if (System.currentTimeMillis() >= deadline) {
+        LOGGER.warn(
+            String.format(
+                "Metadata for %d deleted topics did not settle within %d ms: %s",
+                remaining.size(), settleTimeoutMs, remaining));
+        return;
+      }
+      sleep(settlePollMs);
+      remaining = adminClient.existingTopics(remaining);
+    }
+  }
+
+  protected void sleep(long millis) throws IOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+  }
+}
@@ -1,27 +1,48 @@
 package com.purbon.kafka.topology.api.adminclient;
 
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.metrics.RemoteCall;
+import com.purbon.kafka.topology.metrics.RemoteCallMetrics;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.Utils;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigOp.OpType;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreatePartitionsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.DeleteAclsResult.FilterResult;
+import org.apache.kafka.clients.admin.DeleteTopicsOptions;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -30,38 +51,72 @@ import org.apache.kafka.common.acl.AclPermissionType;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.ConfigResource.Type;
 import org.apache.kafka.common.errors.InvalidConfigurationException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePatternFilter;
 import org.apache.kafka.common.resource.ResourceType;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Wrapper around the Kafka {@link AdminClient} used by JulieOps. Every operation is available as an
+ * asynchronous method returning a {@link CompletableFuture}, the blocking methods wait for these.
+ * At most julie.admin.request.max.in.flight requests are pending at any time, and each of them is
+ * failed after julie.admin.request.timeout.ms.
+ */
 public class TopologyBuilderAdminClient {
 
   private static final Logger LOGGER = LogManager.getLogger(TopologyBuilderAdminClient.class);
 
+  private static final String CLIENT = "kafka-admin";
+  private static final String ENDPOINT = "kafka";
+
   private final AdminClient adminClient;
+  private final int batchSize;
+  private final int maxInFlightRequests;
+  private final Deque<Runnable> queuedRequests = new ArrayDeque<>();
+  private int inFlightRequests;
+  private final long requestTimeoutMs;
+  private final MutationRateLimiter mutationRateLimiter;
+  private final TopicDeletionExecutor topicDeletionExecutor;
+  private final Map<String, ConfigEntry> defaultTopicConfigs = new ConcurrentHashMap<>();
+  private final RemoteCallMetrics metrics = RemoteCallMetrics.get();
 
   public TopologyBuilderAdminClient(AdminClient adminClient) {
+    this(adminClient, new Configuration());
+  }
+
+  public TopologyBuilderAdminClient(AdminClient adminClient, Configuration config) {
     this.adminClient = adminClient;
+    this.batchSize = Math.max(1, config.getAdminRequestBatchSize());
+    this.maxInFlightRequests = Math.max(1, config.getAdminRequestMaxInFlight());
+    this.requestTimeoutMs = config.getAdminRequestTimeoutMs();
+    this.mutationRateLimiter =
+        new MutationRateLimiter(batchSize, Math.max(1, config.getAdminRequestMaxInFlight()));
+    this.topicDeletionExecutor =
+        new TopicDeletionExecutor(
+            this,
+            config.getTopicDeletionBatchSize(),
+            config.getTopicDeletionSettleTimeoutMs(),
+            config.getTopicDeletionSettlePollMs(),
+            mutationRateLimiter);
+  }
+
+  public CompletableFuture<Set<String>> listTopicsAsync(ListTopicsOptions options) {
+    return submit("listTopics", () -> adminClient.listTopics(options).names());
   }
 
   public Set<String> listTopics(ListTopicsOptions options) throws IOException {
-    Set<String> listOfTopics;
-    try {
-      listOfTopics = adminClient.listTopics(options).names().get();
-    } catch (InterruptedException | ExecutionException e) {
-      LOGGER.error(e);
-      throw new IOException(e);
-    }
-    return listOfTopics;
+    return await(listTopicsAsync(options));
   }
 
   public void healthCheck() throws IOException {
 
-    try {
+    try (RemoteCall call = metrics.start(CLIENT, ENDPOINT, "describeCluster")) {
       adminClient.describeCluster().nodes().get();
+      call.success();
     } catch (Exception ex) {
       throw new IOException("Problem during the health-check operation", ex);
     }
@@ -78,6 +133,54 @@ public class TopologyBuilderAdminClient {
   }
 
   public void updateTopicConfig(TopicConfigUpdatePlan configUpdatePlan) {
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+    configs.put(
+        new ConfigResource(Type.TOPIC, configUpdatePlan.getFullTopicName()),
+        configChanges(configUpdatePlan));
+
+    try {
+      await(
+          submit(
+              "incrementalAlterConfigs", () -> adminClient.incrementalAlterConfigs(configs).all()));
+    } catch (IOException ex) {
+      LOGGER.error("Failed to update configs for topic " + configUpdatePlan.getFullTopicName(), ex);
+      throw unchecked(ex);
+    }
+  }
+
+  /**
+   * Apply the config changes of a list of update plans, merged into chunked incrementalAlterConfigs
+   * requests. The result of each topic is handled independently.
+   *
+   * @param configUpdatePlans The list of update plans with config changes
+   * @return A map of config resource and failure cause, for each topic that could not be updated
+   * @throws IOException if the requests could not be completed
+   */
+  public Map<ConfigResource, Throwable> updateTopicConfigs(
+      Collection<TopicConfigUpdatePlan> configUpdatePlans) throws IOException {
+    return await(updateTopicConfigsAsync(configUpdatePlans));
+  }
+
+  public CompletableFuture<Map<ConfigResource, Throwable>> updateTopicConfigsAsync(
+      Collection<TopicConfigUpdatePlan> configUpdatePlans) {
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
+    configUpdatePlans.forEach(
+        plan ->
+            configs.put(
+                new ConfigResource(Type.TOPIC, plan.getFullTopicName()), configChanges(plan)));
+
+    return submitInChunksPerResource(
+        "incrementalAlterConfigs",
+        configs.entrySet(),
+        chunk ->
+            adminClient
+                .incrementalAlterConfigs(
+                    chunk.stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                .values());
+  }
+
+  private Set<AlterConfigOp> configChanges(TopicConfigUpdatePlan configUpdatePlan) {
     Set<AlterConfigOp> configChanges = new HashSet<>();
 
     configUpdatePlan
@@ -100,37 +203,85 @@ public class TopologyBuilderAdminClient {
             (configKey, configValue) ->
                 configChanges.add(
                     new AlterConfigOp(new ConfigEntry(configKey, configValue), OpType.DELETE)));
-    Map<ConfigResource, Collection<AlterConfigOp>> configs = new HashMap<>();
-    configs.put(new ConfigResource(Type.TOPIC, configUpdatePlan.getFullTopicName()), configChanges);
-
-    try {
-      adminClient.incrementalAlterConfigs(configs).all().get();
-    } catch (InterruptedException | ExecutionException ex) {
-      LOGGER.error("Failed to update configs for topic " + configUpdatePlan.getFullTopicName(), ex);
-      throw new RuntimeException(ex);
-    }
+    return configChanges;
   }
 
   public int getPartitionCount(String topic) throws IOException {
-    try {
-      Map<String, TopicDescription> results =
-          adminClient.describeTopics(Collections.singletonList(topic)).allTopicNames().get();
-      return results.get(topic).partitions().size();
-    } catch (InterruptedException | ExecutionException e) {
-      LOGGER.error(e);
-      throw new IOException(e);
-    }
+    Map<String, TopicDescription> results =
+        await(describeTopicsAsync(Collections.singletonList(topic)));
+    return results.get(topic).partitions().size();
+  }
+
+  public Map<String, TopicDescription> getTopicDescriptions(Collection<String> topics)
+      throws IOException {
+    return await(describeTopicsAsync(topics));
+  }
+
+  /**
+   * Describe a list of topics, in chunks of julie.admin.request.batch.size topics per request.
+   *
+   * @param topics The list of topics to describe
+   * @return A future with a map of topic name and description
+   */
+  public CompletableFuture<Map<String, TopicDescription>> describeTopicsAsync(
+      Collection<String> topics) {
+    return submitInChunks(
+            "describeTopics", topics, chunk -> adminClient.describeTopics(chunk).allTopicNames())
+        .thenApply(
+            results -> {
+              Map<String, TopicDescription> descriptions = new HashMap<>();
+              results.forEach(descriptions::putAll);
+              return descriptions;
+            });
+  }
+
+  /**
+   * Fetch the partition count for a list of topics, the topics are described in chunks of
+   * julie.admin.request.batch.size, with at most julie.admin.request.max.in.flight requests in
+   * flight.
+   *
+   * @param topics The list of topics to describe
+   * @return A map of topic name and current partition count
+   * @throws IOException if any of the describe requests fail
+   */
+  public Map<String, Integer> getPartitionCounts(Collection<String> topics) throws IOException {
+    Map<String, Integer> partitionCounts = new HashMap<>();
+    await(describeTopicsAsync(topics))
+        .forEach((name, description) -> partitionCounts.put(name, description.partitions().size()));
+    return partitionCounts;
   }
 
   public void updatePartitionCount(Topic topic, String topicName) throws IOException {
     Map<String, NewPartitions> map = new HashMap<>();
     map.put(topicName, NewPartitions.increaseTo(topic.partitionsCount()));
-    try {
-      adminClient.createPartitions(map).all().get();
-    } catch (InterruptedException | ExecutionException e) {
-      LOGGER.error(e);
-      throw new IOException(e);
-    }
+    await(submit("createPartitions", () -> adminClient.createPartitions(map).all()));
+  }
+
+  /**
+   * Increase the partition count of a list of topics, using chunked createPartitions requests paced
+   * by the {@link MutationRateLimiter}. The result of each topic is handled independently.
+   *
+   * @param partitionCounts A map of full topic name and new total partition count
+   * @return A map of full topic name and failure cause, for each topic that could not be updated
+   * @throws IOException if the requests could not be completed
+   */
+  public Map<String, Throwable> updatePartitionCounts(Map<String, Integer> partitionCounts)
+      throws IOException {
+    CreatePartitionsOptions options = new CreatePartitionsOptions().retryOnQuotaViolation(false);
+    return mutate(
+        "createPartitions",
+        partitionCounts.entrySet(),
+        Map.Entry::getKey,
+        chunk ->
+            adminClient
+                .createPartitions(
+                    chunk.stream()
+                        .collect(
+                            Collectors.toMap(
+                                Map.Entry::getKey,
+                                entry -> NewPartitions.increaseTo(entry.getValue()))),
+                    options)
+                .values());
   }
 
   public void clearAcls() throws IOException {
@@ -140,9 +291,17 @@ public class TopologyBuilderAdminClient {
   }
 
   public void clearAcls(TopologyAclBinding aclBinding) throws IOException {
-    Collection<AclBindingFilter> filters = new ArrayList<>();
-
     LOGGER.debug("clearAcl = " + aclBinding);
+    clearAcls(Collections.singletonList(filterOf(aclBinding)));
+  }
+
+  /**
+   * The filter matching exactly a binding, whatever its permission type.
+   *
+   * @param aclBinding The binding
+   * @return the filter
+   */
+  public static AclBindingFilter filterOf(TopologyAclBinding aclBinding) {
     ResourcePatternFilter resourceFilter =
         new ResourcePatternFilter(
             ResourceType.valueOf(aclBinding.getResourceType()),
@@ -156,48 +315,105 @@ public class TopologyBuilderAdminClient {
             AclOperation.valueOf(aclBinding.getOperation()),
             AclPermissionType.ANY);
 
-    AclBindingFilter filter = new AclBindingFilter(resourceFilter, accessControlEntryFilter);
-    filters.add(filter);
-    clearAcls(filters);
+    return new AclBindingFilter(resourceFilter, accessControlEntryFilter);
+  }
+
+  /**
+   * Delete the ACLs matching a list of filters, using chunked deleteAcls requests of
+   * julie.admin.request.batch.size filters, with at most julie.admin.request.max.in.flight requests
+   * in flight. The result of each filter is handled independently, a filter matching no ACL is
+   * successful.
+   *
+   * @param filters The list of filters
+   * @return A map of filter and failure cause, for each filter whose ACLs could not be deleted
+   * @throws IOException if the requests could not be completed
+   */
+  public Map<AclBindingFilter, Throwable> deleteAcls(Collection<AclBindingFilter> filters)
+      throws IOException {
+    return await(
+        submitInChunksPerResource(
+            "deleteAcls",
+            filters,
+            chunk -> {
+              Map<AclBindingFilter, KafkaFuture<Void>> results = new HashMap<>();
+              adminClient
+                  .deleteAcls(chunk)
+                  .values()
+                  .forEach(
+                      (filter, future) ->
+                          results.put(
+                              filter,
+                              future.thenApply(
+                                  filterResults -> {
+                                    for (FilterResult result : filterResults.values()) {
+                                      if (result.exception() != null) {
+                                        throw result.exception();
+                                      }
+                                    }
+                                    return null;
+                                  })));
+              return results;
+            }));
   }
 
   private void clearAcls(Collection<AclBindingFilter> filters) throws IOException {
-    try {
-      adminClient.deleteAcls(filters).all().get();
-    } catch (ExecutionException | InterruptedException e) {
-      LOGGER.error(e);
-      throw new IOException(e);
-    }
+    await(deleteAclsAsync(filters));
   }
 
-  public Config getActualTopicConfig(String topic) {
-    ConfigResource resource = new ConfigResource(Type.TOPIC, topic);
-    Collection<ConfigResource> resources = Collections.singletonList(resource);
+  public CompletableFuture<Collection<AclBinding>> deleteAclsAsync(
+      Collection<AclBindingFilter> filters) {
+    return submit("deleteAcls", () -> adminClient.deleteAcls(filters).all());
+  }
 
-    Map<ConfigResource, Config> configs = null;
+  public Config getActualTopicConfig(String topic) {
     try {
-      configs = adminClient.describeConfigs(resources).all().get();
-    } catch (InterruptedException | ExecutionException ex) {
-      LOGGER.error(ex);
-      throw new RuntimeException(ex);
+      return await(describeTopicConfigsAsync(Collections.singletonList(topic))).get(topic);
+    } catch (IOException ex) {
+      throw unchecked(ex);
     }
+  }
+
+  /**
+   * Fetch the current configuration for a list of topics, using chunked describeConfigs requests
+   * with a bounded number of requests in flight. The returned configs only hold their non default
+   * entries, the defaults are shared between all of them (see {@link CompactTopicConfig}).
+   *
+   * @param topics The list of topics to describe
+   * @return A map of topic name and current topic config
+   * @throws IOException if any of the describe requests fail
+   */
+  public Map<String, Config> getActualTopicConfigs(Collection<String> topics) throws IOException {
+    return await(describeTopicConfigsAsync(topics));
+  }
 
-    return configs.get(resource);
+  public CompletableFuture<Map<String, Config>> describeTopicConfigsAsync(
+      Collection<String> topics) {
+    List<ConfigResource> resources =
+        topics.stream()
+            .map(topic -> new ConfigResource(Type.TOPIC, topic))
+            .collect(Collectors.toList());
+    return submitInChunks(
+            "describeConfigs", resources, chunk -> adminClient.describeConfigs(chunk).all())
+        .thenApply(
+            results -> {
+              Map<String, Config> topicConfigs = new HashMap<>();
+              results.forEach(
+                  configs ->
+                      configs.forEach(
+                          (resource, config) ->
+                              topicConfigs.put(
+                                  resource.name(),
+                                  CompactTopicConfig.of(config, defaultTopicConfigs))));
+              return topicConfigs;
+            });
   }
 
   public void createTopic(Topic topic, String fullTopicName) throws IOException {
-    NewTopic newTopic =
-        new NewTopic(fullTopicName, topic.getPartitionCount(), topic.replicationFactor())
-            .configs(topic.getRawConfig());
-    try {
-      createAllTopics(Collections.singleton(newTopic));
-    } catch (ExecutionException | InterruptedException e) {
-      if (e.getCause() instanceof TopicExistsException) {
-        LOGGER.info(e.getMessage());
-        return;
-      }
-      LOGGER.error(e);
-      throw new IOException(e);
+    Throwable error =
+        createTopics(Collections.singletonMap(fullTopicName, topic)).get(fullTopicName);
+    if (error != null) {
+      LOGGER.error(error);
+      throw new IOException(error);
     }
   }
 
@@ -206,52 +422,397 @@ public class TopologyBuilderAdminClient {
     createTopic(topic, topicName);
   }
 
-  private void createAllTopics(Collection<NewTopic> newTopics)
-      throws ExecutionException, InterruptedException {
-    adminClient.createTopics(newTopics).all().get();
+  /**
+   * Create a list of topics using chunked createTopics requests paced by the {@link
+   * MutationRateLimiter}. The result of each topic is handled independently, topics that already
+   * exist are considered as successfully created.
+   *
+   * @param topics A map of full topic name and topic to be created
+   * @return A map of full topic name and failure cause, for each topic that could not be created
+   * @throws IOException if the requests could not be completed
+   */
+  public Map<String, Throwable> createTopics(Map<String, Topic> topics) throws IOException {
+    List<NewTopic> newTopics =
+        topics.entrySet().stream()
+            .map(
+                entry ->
+                    new NewTopic(
+                            entry.getKey(),
+                            entry.getValue().getPartitionCount(),
+                            entry.getValue().replicationFactor())
+                        .configs(entry.getValue().getRawConfig()))
+            .collect(Collectors.toList());
+
+    CreateTopicsOptions options = new CreateTopicsOptions().retryOnQuotaViolation(false);
+    Map<String, Throwable> errors =
+        mutate(
+            "createTopics",
+            newTopics,
+            NewTopic::name,
+            chunk -> adminClient.createTopics(chunk, options).values());
+    errors
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (entry.getValue() instanceof TopicExistsException) {
+                LOGGER.info(entry.getValue().getMessage());
+                return true;
+              }
+              return false;
+            });
+    return errors;
   }
 
   public void deleteTopics(Collection<String> topics) throws IOException {
+    await(deleteTopicsAsync(topics));
+  }
+
+  public CompletableFuture<Void> deleteTopicsAsync(Collection<String> topics) {
+    return submit("deleteTopics", () -> adminClient.deleteTopics(topics).all());
+  }
+
+  /**
+   * Delete a list of topics in chunks of julie.admin.topic.deletion.batch.size topics, waiting for
+   * the metadata of each chunk to settle before the next one is sent.
+   *
+   * @param topics The list of topics to delete
+   * @throws IOException if any of the topics could not be deleted
+   */
+  public void deleteTopicsInChunks(Collection<String> topics) throws IOException {
+    topicDeletionExecutor.delete(topics);
+  }
+
+  /**
+   * Delete a list of topics with a single deleteTopics request. Quota violations are not retried by
+   * the AdminClient, they are reported back as a {@link
+   * org.apache.kafka.common.errors.ThrottlingQuotaExceededException} so the caller can pace itself.
+   *
+   * @param topics The list of topics to delete
+   * @return A future with the error of each topic that could not be deleted
+   */
+  public CompletableFuture<Map<String, Throwable>> deleteTopicsPerTopicAsync(
+      Collection<String> topics) {
+    DeleteTopicsOptions options = new DeleteTopicsOptions().retryOnQuotaViolation(false);
+    return submitPerResource(
+        "deleteTopics", () -> adminClient.deleteTopics(topics, options).topicNameValues());
+  }
+
+  /**
+   * Filter a list of topics down to the ones still known to the cluster metadata.
+   *
+   * @param topics The list of topics to look up
+   * @return The topics that still exist
+   */
+  public Set<String> existingTopics(Collection<String> topics) throws IOException {
+    Map<String, Throwable> errors =
+        await(
+            submitPerResource(
+                "describeTopics", () -> adminClient.describeTopics(topics).topicNameValues()));
+    Set<String> existing = new HashSet<>(topics);
+    for (Map.Entry<String, Throwable> entry : errors.entrySet()) {
+      if (entry.getValue() instanceof UnknownTopicOrPartitionException) {
+        existing.remove(entry.getKey());
+      } else {
+        throw new IOException(entry.getValue());
+      }
+    }
+    return existing;
+  }
+
+  public CompletableFuture<Collection<AclBinding>> describeAclsAsync(AclBindingFilter filter) {
+    return submit("describeAcls", () -> adminClient.describeAcls(filter).values());
+  }
+
+  /**
+   * Create a list of ACLs, using chunked createAcls requests of julie.admin.request.batch.size
+   * bindings, with at most julie.admin.request.max.in.flight requests in flight. The result of each
+   * binding is handled independently.
+   *
+   * @param acls The list of ACLs to create
+   * @return A map of binding and failure cause, for each binding that could not be created
+   * @throws IOException if the requests could not be completed
+   */
+  public Map<AclBinding, Throwable> createAcls(Collection<AclBinding> acls) throws IOException {
+    LOGGER.debug(String.format("Create %d ACLs", acls.size()));
+    return await(
+        submitInChunksPerResource(
+            "createAcls", acls, chunk -> adminClient.createAcls(chunk).values()));
+  }
+
+  public CompletableFuture<Void> createAclsAsync(Collection<AclBinding> acls) {
+    return submit("createAcls", () -> adminClient.createAcls(acls).all());
+  }
+
+  /**
+   * Send a request once there is room in the in flight window. The caller is never blocked, while
+   * julie.admin.request.max.in.flight requests are pending the request is queued, and sent when one
+   * of them completes, so this can be called from a completion callback as well.
+   *
+   * @param operation The name of the operation, as reported in the {@link RemoteCallMetrics}
+   * @return A future completed with the result of the request, or failed if it does not complete
+   *     within julie.admin.request.timeout.ms once sent
+   */
+  private <T> CompletableFuture<T> submit(String operation, Supplier<KafkaFuture<T>> request) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    schedule(
+        () -> {
+          // the timeout starts once the request is sent, not while it is queued
+          withTimeout(result);
+          RemoteCall call = metrics.start(CLIENT, ENDPOINT, operation);
+          KafkaFuture<T> future;
+          try {
+            future = request.get();
+          } catch (RuntimeException e) {
+            releaseInFlight();
+            call.complete(true);
+            result.completeExceptionally(e);
+            return;
+          }
+          future.whenComplete(
+              (value, error) -> {
+                releaseInFlight();
+                call.complete(error != null);
+                if (error != null) {
+                  result.completeExceptionally(unwrap(error));
+                } else {
+                  result.complete(value);
+                }
+              });
+        });
+    return result;
+  }
+
+  /**
+   * Send a request that returns one future per resource, once there is room in the in flight
+   * window, see {@link #submit(String, Supplier)}.
+   *
+   * @param operation The name of the operation, as reported in the {@link RemoteCallMetrics}
+   * @return A future with a map of resource and failure cause, for each resource that failed
+   */
+  private <K> CompletableFuture<Map<K, Throwable>> submitPerResource(
+      String operation, Supplier<Map<K, ? extends KafkaFuture<?>>> request) {
+    CompletableFuture<Map<K, Throwable>> result = new CompletableFuture<>();
+    schedule(
+        () -> {
+          // the timeout starts once the request is sent, not while it is queued
+          withTimeout(result);
+          Map<K, Throwable> errors = new ConcurrentHashMap<>();
+          RemoteCall call = metrics.start(CLIENT, ENDPOINT, operation);
+          Map<K, ? extends KafkaFuture<?>> futures;
+          try {
+            futures = request.get();
+          } catch (RuntimeException e) {
+            releaseInFlight();
+            call.complete(true);
+            result.completeExceptionally(e);
+            return;
+          }
+          if (futures.isEmpty()) {
+            releaseInFlight();
+            call.complete(false);
+            result.complete(errors);
+            return;
+          }
+          AtomicInteger pending = new AtomicInteger(futures.size());
+          futures.forEach(
+              (resource, future) ->
+                  future.whenComplete(
+                      (value, error) -> {
+                        if (error != null) {
+                          errors.put(resource, unwrap(error));
+                        }
+                        if (pending.decrementAndGet() == 0) {
+                          releaseInFlight();
+                          call.complete(!errors.isEmpty());
+                          result.complete(errors);
+                        }
+                      }));
+        });
+    return result;
+  }
+
+  /** Send a request now if the in flight window has room, or queue it until it has. */
+  private void schedule(Runnable send) {
+    synchronized (queuedRequests) {
+      if (inFlightRequests >= maxInFlightRequests) {
+        queuedRequests.add(send);
+        return;
+      }
+      inFlightRequests++;
+    }
+    send.run();
+  }
+
+  /** Hand the slot of a completed request over to the next queued one, or free it. */
+  private void releaseInFlight() {
+    Runnable next;
+    synchronized (queuedRequests) {
+      next = queuedRequests.poll();
+      if (next == null) {
+        inFlightRequests--;
+        return;
+      }
+    }
+    next.run();
+  }
+
+  private <T, R> CompletableFuture<List<R>> submitInChunks(
+      String operation, Collection<T> items, Function<List<T>, KafkaFuture<R>> request) {
+    List<CompletableFuture<R>> futures = new ArrayList<>();
+    for (List<T> chunk : Utils.chunks(items, batchSize)) {
+      futures.add(submit(operation, () -> request.apply(chunk)));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  }
+
+  private <T, K> CompletableFuture<Map<K, Throwable>> submitInChunksPerResource(
+      String operation,
+      Collection<T> items,
+      Function<List<T>, Map<K, ? extends KafkaFuture<?>>> request) {
+    List<CompletableFuture<Map<K, Throwable>>> futures = new ArrayList<>();
+    for (List<T> chunk : Utils.chunks(items, batchSize)) {
+      futures.add(submitPerResource(operation, () -> request.apply(chunk)));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        .thenApply(
+            v -> {
+              Map<K, Throwable> errors = new HashMap<>();
+              futures.forEach(future -> errors.putAll(future.join()));
+              return errors;
+            });
+  }
+
+  /**
+   * Send the requests of a topic mutation, paced by the {@link MutationRateLimiter}: the items are
+   * sent in batches of its current size, with as many requests in flight as it allows, and the
+   * items rejected because of the controller mutation quota are sent again once the throttle time
+   * has passed. Runs on the calling thread, which waits for all the requests to complete.
+   *
+   * @param operation The name of the operation, as reported in the {@link RemoteCallMetrics}
+   * @param items The items to send
+   * @param keyOf The resource of each item, as returned by the request
+   * @param request The request, sending a batch of items
+   * @return A map of resource and failure cause, for each resource that failed
+   * @throws IOException if the calling thread is interrupted
+   */
+  private <T, K> Map<K, Throwable> mutate(
+      String operation,
+      Collection<T> items,
+      Function<T, K> keyOf,
+      Function<List<T>, Map<K, ? extends KafkaFuture<?>>> request)
+      throws IOException {
+    Deque<T> pending = new ArrayDeque<>(items);
+    BlockingQueue<MutationResult<T, K>> results = new LinkedBlockingQueue<>();
+    Map<K, Integer> throttledAttempts = new HashMap<>();
+    Map<K, Throwable> errors = new HashMap<>();
+    int inFlight = 0;
     try {
-      adminClient.deleteTopics(topics).all().get();
-    } catch (ExecutionException | InterruptedException e) {
-      LOGGER.error(e);
+      while (!pending.isEmpty() || inFlight > 0) {
+        long pauseMs = mutationRateLimiter.getPauseMs();
+        if (!pending.isEmpty() && pauseMs == 0 && inFlight < mutationRateLimiter.getMaxInFlight()) {
+          List<T> batch = new ArrayList<>();
+          int size = mutationRateLimiter.getBatchSize();
+          long version = mutationRateLimiter.getVersion();
+          while (batch.size() < size && !pending.isEmpty()) {
+            batch.add(pending.poll());
+          }
+          inFlight++;
+          submitPerResource(operation, () -> request.apply(batch))
+              .whenComplete(
+                  (value, error) ->
+                      results.add(new MutationResult<>(batch, version, value, error)));
+          continue;
+        }
+        MutationResult<T, K> result =
+            pauseMs > 0 ? results.poll(pauseMs, TimeUnit.MILLISECONDS) : results.take();
+        if (result == null) {
+          continue;
+        }
+        inFlight--;
+        long throttleTimeMs = -1;
+        for (T item : result.batch) {
+          K key = keyOf.apply(item);
+          Throwable error = result.error != null ? result.error : result.errors.get(key);
+          if (error instanceof ThrottlingQuotaExceededException
+              && throttledAttempts.merge(key, 1, Integer::sum)
+                  < MutationRateLimiter.MAX_THROTTLED_ATTEMPTS) {
+            throttleTimeMs =
+                Math.max(
+                    throttleTimeMs, ((ThrottlingQuotaExceededException) error).throttleTimeMs());
+            pending.add(item);
+          } else if (error != null) {
+            errors.put(key, error);
+          }
+        }
+        if (throttleTimeMs >= 0) {
+          metrics.retry(CLIENT, ENDPOINT, operation);
+          mutationRateLimiter.onThrottled(throttleTimeMs, result.version);
+        } else {
+          mutationRateLimiter.onSuccess();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       throw new IOException(e);
     }
+    return errors;
   }
 
-  public Map<String, Collection<AclBinding>> fetchAclsList() {
-    Map<String, Collection<AclBinding>> acls = new HashMap<>();
+  private static class MutationResult<T, K> {
 
-    try {
-      Collection<AclBinding> list = adminClient.describeAcls(AclBindingFilter.ANY).values().get();
-      list.forEach(
-          aclBinding -> {
-            String name = aclBinding.pattern().name();
-            if (acls.get(name) == null) {
-              acls.put(name, new ArrayList<>());
-            }
-            Collection<AclBinding> updatedList = acls.get(name);
-            updatedList.add(aclBinding);
-            acls.put(name, updatedList);
-          });
-    } catch (Exception e) {
-      return new HashMap<>();
+    private final List<T> batch;
+    // the version of the rate limits the batch was sent with
+    private final long version;
+    private final Map<K, Throwable> errors;
+    private final Throwable error;
+
+    MutationResult(List<T> batch, long version, Map<K, Throwable> errors, Throwable error) {
+      this.batch = batch;
+      this.version = version;
+      this.errors = errors;
+      this.error = unwrap(error);
+    }
+  }
+
+  private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+    if (requestTimeoutMs <= 0) {
+      return future;
+    }
+    return future.orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
     }
-    return acls;
+    return error;
   }
 
-  public void createAcls(Collection<AclBinding> acls) {
+  private <T> T await(CompletableFuture<T> future) throws IOException {
     try {
-      String aclsDump = acls.stream().map(AclBinding::toString).collect(Collectors.joining(", "));
-      LOGGER.debug("createAcls: " + aclsDump);
-      adminClient.createAcls(acls).all().get();
-    } catch (InvalidConfigurationException ex) {
-      LOGGER.error(ex);
-      throw ex;
-    } catch (ExecutionException | InterruptedException e) {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
       LOGGER.error(e);
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      Throwable cause = unwrap(e.getCause());
+      LOGGER.error(cause);
+      if (cause instanceof InvalidConfigurationException) {
+        // configuration errors are reported as such, not as a failed request
+        throw (InvalidConfigurationException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /** The Kafka exception that failed a request, for the methods without checked exceptions. */
+  private static RuntimeException unchecked(IOException ex) {
+    if (ex.getCause() instanceof RuntimeException) {
+      return (RuntimeException) ex.getCause();
     }
+    return new RuntimeException(ex.getCause());
   }
 
   public void close() {
@@ -12,6 +12,7 @@ import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.utils.BasicAuth;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.net.http.HttpRequest;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -127,6 +128,20 @@ public class KConnectApiClient extends JulieHttpClient implements ArtefactClient
     return add(name, config);
   }
 
+  /** Connector names are left out of the operation, e.g. GET /connectors/{name}/status. */
+  @Override
+  protected String operationOf(HttpRequest request) {
+    String[] segments = request.uri().getPath().replaceAll("^/+|/+$", "").split("/");
+    if (segments.length < 2) {
+      return operationOf(request, 1);
+    }
+    String path = "/" + segments[0] + "/{name}";
+    if (segments.length > 2) {
+      path += "/" + segments[segments.length - 1];
+    }
+    return request.method() + " " + path;
+  }
+
   @Override
   public String toString() {
     return "KConnectApiClient{" + server + " - " + label + "}";
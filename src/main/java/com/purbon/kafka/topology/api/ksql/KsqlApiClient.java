@@ -3,6 +3,8 @@ package com.purbon.kafka.topology.api.ksql;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.purbon.kafka.topology.Constants;
 import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.metrics.RemoteCall;
+import com.purbon.kafka.topology.metrics.RemoteCallMetrics;
 import com.purbon.kafka.topology.model.Artefact;
 import com.purbon.kafka.topology.model.artefact.KsqlArtefact;
 import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
@@ -20,7 +22,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +36,7 @@ public class KsqlApiClient implements ArtefactClient {
 
   private final URL server;
   private final Client client;
+  private final RemoteCallMetrics metrics = RemoteCallMetrics.get();
 
   public static final String QUERY_TYPE = "query";
   public static final String STREAM_TYPE = "stream";
@@ -78,7 +83,7 @@ public class KsqlApiClient implements ArtefactClient {
                 + sql.substring(0, 40));
       }
 
-      var result = client.executeStatement(sql).get();
+      var result = call("executeStatement", () -> client.executeStatement(sql));
       return new QueryResponse(result).asMap();
     } catch (InterruptedException | ExecutionException e) {
       throw new IOException(e);
@@ -105,9 +110,9 @@ public class KsqlApiClient implements ArtefactClient {
     try {
       if (STREAM_TYPE.equalsIgnoreCase(type) || TABLE_TYPE.equalsIgnoreCase(type)) {
         String sql = String.format("DROP %s IF EXISTS %s;", type.toUpperCase(), id);
-        client.executeStatement(sql).get();
+        call("executeStatement", () -> client.executeStatement(sql));
       } else {
-        client.terminatePushQuery(id).get();
+        call("terminatePushQuery", () -> client.terminatePushQuery(id));
       }
     } catch (InterruptedException | ExecutionException e) {
       e.printStackTrace();
@@ -115,6 +120,15 @@ public class KsqlApiClient implements ArtefactClient {
     }
   }
 
+  private <T> T call(String operation, Supplier<CompletableFuture<T>> request)
+      throws InterruptedException, ExecutionException {
+    try (RemoteCall call = metrics.start("KsqlApiClient", getServer(), operation)) {
+      T result = request.get().get();
+      call.success();
+      return result;
+    }
+  }
+
   @Override
   public List<String> list() throws IOException {
     return Stream.of(listStreams(), listTables())
@@ -125,7 +139,7 @@ public class KsqlApiClient implements ArtefactClient {
   public List<String> listTables() throws IOException {
     List<TableInfo> infos;
     try {
-      infos = client.listTables().get();
+      infos = call("listTables", client::listTables);
     } catch (InterruptedException | ExecutionException e) {
       e.printStackTrace();
       throw new IOException(e);
@@ -150,7 +164,7 @@ public class KsqlApiClient implements ArtefactClient {
   public List<String> listStreams() throws IOException {
     List<StreamInfo> infos;
     try {
-      infos = client.listStreams().get();
+      infos = call("listStreams", client::listStreams);
     } catch (InterruptedException | ExecutionException e) {
       e.printStackTrace();
       throw new IOException(e);
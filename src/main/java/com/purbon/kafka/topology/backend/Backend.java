@@ -3,6 +3,8 @@ package com.purbon.kafka.topology.backend;
 import com.purbon.kafka.topology.BackendController;
 import com.purbon.kafka.topology.Configuration;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 public interface Backend {
 
@@ -23,4 +25,22 @@ public interface Backend {
   void save(BackendState state) throws IOException;
 
   BackendState load() throws IOException;
+
+  /**
+   * Append entries to the journal of completed actions, the state delta of each of them.
+   *
+   * @param entries The entries to append, in order
+   * @throws IOException if the entries can not be written
+   */
+  default void appendJournal(List<StateDelta> entries) throws IOException {
+    // empty if not implemented, the journal is then not kept
+  }
+
+  default List<StateDelta> loadJournal() throws IOException {
+    return Collections.emptyList();
+  }
+
+  default void clearJournal() throws IOException {
+    // empty if not implemented
+  }
 }
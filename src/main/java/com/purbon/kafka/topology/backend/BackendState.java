@@ -9,7 +9,9 @@ import com.purbon.kafka.topology.model.cluster.ServiceAccount;
 import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.utils.JSON;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class BackendState {
@@ -20,6 +22,9 @@ public class BackendState {
   private final Set<KafkaConnectArtefact> connectors;
   private final Set<KsqlStreamArtefact> ksqlStreams;
   private final Set<KsqlTableArtefact> ksqlTables;
+  private final Map<String, String> topicFingerprints;
+  private long lastTopicSweepMs;
+  private String runFingerprint;
 
   public BackendState() {
     this.accounts = new HashSet<>();
@@ -28,6 +33,7 @@ public class BackendState {
     this.connectors = new HashSet<>();
     this.ksqlStreams = new HashSet<>();
     this.ksqlTables = new HashSet<>();
+    this.topicFingerprints = new HashMap<>();
   }
 
   public void addAccounts(Collection<ServiceAccount> accounts) {
@@ -54,6 +60,48 @@ public class BackendState {
     this.ksqlTables.addAll(ksqlTables);
   }
 
+  public void addTopicFingerprints(Map<String, String> topicFingerprints) {
+    this.topicFingerprints.putAll(topicFingerprints);
+  }
+
+  /**
+   * Add all the resources of another state to this one.
+   *
+   * @param other The resources to add
+   */
+  public void add(BackendState other) {
+    bindings.addAll(other.bindings);
+    accounts.addAll(other.accounts);
+    topics.addAll(other.topics);
+    connectors.addAll(other.connectors);
+    ksqlStreams.addAll(other.ksqlStreams);
+    ksqlTables.addAll(other.ksqlTables);
+  }
+
+  /**
+   * Remove all the resources of another state from this one.
+   *
+   * @param other The resources to remove
+   */
+  public void remove(BackendState other) {
+    // hash lookups whatever the relative size of both sets, unlike Set.removeAll
+    other.bindings.forEach(bindings::remove);
+    other.accounts.forEach(accounts::remove);
+    other.topics.forEach(topics::remove);
+    other.connectors.forEach(connectors::remove);
+    other.ksqlStreams.forEach(ksqlStreams::remove);
+    other.ksqlTables.forEach(ksqlTables::remove);
+    other.topics.forEach(topicFingerprints::remove);
+  }
+
+  public void setLastTopicSweepMs(long lastTopicSweepMs) {
+    this.lastTopicSweepMs = lastTopicSweepMs;
+  }
+
+  public void setRunFingerprint(String runFingerprint) {
+    this.runFingerprint = runFingerprint;
+  }
+
   public Set<TopologyAclBinding> getBindings() {
     return bindings;
   }
@@ -78,6 +126,18 @@ public class BackendState {
     return ksqlTables;
   }
 
+  public Map<String, String> getTopicFingerprints() {
+    return topicFingerprints;
+  }
+
+  public long getLastTopicSweepMs() {
+    return lastTopicSweepMs;
+  }
+
+  public String getRunFingerprint() {
+    return runFingerprint;
+  }
+
   @JsonIgnore
   public String asJson() throws JsonProcessingException {
     return JSON.asString(this);
@@ -95,6 +155,9 @@ public class BackendState {
     connectors.clear();
     ksqlStreams.clear();
     ksqlTables.clear();
+    topicFingerprints.clear();
+    lastTopicSweepMs = 0;
+    runFingerprint = null;
   }
 
   public int size() {
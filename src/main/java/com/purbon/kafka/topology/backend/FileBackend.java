@@ -1,13 +1,18 @@
 package com.purbon.kafka.topology.backend;
 
+import static com.purbon.kafka.topology.BackendController.JOURNAL_FILE_NAME;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import com.purbon.kafka.topology.BackendController.Mode;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -60,6 +65,40 @@ public class FileBackend implements Backend {
     return (BackendState) JSON.toObject(backendStateAsJsonString, BackendState.class);
   }
 
+  @Override
+  public void appendJournal(List<StateDelta> entries) throws IOException {
+    StringBuilder lines = new StringBuilder();
+    for (StateDelta entry : entries) {
+      lines.append(JSON.asString(entry)).append(System.lineSeparator());
+    }
+    Files.writeString(
+        Paths.get(JOURNAL_FILE_NAME),
+        lines,
+        StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+  }
+
+  @Override
+  public List<StateDelta> loadJournal() throws IOException {
+    Path filePath = Paths.get(JOURNAL_FILE_NAME);
+    List<StateDelta> entries = new ArrayList<>();
+    if (!Files.exists(filePath)) {
+      return entries;
+    }
+    for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+      if (!line.isBlank()) {
+        entries.add((StateDelta) JSON.toObject(line, StateDelta.class));
+      }
+    }
+    return entries;
+  }
+
+  @Override
+  public void clearJournal() throws IOException {
+    Files.deleteIfExists(Paths.get(JOURNAL_FILE_NAME));
+  }
+
   private void writeText(String text) throws IOException {
     try {
       writer.write(text);
@@ -4,6 +4,8 @@ import com.purbon.kafka.topology.BackendController.Mode;
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.utils.JSON;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -61,6 +63,36 @@ public class RedisBackend implements Backend {
     return (BackendState) JSON.toObject(contentOptional.orElse("{}"), BackendState.class);
   }
 
+  @Override
+  public void appendJournal(List<StateDelta> entries) throws IOException {
+    connectIfNeed();
+    String[] values = new String[entries.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = JSON.asString(entries.get(i));
+    }
+    jedis.rpush(journalKey(), values);
+  }
+
+  @Override
+  public List<StateDelta> loadJournal() throws IOException {
+    connectIfNeed();
+    List<StateDelta> entries = new ArrayList<>();
+    for (String value : jedis.lrange(journalKey(), 0, -1)) {
+      entries.add((StateDelta) JSON.toObject(value, StateDelta.class));
+    }
+    return entries;
+  }
+
+  @Override
+  public void clearJournal() {
+    connectIfNeed();
+    jedis.del(journalKey());
+  }
+
+  private String journalKey() {
+    return bucket + ".journal";
+  }
+
   private void connectIfNeed() {
     if (!jedis.isConnected()) {
       createOrOpen();
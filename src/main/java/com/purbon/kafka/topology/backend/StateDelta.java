@@ -0,0 +1,58 @@
+package com.purbon.kafka.topology.backend;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The resources an action removed from and added to the state. Applied in place to the state of the
+ * backend as each action completes, and kept as an entry of the journal of completed actions, so
+ * replaying the deltas in order on top of the last saved state gives the state of a run that did
+ * not complete.
+ */
+public class StateDelta {
+
+  private final BackendState removed;
+  private final BackendState added;
+
+  public StateDelta() {
+    this(new BackendState(), new BackendState());
+  }
+
+  @JsonCreator
+  public StateDelta(
+      @JsonProperty("removed") BackendState removed, @JsonProperty("added") BackendState added) {
+    this.removed = removed;
+    this.added = added;
+  }
+
+  /**
+   * @return the resources removed from the state, to be filled by the caller
+   */
+  public BackendState getRemoved() {
+    return removed;
+  }
+
+  /**
+   * @return the resources added to the state, to be filled by the caller
+   */
+  public BackendState getAdded() {
+    return added;
+  }
+
+  @JsonIgnore
+  public boolean isEmpty() {
+    return removed.size() == 0 && added.size() == 0;
+  }
+
+  /**
+   * Remove and then add the resources of this delta to a state, in place. Removing first lets a
+   * delta replace a resource with an updated version of it.
+   *
+   * @param state The state to update
+   */
+  public void applyTo(BackendState state) {
+    state.remove(removed);
+    state.add(added);
+  }
+}
@@ -5,6 +5,8 @@ import static java.net.http.HttpRequest.BodyPublishers.ofString;
 
 import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.mds.Response;
+import com.purbon.kafka.topology.metrics.RemoteCall;
+import com.purbon.kafka.topology.metrics.RemoteCallMetrics;
 import com.purbon.kafka.topology.utils.BasicAuth;
 import java.io.IOException;
 import java.io.InputStream;
@@ -13,6 +15,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -23,9 +26,11 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -47,6 +52,8 @@ public class JulieHttpClient {
   private int retryTimes;
   private int backoffTimesMs;
 
+  private final RemoteCallMetrics metrics = RemoteCallMetrics.get();
+
   public JulieHttpClient(String server) throws IOException {
     this(server, Optional.empty());
   }
@@ -253,14 +260,35 @@ public class JulieHttpClient {
 
   private CompletableFuture<HttpResponse<String>> sendAsync(
       HttpRequest request, HttpResponse.BodyHandler<String> handler) {
+    String operation = operationOf(request);
+    RemoteCall call = metrics.start(getClass().getSimpleName(), server, operation);
     return httpClient
         .sendAsync(request, handler)
-        .handleAsync((response, throwable) -> tryResend(request, handler, 1, response, throwable))
-        .thenCompose(Function.identity());
+        .handleAsync(
+            (response, throwable) -> tryResend(request, operation, handler, 1, response, throwable))
+        .thenCompose(Function.identity())
+        .whenComplete(
+            (response, throwable) -> {
+              if (response != null && call.isRecorded()) {
+                call.response(String.valueOf(response.statusCode()), responseBytes(response));
+              }
+              call.complete(throwable != null || response.statusCode() >= 400);
+            });
+  }
+
+  private static long responseBytes(HttpResponse<String> response) {
+    if (response.body() == null) {
+      return -1;
+    }
+    return response
+        .headers()
+        .firstValueAsLong("Content-Length")
+        .orElseGet(() -> response.body().getBytes(StandardCharsets.UTF_8).length);
   }
 
   private CompletableFuture<HttpResponse<String>> tryResend(
       HttpRequest request,
+      String operation,
       HttpResponse.BodyHandler<String> handler,
       int count,
       HttpResponse<String> response,
@@ -268,9 +296,10 @@ public class JulieHttpClient {
 
     if (shouldRetry(response, throwable, count)) {
       System.out.println("shouldRetry: count=" + count);
+      metrics.retry(getClass().getSimpleName(), server, operation);
       return httpClient
           .sendAsync(request, handler)
-          .handleAsync((r, t) -> tryResend(request, handler, count + 1, r, t))
+          .handleAsync((r, t) -> tryResend(request, operation, handler, count + 1, r, t))
           .thenCompose(Function.identity());
     } else if (throwable != null) {
       return CompletableFuture.failedFuture(throwable);
@@ -279,6 +308,26 @@ public class JulieHttpClient {
     }
   }
 
+  /**
+   * The name of the operation of a request, as reported in the {@link RemoteCallMetrics}: the
+   * method and the first segments of the path, leaving out the names of the resources.
+   *
+   * @param request The request
+   * @return the name of the operation
+   */
+  protected String operationOf(HttpRequest request) {
+    return operationOf(request, 3);
+  }
+
+  protected String operationOf(HttpRequest request, int segments) {
+    String path =
+        Arrays.stream(request.uri().getPath().split("/"))
+            .filter(segment -> !segment.isEmpty())
+            .limit(segments)
+            .collect(Collectors.joining("/", "/", ""));
+    return request.method() + " " + path;
+  }
+
   private boolean shouldRetry(HttpResponse<String> response, Throwable throwable, int count) {
     if (response != null && !isRetrievableStatusCode(response) || count >= retryTimes) return false;
     var backoffTime = backoff(count);
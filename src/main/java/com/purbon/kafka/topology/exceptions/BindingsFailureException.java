@@ -0,0 +1,24 @@
+package com.purbon.kafka.topology.exceptions;
+
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Exception raised when some of the bindings of a request could not be created or removed, the
+ * other bindings of the request were applied.
+ */
+public class BindingsFailureException extends IOException {
+
+  private final Set<TopologyAclBinding> failedBindings;
+
+  public BindingsFailureException(String msg, Set<TopologyAclBinding> failedBindings) {
+    super(msg);
+    this.failedBindings = Collections.unmodifiableSet(failedBindings);
+  }
+
+  public Set<TopologyAclBinding> getFailedBindings() {
+    return failedBindings;
+  }
+}
@@ -0,0 +1,28 @@
+package com.purbon.kafka.topology.exceptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Exception raised when a chunked topic deletion fails, the topics of the chunks completed before
+ * the failure were deleted.
+ */
+public class TopicDeletionFailureException extends IOException {
+
+  private final Set<String> deletedTopics;
+
+  public TopicDeletionFailureException(String msg, Set<String> deletedTopics) {
+    super(msg);
+    this.deletedTopics = Collections.unmodifiableSet(deletedTopics);
+  }
+
+  public TopicDeletionFailureException(String msg, Set<String> deletedTopics, Throwable cause) {
+    super(msg, cause);
+    this.deletedTopics = Collections.unmodifiableSet(deletedTopics);
+  }
+
+  public Set<String> getDeletedTopics() {
+    return deletedTopics;
+  }
+}
@@ -0,0 +1,43 @@
+package com.purbon.kafka.topology.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A flight recorder event for the execution of an action of the plan. */
+@Name("com.purbon.kafka.topology.Action")
+@Label("Action")
+@Description("Execution of an action of the plan")
+@Category({"JulieOps"})
+@StackTrace(false)
+public class ActionEvent extends jdk.jfr.Event {
+
+  @Label("Type")
+  String type;
+
+  @Label("Resources")
+  @Description("Number of resources changed by the action")
+  int resources;
+
+  @Label("Outcome")
+  String outcome;
+
+  @Label("Error")
+  String error;
+
+  /**
+   * Describe the action executed, before committing the event.
+   *
+   * @param type The type of action
+   * @param resources The number of resources changed by the action
+   * @param failure The failure of the action, or null if it succeeded
+   */
+  public void describe(String type, int resources, Throwable failure) {
+    this.type = type;
+    this.resources = resources;
+    this.outcome = failure == null ? "success" : "failure";
+    this.error = failure == null ? null : failure.toString();
+  }
+}
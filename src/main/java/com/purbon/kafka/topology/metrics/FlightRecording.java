@@ -0,0 +1,70 @@
+package com.purbon.kafka.topology.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A JDK Flight Recorder recording of the run, enabled with the --jfr option. It records the default
+ * JVM events (GC, allocation, threads, I/O) together with the {@link ActionEvent}, {@link
+ * RemoteCallEvent} and {@link PhaseEvent} of JulieOps, and is written to a .jfr file once closed,
+ * to be opened with JDK Mission Control. The JulieOps events cost nothing when no recording runs.
+ */
+public class FlightRecording implements AutoCloseable {
+
+  private static final Logger LOGGER = LogManager.getLogger(FlightRecording.class);
+
+  private final Recording recording;
+  private final Path file;
+
+  private FlightRecording(Recording recording, Path file) {
+    this.recording = recording;
+    this.file = file;
+  }
+
+  /**
+   * Start recording, if a file is given.
+   *
+   * @param file The .jfr file to write once the recording is closed, or null to record nothing
+   * @return the recording
+   * @throws IOException if the recording can not be started
+   */
+  public static FlightRecording start(String file) throws IOException {
+    if (file == null) {
+      return new FlightRecording(null, null);
+    }
+    Recording recording;
+    try {
+      recording = new Recording(Configuration.getConfiguration("default"));
+    } catch (ParseException e) {
+      throw new IOException(e);
+    }
+    recording.setName("JulieOps");
+    recording.enable(ActionEvent.class);
+    recording.enable(RemoteCallEvent.class);
+    recording.enable(PhaseEvent.class);
+    Path path = Paths.get(file);
+    recording.setDestination(path);
+    recording.start();
+    return new FlightRecording(recording, path);
+  }
+
+  /** Stop recording, and write the recording to its file. */
+  @Override
+  public void close() {
+    if (recording == null) {
+      return;
+    }
+    try {
+      recording.stop();
+      LOGGER.info(String.format("Flight recording of the run written to %s", file));
+    } finally {
+      recording.close();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.purbon.kafka.topology.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed exponential buckets, from one millisecond to one minute. Recording a
+ * value is lock free, so the histogram can be shared by all the threads calling the same remote
+ * operation.
+ */
+public class LatencyHistogram {
+
+  /** The upper bound of each bucket, in milliseconds, the last bucket holds everything above. */
+  static final long[] BOUNDS_MS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, 60000
+  };
+
+  private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sumNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  public LatencyHistogram() {
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long nanos) {
+    long millis = nanos / 1_000_000;
+    int bucket = 0;
+    while (bucket < BOUNDS_MS.length && millis >= BOUNDS_MS[bucket]) {
+      bucket++;
+    }
+    buckets[bucket].increment();
+    count.increment();
+    sumNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public double getSumMs() {
+    return sumNanos.sum() / 1_000_000.0;
+  }
+
+  public double getMaxMs() {
+    return maxNanos.get() / 1_000_000.0;
+  }
+
+  /**
+   * @return the number of values recorded in each bucket, the last one holds the values above the
+   *     last bound
+   */
+  public long[] getBucketCounts() {
+    long[] counts = new long[buckets.length];
+    for (int i = 0; i < buckets.length; i++) {
+      counts[i] = buckets[i].sum();
+    }
+    return counts;
+  }
+
+  /**
+   * Estimate a percentile as the upper bound of the bucket holding it.
+   *
+   * @param percentile The percentile, between 0 and 100
+   * @return the latency in milliseconds, or 0 if nothing was recorded
+   */
+  public double getPercentileMs(double percentile) {
+    long[] counts = getBucketCounts();
+    long total = 0;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+    long seen = 0;
+    for (int i = 0; i < BOUNDS_MS.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(BOUNDS_MS[i], getMaxMs());
+      }
+    }
+    return getMaxMs();
+  }
+}
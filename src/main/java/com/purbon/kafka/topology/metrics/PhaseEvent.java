@@ -0,0 +1,23 @@
+package com.purbon.kafka.topology.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A flight recorder event for a phase of the run, as started with the RunProfiler. */
+@Name("com.purbon.kafka.topology.Phase")
+@Label("Phase")
+@Description("Phase of the run, such as parsing the topology or planning the changes of a manager")
+@Category({"JulieOps"})
+@StackTrace(false)
+public class PhaseEvent extends jdk.jfr.Event {
+
+  @Label("Name")
+  String name;
+
+  public void setName(String name) {
+    this.name = name;
+  }
+}
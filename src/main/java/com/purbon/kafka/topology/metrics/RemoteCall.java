@@ -0,0 +1,86 @@
+package com.purbon.kafka.topology.metrics;
+
+/**
+ * A call to a remote service being measured. The call is recorded once closed, as a failure unless
+ * {@link #success()} was called before, and emitted as a {@link RemoteCallEvent} if a flight
+ * recording is running.
+ */
+public class RemoteCall implements AutoCloseable {
+
+  private final RemoteCallStats stats;
+  // null unless a flight recording collects the remote call events
+  private final RemoteCallEvent event;
+  private final long startNanos;
+  private boolean succeeded;
+  private boolean closed;
+  private String status;
+  private long bytes = -1;
+
+  RemoteCall(RemoteCallStats stats) {
+    this.stats = stats;
+    RemoteCallEvent event = new RemoteCallEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      this.event = event;
+    } else {
+      this.event = null;
+    }
+    this.startNanos = System.nanoTime();
+  }
+
+  /** Mark the call as successful, to be called before closing it. */
+  public void success() {
+    succeeded = true;
+  }
+
+  /**
+   * @return true if the call is emitted to a running flight recording, so the details set by {@link
+   *     #response(String, long)} are worth computing
+   */
+  public boolean isRecorded() {
+    return event != null;
+  }
+
+  /**
+   * Set the status returned by the remote service, such as the HTTP status code, reported in the
+   * flight recording.
+   *
+   * @param status The status
+   * @param bytes The size of the response in bytes, or -1 if not known
+   */
+  public void response(String status, long bytes) {
+    this.status = status;
+    this.bytes = bytes;
+  }
+
+  /**
+   * Record the call as completed.
+   *
+   * @param failed true if the call failed
+   */
+  public void complete(boolean failed) {
+    succeeded = !failed;
+    close();
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    stats.record(System.nanoTime() - startNanos, !succeeded);
+    if (event == null) {
+      return;
+    }
+    event.end();
+    if (event.shouldCommit()) {
+      event.client = stats.getClient();
+      event.target = stats.getEndpoint();
+      event.method = stats.getOperation();
+      event.status = status != null ? status : succeeded ? "OK" : "ERROR";
+      event.bytes = bytes;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.purbon.kafka.topology.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** A flight recorder event for a call to a remote service, see {@link RemoteCall}. */
+@Name("com.purbon.kafka.topology.RemoteCall")
+@Label("Remote Call")
+@Description(
+    "Call to the Kafka cluster, the schema registry, ksqlDB, Kafka Connect, MDS or Confluent Cloud")
+@Category({"JulieOps"})
+@StackTrace(false)
+public class RemoteCallEvent extends jdk.jfr.Event {
+
+  @Label("Client")
+  String client;
+
+  @Label("Target")
+  String target;
+
+  @Label("Method")
+  String method;
+
+  @Label("Status")
+  String status;
+
+  @Label("Bytes")
+  @Description("Size of the response body, when known")
+  @DataAmount
+  long bytes;
+}
@@ -0,0 +1,236 @@
+package com.purbon.kafka.topology.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Registry of the calls made to remote services: the Kafka AdminClient, the HTTP clients (MDS,
+ * Kafka Connect, Confluent Cloud), the schema registry and ksqlDB. For each client, endpoint and
+ * operation it counts the calls, errors and retries, and keeps a {@link LatencyHistogram}. The
+ * metrics can be exported to a Prometheus text file, and exposed as JMX beans under {@value
+ * #JMX_DOMAIN}.
+ */
+public class RemoteCallMetrics {
+
+  private static final Logger LOGGER = LogManager.getLogger(RemoteCallMetrics.class);
+
+  static final String JMX_DOMAIN = "com.purbon.kafka.topology";
+
+  private static final RemoteCallMetrics INSTANCE = new RemoteCallMetrics();
+
+  private final Map<Key, RemoteCallStats> stats = new ConcurrentHashMap<>();
+  private volatile boolean jmxEnabled;
+
+  /**
+   * @return the registry shared by all the remote clients
+   */
+  public static RemoteCallMetrics get() {
+    return INSTANCE;
+  }
+
+  /**
+   * Start measuring a call.
+   *
+   * @param client The client making the call
+   * @param endpoint The server called
+   * @param operation The operation called
+   * @return the call, to be closed once completed
+   */
+  public RemoteCall start(String client, String endpoint, String operation) {
+    return new RemoteCall(statsOf(client, endpoint, operation));
+  }
+
+  /**
+   * Count a call sent again after a failure.
+   *
+   * @param client The client making the call
+   * @param endpoint The server called
+   * @param operation The operation called
+   */
+  public void retry(String client, String endpoint, String operation) {
+    statsOf(client, endpoint, operation).retried();
+  }
+
+  /**
+   * @return the stats of every operation called so far, sorted by client, endpoint and operation
+   */
+  public List<RemoteCallStats> getStats() {
+    List<RemoteCallStats> all = new ArrayList<>(stats.values());
+    all.sort(
+        Comparator.comparing(RemoteCallStats::getClient)
+            .thenComparing(RemoteCallStats::getEndpoint)
+            .thenComparing(RemoteCallStats::getOperation));
+    return all;
+  }
+
+  private RemoteCallStats statsOf(String client, String endpoint, String operation) {
+    return stats.computeIfAbsent(
+        new Key(client, endpoint, operation),
+        key -> {
+          RemoteCallStats created = new RemoteCallStats(client, endpoint, operation);
+          if (jmxEnabled) {
+            registerMBean(created);
+          }
+          return created;
+        });
+  }
+
+  /** Expose the stats of every operation, the ones called so far and the future ones, over JMX. */
+  public synchronized void enableJmx() {
+    if (!jmxEnabled) {
+      jmxEnabled = true;
+      stats.values().forEach(this::registerMBean);
+    }
+  }
+
+  private void registerMBean(RemoteCallStats stats) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name =
+          new ObjectName(
+              String.format(
+                  "%s:type=RemoteCalls,client=%s,endpoint=%s,operation=%s",
+                  JMX_DOMAIN,
+                  ObjectName.quote(stats.getClient()),
+                  ObjectName.quote(stats.getEndpoint()),
+                  ObjectName.quote(stats.getOperation())));
+      if (!server.isRegistered(name)) {
+        server.registerMBean(stats, name);
+      }
+    } catch (JMException e) {
+      LOGGER.warn("Could not register the remote call metrics over JMX", e);
+    }
+  }
+
+  /**
+   * Write the metrics in the Prometheus text exposition format, as counters of calls, errors and
+   * retries, and a histogram of the latency in seconds.
+   *
+   * @param file The file to write
+   * @throws IOException if the file can not be written
+   */
+  public void writePrometheus(Path file) throws IOException {
+    List<RemoteCallStats> all = getStats();
+    StringBuilder out = new StringBuilder();
+    counter(out, all, "julie_remote_calls_total", "Remote calls made", RemoteCallStats::getCalls);
+    counter(
+        out,
+        all,
+        "julie_remote_call_errors_total",
+        "Remote calls failed",
+        RemoteCallStats::getErrors);
+    counter(
+        out,
+        all,
+        "julie_remote_call_retries_total",
+        "Remote calls sent again after a failure",
+        RemoteCallStats::getRetries);
+
+    String histogram = "julie_remote_call_latency_seconds";
+    out.append("# HELP ").append(histogram).append(" Latency of the remote calls\n");
+    out.append("# TYPE ").append(histogram).append(" histogram\n");
+    for (RemoteCallStats stats : all) {
+      LatencyHistogram latency = stats.getLatency();
+      long[] buckets = latency.getBucketCounts();
+      long cumulative = 0;
+      for (int i = 0; i < LatencyHistogram.BOUNDS_MS.length; i++) {
+        cumulative += buckets[i];
+        sample(
+            out,
+            histogram + "_bucket",
+            stats,
+            String.valueOf(LatencyHistogram.BOUNDS_MS[i] / 1000.0),
+            cumulative);
+      }
+      sample(out, histogram + "_bucket", stats, "+Inf", latency.getCount());
+      sample(out, histogram + "_sum", stats, null, latency.getSumMs() / 1000.0);
+      sample(out, histogram + "_count", stats, null, latency.getCount());
+    }
+    Files.writeString(file, out.toString(), StandardCharsets.UTF_8);
+  }
+
+  private static void counter(
+      StringBuilder out,
+      List<RemoteCallStats> all,
+      String name,
+      String help,
+      ToDoubleFunction<RemoteCallStats> value) {
+    out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    out.append("# TYPE ").append(name).append(" counter\n");
+    for (RemoteCallStats stats : all) {
+      sample(out, name, stats, null, value.applyAsDouble(stats));
+    }
+  }
+
+  private static void sample(
+      StringBuilder out, String name, RemoteCallStats stats, String le, double value) {
+    Function<String, String> escape =
+        s -> s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    out.append(name)
+        .append("{client=\"")
+        .append(escape.apply(stats.getClient()))
+        .append("\",endpoint=\"")
+        .append(escape.apply(stats.getEndpoint()))
+        .append("\",operation=\"")
+        .append(escape.apply(stats.getOperation()))
+        .append('"');
+    if (le != null) {
+      out.append(",le=\"").append(le).append('"');
+    }
+    out.append("} ");
+    if (value == Math.rint(value)) {
+      out.append((long) value);
+    } else {
+      out.append(value);
+    }
+    out.append('\n');
+  }
+
+  private static class Key {
+
+    private final String client;
+    private final String endpoint;
+    private final String operation;
+
+    Key(String client, String endpoint, String operation) {
+      this.client = client;
+      this.endpoint = endpoint;
+      this.operation = operation;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return client.equals(key.client)
+          && endpoint.equals(key.endpoint)
+          && operation.equals(key.operation);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(client, endpoint, operation);
+    }
+  }
+}
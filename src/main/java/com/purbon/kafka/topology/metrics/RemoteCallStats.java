@@ -0,0 +1,92 @@
+package com.purbon.kafka.topology.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters and latency histogram of one operation of a remote client, against one endpoint. */
+public class RemoteCallStats implements RemoteCallStatsMBean {
+
+  private final String client;
+  private final String endpoint;
+  private final String operation;
+
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  RemoteCallStats(String client, String endpoint, String operation) {
+    this.client = client;
+    this.endpoint = endpoint;
+    this.operation = operation;
+  }
+
+  void record(long nanos, boolean failed) {
+    calls.increment();
+    if (failed) {
+      errors.increment();
+    }
+    latency.record(nanos);
+  }
+
+  void retried() {
+    retries.increment();
+  }
+
+  public String getClient() {
+    return client;
+  }
+
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  @Override
+  public long getCalls() {
+    return calls.sum();
+  }
+
+  @Override
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  @Override
+  public long getRetries() {
+    return retries.sum();
+  }
+
+  @Override
+  public double getErrorRate() {
+    long count = getCalls();
+    return count == 0 ? 0 : (double) getErrors() / count;
+  }
+
+  @Override
+  public double getMeanLatencyMs() {
+    long count = latency.getCount();
+    return count == 0 ? 0 : latency.getSumMs() / count;
+  }
+
+  @Override
+  public double getP50LatencyMs() {
+    return latency.getPercentileMs(50);
+  }
+
+  @Override
+  public double getP99LatencyMs() {
+    return latency.getPercentileMs(99);
+  }
+
+  @Override
+  public double getMaxLatencyMs() {
+    return latency.getMaxMs();
+  }
+}
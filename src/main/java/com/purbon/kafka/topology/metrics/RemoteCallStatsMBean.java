@@ -0,0 +1,21 @@
+package com.purbon.kafka.topology.metrics;
+
+/** The JMX view of the {@link RemoteCallStats} of a remote operation. */
+public interface RemoteCallStatsMBean {
+
+  long getCalls();
+
+  long getErrors();
+
+  long getRetries();
+
+  double getErrorRate();
+
+  double getMeanLatencyMs();
+
+  double getP50LatencyMs();
+
+  double getP99LatencyMs();
+
+  double getMaxLatencyMs();
+}
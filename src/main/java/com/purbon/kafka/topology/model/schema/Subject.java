@@ -41,6 +41,8 @@ public class Subject {
   public Subject(String schemaFile, String recordType, SubjectKind kind) {
     this.schemaFile = Optional.ofNullable(schemaFile);
     this.recordType = Optional.ofNullable(recordType);
+    this.optionalFormat = Optional.empty();
+    this.optionalCompatibility = Optional.empty();
     this.kind = kind;
   }
 
@@ -52,6 +54,10 @@ public class Subject {
     return schemaFile.isPresent();
   }
 
+  public Optional<String> getRecordType() {
+    return recordType;
+  }
+
   private String recordTypeAsString() throws IOException {
     return recordType.orElseThrow(() -> new IOException("Missing record type for " + schemaFile));
   }
@@ -0,0 +1,161 @@
+package com.purbon.kafka.topology.roles;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The bindings of a list encoded in columns, used to compute the difference between the desired and
+ * the current bindings of large deployments. The values of the bindings are encoded as ids of a
+ * {@link Dictionary} shared by the stores being compared, each binding is packed into two longs,
+ * the resource name and the principal in one, the resource type, pattern, operation and host in the
+ * other, and looked up in an open addressing table over these columns. The store only keeps the
+ * packed columns, the bindings are taken back from the source list, by index, when returned by
+ * {@link #minus(AclBindingStore)}, so their scope and permission type are kept.
+ */
+public class AclBindingStore {
+
+  /** The ids of the binding values, shared by the stores being compared. */
+  public static class Dictionary {
+
+    // resource names and principals, the values with many distinct entries
+    private final Values names = new Values(Integer.MAX_VALUE);
+    // resource types, patterns, operations and hosts, packed in 15 bits each
+    private final Values attributes = new Values(0x7FFF);
+
+    private long names(TopologyAclBinding binding) {
+      return (long) names.id(binding.getResourceName()) << 32 | names.id(binding.getPrincipal());
+    }
+
+    private long attributes(TopologyAclBinding binding) {
+      return (long) attributes.id(binding.getResourceType()) << 48
+          | (long) attributes.id(binding.getPattern()) << 32
+          | (long) attributes.id(binding.getOperation()) << 16
+          | attributes.id(binding.getHost());
+    }
+  }
+
+  /** An open addressing map of value and id, ids start at 1, null is 0. */
+  private static class Values {
+
+    private final int maxId;
+    private String[] keys = new String[64];
+    private int[] ids = new int[64];
+    private int size;
+
+    private Values(int maxId) {
+      this.maxId = maxId;
+    }
+
+    private int id(String value) {
+      if (value == null) {
+        return 0;
+      }
+      int slot = slotOf(keys, value);
+      if (keys[slot] != null) {
+        return ids[slot];
+      }
+      if (size >= maxId) {
+        throw new IllegalStateException(
+            String.format("More than %d distinct binding values, can not encode %s", maxId, value));
+      }
+      keys[slot] = value;
+      ids[slot] = ++size;
+      if (size * 2 > keys.length) {
+        grow();
+      }
+      return size;
+    }
+
+    private void grow() {
+      String[] oldKeys = keys;
+      int[] oldIds = ids;
+      keys = new String[oldKeys.length * 2];
+      ids = new int[oldKeys.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != null) {
+          int slot = slotOf(keys, oldKeys[i]);
+          keys[slot] = oldKeys[i];
+          ids[slot] = oldIds[i];
+        }
+      }
+    }
+
+    private static int slotOf(String[] keys, String value) {
+      int mask = keys.length - 1;
+      int slot = mix(value.hashCode()) & mask;
+      // the values are interned, most lookups match by reference
+      while (keys[slot] != null && keys[slot] != value && !keys[slot].equals(value)) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+
+  private final Dictionary dictionary;
+  private final List<TopologyAclBinding> source;
+  private final long[] names;
+  private final long[] attributes;
+  // index + 1 of the binding in the source list, 0 for an empty slot
+  private final int[] slots;
+
+  /**
+   * Encode a list of bindings.
+   *
+   * @param dictionary The dictionary shared with the stores this one is compared to
+   * @param source The bindings, a list with fast random access, kept by the store
+   */
+  public AclBindingStore(Dictionary dictionary, List<TopologyAclBinding> source) {
+    this.dictionary = dictionary;
+    this.source = source;
+    this.names = new long[source.size()];
+    this.attributes = new long[source.size()];
+    this.slots = new int[Integer.highestOneBit(Math.max(1, source.size()) * 2) * 2];
+    for (int index = 0; index < source.size(); index++) {
+      TopologyAclBinding binding = source.get(index);
+      names[index] = dictionary.names(binding);
+      attributes[index] = dictionary.attributes(binding);
+      int slot = slotOf(names[index], attributes[index]);
+      if (slots[slot] == 0) {
+        slots[slot] = index + 1;
+      }
+    }
+  }
+
+  /**
+   * The bindings of this store that are not in the other one, both using the same dictionary.
+   *
+   * @param other The other store
+   * @return the bindings of this store missing in the other one
+   */
+  public Set<TopologyAclBinding> minus(AclBindingStore other) {
+    if (other.dictionary != dictionary) {
+      throw new IllegalArgumentException("Only stores sharing a dictionary can be compared");
+    }
+    Set<TopologyAclBinding> missing = new HashSet<>();
+    for (int index = 0; index < names.length; index++) {
+      if (other.slots[other.slotOf(names[index], attributes[index])] == 0) {
+        missing.add(source.get(index));
+      }
+    }
+    return missing;
+  }
+
+  private int slotOf(long name, long attribute) {
+    int mask = slots.length - 1;
+    int slot = mix(Long.hashCode(name * 0x9E3779B97F4A7C15L + attribute)) & mask;
+    while (slots[slot] != 0) {
+      int index = slots[slot] - 1;
+      if (names[index] == name && attributes[index] == attribute) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private static int mix(int hash) {
+    int h = hash * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
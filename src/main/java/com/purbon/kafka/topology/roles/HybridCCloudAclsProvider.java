@@ -5,8 +5,10 @@ import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.AclBuilder;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.api.ccloud.CCloudApi;
+import com.purbon.kafka.topology.exceptions.BindingsFailureException;
 import com.purbon.kafka.topology.utils.CCloudUtils;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,7 +31,7 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
 
   public HybridCCloudAclsProvider(
       final TopologyBuilderAdminClient adminClient, final Configuration config) throws IOException {
-    super(adminClient);
+    super(adminClient, config);
     this.cli = new CCloudApi(config.getConfluentCloudClusterUrl(), config);
     this.clusterId = config.getConfluentCloudClusterId();
     this.config = config;
@@ -39,51 +41,64 @@ public class HybridCCloudAclsProvider extends SimpleAclsProvider implements Acce
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
     var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
-    var mayBeTranslated =
-        bindings.stream()
-            .map(
-                binding -> {
-                  try {
-                    return cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap);
-                  } catch (IOException e) {
-                    LOGGER.error(e);
-                    return binding;
-                  }
-                })
-            .map(
-                binding -> {
-                  var aclBinding =
-                      new AclBuilder(binding.getPrincipal())
-                          .addResource(
-                              ResourceType.fromString(binding.getResourceType()),
-                              binding.getResourceName(),
-                              PatternType.fromString(binding.getPattern()))
-                          .addControlEntry(
-                              binding.getHost(),
-                              AclOperation.fromString(binding.getOperation()),
-                              AclPermissionType.ALLOW)
-                          .build();
-                  return new TopologyAclBinding(aclBinding);
-                })
-            .collect(Collectors.toSet());
+    Map<TopologyAclBinding, TopologyAclBinding> translated = new HashMap<>();
+    for (TopologyAclBinding original : bindings) {
+      TopologyAclBinding binding;
+      try {
+        binding = cCloudUtils.translateIfNecessary(original, serviceAccountIdByNameMap);
+      } catch (IOException e) {
+        LOGGER.error(e);
+        binding = original;
+      }
+      var aclBinding =
+          new AclBuilder(binding.getPrincipal())
+              .addResource(
+                  ResourceType.fromString(binding.getResourceType()),
+                  binding.getResourceName(),
+                  PatternType.fromString(binding.getPattern()))
+              .addControlEntry(
+                  binding.getHost(),
+                  AclOperation.fromString(binding.getOperation()),
+                  AclPermissionType.ALLOW)
+              .build();
+      translated.put(new TopologyAclBinding(aclBinding), original);
+    }
     LOGGER.debug(
         "May be translated bindings: "
-            + mayBeTranslated.stream()
+            + translated.keySet().stream()
                 .map(TopologyAclBinding::getPrincipal)
                 .collect(Collectors.joining(",")));
-    super.createBindings(mayBeTranslated);
+    try {
+      super.createBindings(translated.keySet());
+    } catch (BindingsFailureException ex) {
+      throw untranslated(ex, translated);
+    }
   }
 
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
     var serviceAccountIdByNameMap = cCloudUtils.initializeLookupTable(this.cli);
+    Map<TopologyAclBinding, TopologyAclBinding> translated = new HashMap<>();
     for (TopologyAclBinding binding : bindings) {
-      adminClient.clearAcls(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap));
+      translated.put(cCloudUtils.translateIfNecessary(binding, serviceAccountIdByNameMap), binding);
+    }
+    try {
+      super.clearBindings(translated.keySet());
+    } catch (BindingsFailureException ex) {
+      throw untranslated(ex, translated);
     }
   }
 
+  /** Report the failures with the bindings as requested, before their translation. */
+  private BindingsFailureException untranslated(
+      BindingsFailureException ex, Map<TopologyAclBinding, TopologyAclBinding> translated) {
+    return new BindingsFailureException(
+        ex.getMessage(),
+        ex.getFailedBindings().stream().map(translated::get).collect(Collectors.toSet()));
+  }
+
   @Override
-  public Map<String, List<TopologyAclBinding>> listAcls() {
+  public Map<String, List<TopologyAclBinding>> listAcls() throws IOException {
     return super.listAcls();
   }
 }
@@ -1,29 +1,32 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.Configuration;
-import java.util.List;
-import org.apache.logging.log4j.LogManager;
-import org.apache.logging.log4j.Logger;
+import com.purbon.kafka.topology.utils.PrefixMatcher;
 
 public class ResourceFilter {
 
-  private static final Logger LOGGER = LogManager.getLogger(ResourceFilter.class);
-
-  private final List<String> managedServiceAccountPrefixes;
-  private final List<String> managedTopicPrefixes;
-  private final List<String> managedGroupPrefixes;
-  private final List<String> managedSubjectPrefixes;
+  private final PrefixMatcher managedServiceAccountPrefixes;
+  private final PrefixMatcher managedTopicPrefixes;
+  private final PrefixMatcher managedGroupPrefixes;
+  private final PrefixMatcher managedSubjectPrefixes;
 
   public ResourceFilter(Configuration config) {
-    this.managedServiceAccountPrefixes = config.getServiceAccountManagedPrefixes();
-    this.managedTopicPrefixes = config.getTopicManagedPrefixes();
-    this.managedGroupPrefixes = config.getGroupManagedPrefixes();
-    this.managedSubjectPrefixes = config.getSubjectManagedPrefixes();
+    this.managedServiceAccountPrefixes =
+        PrefixMatcher.of(config.getServiceAccountManagedPrefixes());
+    this.managedTopicPrefixes = PrefixMatcher.of(config.getTopicManagedPrefixes());
+    this.managedGroupPrefixes = PrefixMatcher.of(config.getGroupManagedPrefixes());
+    this.managedSubjectPrefixes = PrefixMatcher.of(config.getSubjectManagedPrefixes());
   }
 
   public boolean matchesManagedPrefixList(TopologyAclBinding topologyAclBinding) {
-    String resourceName = topologyAclBinding.getResourceName();
-    String principle = topologyAclBinding.getPrincipal();
+    return matchesManagedPrefixList(
+        topologyAclBinding.getResourceType(),
+        topologyAclBinding.getResourceName(),
+        topologyAclBinding.getPrincipal());
+  }
+
+  public boolean matchesManagedPrefixList(
+      String resourceType, String resourceName, String principle) {
     // For global wild cards ACL's we manage only if we manage the service account/principle,
     // regardless. Filtering by service account will always take precedence if defined
     if (hasServiceAccountPrefixFilters() || resourceName.equals("*")) {
@@ -31,24 +34,23 @@ public class ResourceFilter {
         return matchesServiceAccountPrefixList(principle);
       } else {
         return matchesServiceAccountPrefixList(principle)
-            && matchesTopicOrSubjectOrGroupPrefix(topologyAclBinding, resourceName);
+            && matchesTopicOrSubjectOrGroupPrefix(resourceType, resourceName);
       }
     } else if (hasTopicNamePrefixFilter()
         || hasGroupNamePrefixFilter()
         || hasSubjectNamePrefixFilter()) {
-      return matchesTopicOrSubjectOrGroupPrefix(topologyAclBinding, resourceName);
+      return matchesTopicOrSubjectOrGroupPrefix(resourceType, resourceName);
     }
 
     return true; // should include everything if not properly excluded earlier.
   }
 
-  private boolean matchesTopicOrSubjectOrGroupPrefix(
-      TopologyAclBinding topologyAclBinding, String resourceName) {
-    if ("TOPIC".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+  private boolean matchesTopicOrSubjectOrGroupPrefix(String resourceType, String resourceName) {
+    if ("TOPIC".equalsIgnoreCase(resourceType)) {
       return matchesTopicPrefixList(resourceName);
-    } else if ("SUBJECT".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+    } else if ("SUBJECT".equalsIgnoreCase(resourceType)) {
       return matchesSubjectPrefixList(resourceName);
-    } else if ("GROUP".equalsIgnoreCase(topologyAclBinding.getResourceType())) {
+    } else if ("GROUP".equalsIgnoreCase(resourceType)) {
       return matchesGroupPrefixList(resourceName);
     } else {
       // Nothing to filter out here
@@ -57,40 +59,34 @@ public class ResourceFilter {
   }
 
   private boolean matchesTopicPrefixList(String topic) {
-    return matchesPrefix(managedTopicPrefixes, topic, "Topic");
+    return managedTopicPrefixes.matchesOrEmpty(topic);
   }
 
   private boolean matchesGroupPrefixList(String group) {
-    return matchesPrefix(managedGroupPrefixes, group, "Group");
+    return managedGroupPrefixes.matchesOrEmpty(group);
   }
 
   private boolean matchesSubjectPrefixList(String subject) {
-    return matchesPrefix(managedSubjectPrefixes, subject, "Subject");
+    return managedSubjectPrefixes.matchesOrEmpty(subject);
   }
 
   private boolean matchesServiceAccountPrefixList(String principal) {
-    return matchesPrefix(managedServiceAccountPrefixes, principal, "Principal");
+    return managedServiceAccountPrefixes.matchesOrEmpty(principal);
   }
 
   private boolean hasServiceAccountPrefixFilters() {
-    return managedServiceAccountPrefixes.size() != 0;
+    return !managedServiceAccountPrefixes.isEmpty();
   }
 
   private boolean hasTopicNamePrefixFilter() {
-    return managedTopicPrefixes.size() != 0;
+    return !managedTopicPrefixes.isEmpty();
   }
 
   private boolean hasGroupNamePrefixFilter() {
-    return managedGroupPrefixes.size() != 0;
+    return !managedGroupPrefixes.isEmpty();
   }
 
   private boolean hasSubjectNamePrefixFilter() {
-    return managedSubjectPrefixes.size() != 0;
-  }
-
-  private boolean matchesPrefix(List<String> prefixes, String item, String type) {
-    boolean matches = prefixes.size() == 0 || prefixes.stream().anyMatch(item::startsWith);
-    LOGGER.debug(String.format("%s %s matches %s with %s", type, item, matches, prefixes));
-    return matches;
+    return !managedSubjectPrefixes.isEmpty();
   }
 }
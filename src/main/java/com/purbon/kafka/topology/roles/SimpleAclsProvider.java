@@ -1,14 +1,21 @@
 package com.purbon.kafka.topology.roles;
 
 import com.purbon.kafka.topology.AccessControlProvider;
+import com.purbon.kafka.topology.Configuration;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.exceptions.BindingsFailureException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
 import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,48 +24,129 @@ public class SimpleAclsProvider implements AccessControlProvider {
   private static final Logger LOGGER = LogManager.getLogger(SimpleAclsProvider.class);
 
   protected final TopologyBuilderAdminClient adminClient;
+  private final Optional<ResourceFilter> resourceFilter;
 
   public SimpleAclsProvider(final TopologyBuilderAdminClient adminClient) {
     this.adminClient = adminClient;
+    this.resourceFilter = Optional.empty();
   }
 
+  public SimpleAclsProvider(
+      final TopologyBuilderAdminClient adminClient, final Configuration config) {
+    this.adminClient = adminClient;
+    this.resourceFilter = Optional.of(new ResourceFilter(config));
+  }
+
+  /**
+   * Create a set of bindings, sent in batched createAcls requests.
+   *
+   * @param bindings The bindings to create
+   * @throws BindingsFailureException with the bindings that could not be created, if any
+   * @throws IOException if the requests could not be completed
+   */
   @Override
   public void createBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("AclsProvider: createBindings");
-    List<AclBinding> bindingsAsNativeKafka =
-        bindings.stream()
-            .filter(binding -> binding.asAclBinding().isPresent())
-            .map(binding -> binding.asAclBinding().get())
-            .collect(Collectors.toList());
+    Map<AclBinding, TopologyAclBinding> bindingsAsNativeKafka = new HashMap<>();
+    for (TopologyAclBinding binding : bindings) {
+      binding.asAclBinding().ifPresent(acl -> bindingsAsNativeKafka.put(acl, binding));
+    }
     LOGGER.debug("bindingsAsNativeKafka.size: " + bindingsAsNativeKafka.size());
-    adminClient.createAcls(bindingsAsNativeKafka);
+    Map<AclBinding, Throwable> errors = adminClient.createAcls(bindingsAsNativeKafka.keySet());
+    if (!errors.isEmpty()) {
+      Set<TopologyAclBinding> failedBindings = new HashSet<>();
+      errors.forEach(
+          (acl, error) -> {
+            TopologyAclBinding binding = bindingsAsNativeKafka.get(acl);
+            LOGGER.error(String.format("Failed to create binding %s: %s", binding, error));
+            failedBindings.add(binding);
+          });
+      throw new BindingsFailureException(
+          String.format(
+              "Failed to create %d out of %d bindings", failedBindings.size(), bindings.size()),
+          failedBindings);
+    }
   }
 
+  /**
+   * Remove a set of bindings, with one exact match filter per binding sent in batched deleteAcls
+   * requests.
+   *
+   * @param bindings The bindings to remove
+   * @throws BindingsFailureException with the bindings that could not be removed, if any
+   * @throws IOException if the requests could not be completed
+   */
   @Override
   public void clearBindings(Set<TopologyAclBinding> bindings) throws IOException {
     LOGGER.debug("AclsProvider: clearAcls");
+    Map<AclBindingFilter, TopologyAclBinding> filters = new HashMap<>();
     for (TopologyAclBinding binding : bindings) {
-      try {
-        adminClient.clearAcls(binding);
-      } catch (IOException ex) {
-        LOGGER.error(ex);
-        throw ex;
-      }
+      filters.put(TopologyBuilderAdminClient.filterOf(binding), binding);
+    }
+    Map<AclBindingFilter, Throwable> errors = adminClient.deleteAcls(filters.keySet());
+    if (!errors.isEmpty()) {
+      Set<TopologyAclBinding> failedBindings = new HashSet<>();
+      errors.forEach(
+          (filter, error) -> {
+            TopologyAclBinding binding = filters.get(filter);
+            LOGGER.error(String.format("Failed to remove binding %s: %s", binding, error));
+            failedBindings.add(binding);
+          });
+      throw new BindingsFailureException(
+          String.format(
+              "Failed to remove %d out of %d bindings", failedBindings.size(), bindings.size()),
+          failedBindings);
     }
   }
 
+  /**
+   * List the ACLs in the cluster, grouped by resource name, with a single describeAcls request.
+   * Only the bindings within the managed prefixes are kept, the others are dropped once the
+   * response arrives, before they are turned into bindings.
+   *
+   * <p>The prefixes can not be sent as part of the filter: a PREFIXED filter only matches the
+   * prefixed ACLs with that exact prefix, and a MATCH filter the ACLs that apply to one given
+   * resource name, neither returns the literal ACLs of the resources starting with a prefix.
+   *
+   * @throws IOException if the ACLs could not be listed
+   */
   @Override
-  public Map<String, List<TopologyAclBinding>> listAcls() {
+  public Map<String, List<TopologyAclBinding>> listAcls() throws IOException {
+    List<TopologyAclBinding> bindings;
+    try {
+      bindings =
+          adminClient
+              .describeAclsAsync(AclBindingFilter.ANY)
+              .thenApply(this::managedBindings)
+              .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      LOGGER.error("Failed to list the ACLs of the cluster", e.getCause());
+      throw new IOException(e.getCause());
+    }
     Map<String, List<TopologyAclBinding>> map = new HashMap<>();
-    adminClient
-        .fetchAclsList()
-        .forEach(
-            (topic, aclBindings) ->
-                map.put(
-                    topic,
-                    aclBindings.stream()
-                        .map(TopologyAclBinding::new)
-                        .collect(Collectors.toList())));
+    for (TopologyAclBinding binding : bindings) {
+      map.computeIfAbsent(binding.getResourceName(), name -> new ArrayList<>()).add(binding);
+    }
     return map;
   }
+
+  private List<TopologyAclBinding> managedBindings(Collection<AclBinding> acls) {
+    List<TopologyAclBinding> bindings = new ArrayList<>();
+    for (AclBinding acl : acls) {
+      if (resourceFilter
+          .map(
+              filter ->
+                  filter.matchesManagedPrefixList(
+                      acl.pattern().resourceType().name(),
+                      acl.pattern().name(),
+                      acl.entry().principal()))
+          .orElse(true)) {
+        bindings.add(new TopologyAclBinding(acl));
+      }
+    }
+    return bindings;
+  }
 }
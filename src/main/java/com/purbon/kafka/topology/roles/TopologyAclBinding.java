@@ -1,18 +1,37 @@
 package com.purbon.kafka.topology.roles;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.purbon.kafka.topology.api.ccloud.response.KafkaAclResponse;
 import com.purbon.kafka.topology.api.mds.RequestScope;
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
 import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourceType;
 
+/**
+ * A binding of a principal to an operation, or a role, over a resource. Large topologies hold
+ * hundreds of thousands of bindings at once, in the desired, the backend and the remote state, so a
+ * binding is kept compact: all its values are interned, the principals, resource types, operations
+ * and patterns are shared across all the bindings of a run, and the hash is computed once. A Kafka
+ * ACL only keeps its permission type, the {@link AclBinding} is built back when requested.
+ */
 public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
 
-  @JsonIgnore private Optional<AclBinding> aclBindingOptional;
+  private static final Interner<String> VALUES = Interners.newWeakInterner();
+
+  private static final Comparator<String> NULLS_FIRST =
+      Comparator.nullsFirst(Comparator.naturalOrder());
+
+  @JsonIgnore private AclPermissionType permissionType;
+  private int hash;
 
   private String resourceType;
   private String resourceName;
@@ -38,13 +57,12 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
       String operation,
       String principal,
       String pattern) {
-    this.resourceType = resourceType;
-    this.resourceName = resourceName;
-    this.host = host;
-    this.operation = operation;
-    this.principal = principal;
-    this.pattern = pattern;
-    this.aclBindingOptional = Optional.empty();
+    this.resourceType = intern(resourceType);
+    this.resourceName = intern(resourceName);
+    this.host = intern(host);
+    this.operation = intern(operation);
+    this.principal = intern(principal);
+    this.pattern = intern(pattern);
   }
 
   /**
@@ -76,32 +94,43 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
   }
 
   public TopologyAclBinding(AclBinding binding) {
-
-    this.aclBindingOptional = Optional.of(binding);
-
-    AccessControlEntry entry = binding.entry();
-    ResourcePattern pattern = binding.pattern();
-
-    this.resourceType = pattern.resourceType().name();
-    this.resourceName = pattern.name();
-    this.principal = entry.principal();
-    this.operation = entry.operation().name();
-    this.pattern = pattern.patternType().name();
-    this.host = entry.host();
+    this(
+        binding.pattern().resourceType().name(),
+        binding.pattern().name(),
+        binding.entry().host(),
+        binding.entry().operation().name(),
+        binding.entry().principal(),
+        binding.pattern().patternType().name());
+    this.permissionType = binding.entry().permissionType();
   }
 
   public TopologyAclBinding(KafkaAclResponse kafkaAclResponse) {
-    this.resourceName = kafkaAclResponse.getResource_name();
-    this.resourceType = kafkaAclResponse.getResource_type();
-    this.host = kafkaAclResponse.getHost();
-    this.operation = kafkaAclResponse.getOperation();
-    this.principal = kafkaAclResponse.getPrincipal();
-    this.pattern = kafkaAclResponse.getPattern_type();
-    this.operation = kafkaAclResponse.getOperation();
+    this(
+        kafkaAclResponse.getResource_type(),
+        kafkaAclResponse.getResource_name(),
+        kafkaAclResponse.getHost(),
+        kafkaAclResponse.getOperation(),
+        kafkaAclResponse.getPrincipal(),
+        kafkaAclResponse.getPattern_type());
   }
 
+  private static String intern(String value) {
+    return value == null ? null : VALUES.intern(value);
+  }
+
+  /**
+   * @return the Kafka ACL of this binding, if it was built from one
+   */
   public Optional<AclBinding> asAclBinding() {
-    return aclBindingOptional;
+    if (permissionType == null) {
+      return Optional.empty();
+    }
+    ResourcePattern resourcePattern =
+        new ResourcePattern(
+            ResourceType.fromString(resourceType), resourceName, PatternType.fromString(pattern));
+    AccessControlEntry entry =
+        new AccessControlEntry(principal, host, AclOperation.fromString(operation), permissionType);
+    return Optional.of(new AclBinding(resourcePattern, entry));
   }
 
   public String getResourceType() {
@@ -125,23 +154,28 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
   }
 
   public void setResourceType(String resourceType) {
-    this.resourceType = resourceType;
+    this.resourceType = intern(resourceType);
+    this.hash = 0;
   }
 
   public void setHost(String host) {
-    this.host = host;
+    this.host = intern(host);
+    this.hash = 0;
   }
 
   public void setOperation(String operation) {
-    this.operation = operation;
+    this.operation = intern(operation);
+    this.hash = 0;
   }
 
   public void setPrincipal(String principal) {
-    this.principal = principal;
+    this.principal = intern(principal);
+    this.hash = 0;
   }
 
   public void setPattern(String pattern) {
-    this.pattern = pattern;
+    this.pattern = intern(pattern);
+    this.hash = 0;
   }
 
   @Override
@@ -170,6 +204,11 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
     return resourceName;
   }
 
+  public void setResourceName(String resourceName) {
+    this.resourceName = intern(resourceName);
+    this.hash = 0;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -179,18 +218,24 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
       return false;
     }
     TopologyAclBinding binding = (TopologyAclBinding) o;
-    return getResourceType().equals(binding.getResourceType())
-        && getResourceName().equals(binding.getResourceName())
-        && getHost().equals(binding.getHost())
-        && getOperation().equals(binding.getOperation())
-        && getPrincipal().equals(binding.getPrincipal())
-        && getPattern().equals(binding.getPattern());
+    // interned values are mostly the same instance, Objects.equals checks it first
+    return hashCode() == binding.hashCode()
+        && Objects.equals(resourceType, binding.resourceType)
+        && Objects.equals(resourceName, binding.resourceName)
+        && Objects.equals(host, binding.host)
+        && Objects.equals(operation, binding.operation)
+        && Objects.equals(principal, binding.principal)
+        && Objects.equals(pattern, binding.pattern);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(
-        resourceType, getResourceName(), getHost(), getOperation(), getPrincipal(), getPattern());
+    int h = hash;
+    if (h == 0) {
+      h = Objects.hash(resourceType, resourceName, host, operation, principal, pattern);
+      hash = h;
+    }
+    return h;
   }
 
   private RequestScope scope;
@@ -205,6 +250,22 @@ public class TopologyAclBinding implements Comparable<TopologyAclBinding> {
 
   @Override
   public int compareTo(TopologyAclBinding o) {
-    return toString().compareTo(o.toString());
+    int result = NULLS_FIRST.compare(resourceType, o.resourceType);
+    if (result == 0) {
+      result = NULLS_FIRST.compare(resourceName, o.resourceName);
+    }
+    if (result == 0) {
+      result = NULLS_FIRST.compare(host, o.host);
+    }
+    if (result == 0) {
+      result = NULLS_FIRST.compare(operation, o.operation);
+    }
+    if (result == 0) {
+      result = NULLS_FIRST.compare(principal, o.principal);
+    }
+    if (result == 0) {
+      result = NULLS_FIRST.compare(pattern, o.pattern);
+    }
+    return result;
   }
 }
@@ -1,5 +1,7 @@
 package com.purbon.kafka.topology.schemas;
 
+import com.purbon.kafka.topology.metrics.RemoteCall;
+import com.purbon.kafka.topology.metrics.RemoteCallMetrics;
 import io.confluent.kafka.schemaregistry.ParsedSchema;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import java.io.File;
@@ -26,7 +28,11 @@ public class SchemaRegistryManager {
     }
   }
 
+  private static final String CLIENT = "SchemaRegistryClient";
+  private static final String ENDPOINT = "schema-registry";
+
   private final SchemaRegistryClient schemaRegistryClient;
+  private final RemoteCallMetrics metrics = RemoteCallMetrics.get();
   private final String rootPath;
 
   public SchemaRegistryManager(
@@ -59,8 +65,10 @@ public class SchemaRegistryManager {
   }
 
   public String setCompatibility(String subject, String compatibility) {
-    try {
-      return schemaRegistryClient.updateCompatibility(subject, compatibility);
+    try (RemoteCall call = metrics.start(CLIENT, ENDPOINT, "updateCompatibility")) {
+      String result = schemaRegistryClient.updateCompatibility(subject, compatibility);
+      call.success();
+      return result;
     } catch (Exception e) {
       final String msg =
           String.format(
@@ -92,8 +100,10 @@ public class SchemaRegistryManager {
               return new SchemaRegistryManagerException(msg);
             });
 
-    try {
-      return schemaRegistryClient.register(subjectName, parsedSchema);
+    try (RemoteCall call = metrics.start(CLIENT, ENDPOINT, "register")) {
+      int id = schemaRegistryClient.register(subjectName, parsedSchema);
+      call.success();
+      return id;
     } catch (Exception e) {
       final String msg =
           String.format(
@@ -0,0 +1,60 @@
+package com.purbon.kafka.topology.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Content hash built incrementally from a sequence of values. Every value is length prefixed, so
+ * different sequences can not produce the same input by concatenation, and maps are added in key
+ * order, so the result does not depend on their iteration order.
+ */
+public final class Fingerprint {
+
+  private final MessageDigest digest;
+
+  private Fingerprint() {
+    try {
+      this.digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static Fingerprint create() {
+    return new Fingerprint();
+  }
+
+  public Fingerprint add(Object value) {
+    byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    int length = bytes.length;
+    digest.update(
+        new byte[] {
+          (byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length
+        });
+    digest.update(bytes);
+    return this;
+  }
+
+  public Fingerprint add(Map<String, ?> values) {
+    Map<String, ?> sorted = values instanceof TreeMap ? values : new TreeMap<>(values);
+    add(sorted.size());
+    sorted.forEach(
+        (key, value) -> {
+          add(key);
+          add(value);
+        });
+    return this;
+  }
+
+  public String toHex() {
+    StringBuilder sb = new StringBuilder();
+    for (byte b : digest.digest()) {
+      sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return sb.toString();
+  }
+}
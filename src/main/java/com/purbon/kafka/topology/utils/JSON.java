@@ -1,10 +1,13 @@
 package com.purbon.kafka.topology.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +45,21 @@ public class JSON {
     return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(object);
   }
 
+  /**
+   * Create a generator writing compact JSON to a stream. Closing the generator does not close the
+   * stream.
+   *
+   * @param out The stream to write to
+   * @return the generator
+   * @throws IOException if the generator can not be created
+   */
+  public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+    return mapper
+        .getFactory()
+        .createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
   public static Object toObjectList(String jsonString, Class objectClazz)
       throws JsonProcessingException {
     CollectionType collectionType =
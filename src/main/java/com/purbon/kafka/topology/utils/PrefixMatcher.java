@@ -0,0 +1,83 @@
+package com.purbon.kafka.topology.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Matches a value against a list of prefixes. The prefixes are sorted once, and the ones already
+ * covered by a shorter prefix are dropped, so a lookup is a single binary search for the greatest
+ * prefix not after the value, followed by a startsWith check. Lookups do not allocate.
+ */
+public final class PrefixMatcher {
+
+  private static final PrefixMatcher EMPTY = new PrefixMatcher(new String[0]);
+
+  private final String[] prefixes;
+
+  private PrefixMatcher(String[] prefixes) {
+    this.prefixes = prefixes;
+  }
+
+  public static PrefixMatcher of(Collection<String> prefixes) {
+    if (prefixes == null || prefixes.isEmpty()) {
+      return EMPTY;
+    }
+    List<String> compacted = new ArrayList<>();
+    for (String prefix : new TreeSet<>(prefixes)) {
+      // in sorted order, any prefix covering this one is the last one kept
+      if (compacted.isEmpty() || !prefix.startsWith(compacted.get(compacted.size() - 1))) {
+        compacted.add(prefix);
+      }
+    }
+    return new PrefixMatcher(compacted.toArray(new String[0]));
+  }
+
+  public boolean isEmpty() {
+    return prefixes.length == 0;
+  }
+
+  /**
+   * Check if the value starts with any of the prefixes.
+   *
+   * @param value The value to check
+   * @return true if the value starts with one of the prefixes, false otherwise or if there are no
+   *     prefixes at all
+   */
+  public boolean matches(String value) {
+    int low = 0;
+    int high = prefixes.length - 1;
+    int floor = -1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = prefixes[mid].compareTo(value);
+      if (cmp == 0) {
+        return true;
+      } else if (cmp < 0) {
+        floor = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return floor >= 0 && value.startsWith(prefixes[floor]);
+  }
+
+  /**
+   * Check if the value starts with any of the prefixes, where an empty list of prefixes means
+   * everything is matched. This is how the managed prefixes filters work.
+   *
+   * @param value The value to check
+   * @return true if there are no prefixes or the value starts with one of them
+   */
+  public boolean matchesOrEmpty(String value) {
+    return isEmpty() || matches(value);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(prefixes);
+  }
+}
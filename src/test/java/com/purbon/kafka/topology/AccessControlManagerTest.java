@@ -12,6 +12,7 @@ import static org.mockito.Mockito.*;
 import com.purbon.kafka.topology.actions.Action;
 import com.purbon.kafka.topology.actions.BaseAccessControlAction;
 import com.purbon.kafka.topology.api.adminclient.AclBuilder;
+import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
@@ -59,6 +60,7 @@ public class AccessControlManagerTest {
   @Before
   public void setup() throws IOException {
     TestUtils.deleteStateFile();
+    when(backendController.getState()).thenAnswer(invocation -> new BackendState());
     plan = ExecutionPlan.init(backendController, mockPrintStream);
     accessControlManager = new AccessControlManager(aclsProvider, aclsBuilder);
     doNothing().when(backendController).addBindings(ArgumentMatchers.anyList());
@@ -2,6 +2,7 @@ package com.purbon.kafka.topology;
 
 import static org.mockito.Mockito.*;
 
+import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.model.Project;
@@ -37,6 +38,7 @@ public class AccessControlWithRBACTest {
   @Before
   public void setup() throws IOException {
     accessControlManager = new AccessControlManager(aclsProvider, bindingsBuilder);
+    when(backendController.getState()).thenAnswer(invocation -> new BackendState());
     plan = ExecutionPlan.init(backendController, System.out);
   }
 
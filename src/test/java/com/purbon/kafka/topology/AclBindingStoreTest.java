@@ -0,0 +1,73 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.purbon.kafka.topology.roles.AclBindingStore;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Test;
+
+public class AclBindingStoreTest {
+
+  private final AclBindingStore.Dictionary dictionary = new AclBindingStore.Dictionary();
+
+  @Test
+  public void shouldDiffTheStores() {
+    AclBindingStore desired =
+        store(List.of(binding("foo", "READ"), binding("bar", "READ"), binding("bar", "READ")));
+    AclBindingStore current = store(List.of(binding("foo", "READ"), binding("foo", "WRITE")));
+
+    assertThat(desired.minus(current)).containsExactly(binding("bar", "READ"));
+    assertThat(current.minus(desired)).containsExactly(binding("foo", "WRITE"));
+  }
+
+  @Test
+  public void shouldReturnTheBindingsOfTheSourceList() {
+    TopologyAclBinding binding = binding("foo", "READ");
+    AclBindingStore desired = store(List.of(binding));
+
+    assertThat(desired.minus(store(Collections.emptyList())).iterator().next()).isSameAs(binding);
+  }
+
+  @Test
+  public void shouldKeepAllTheBindingsOfLargeLists() {
+    List<TopologyAclBinding> desired = new ArrayList<>();
+    List<TopologyAclBinding> current = new ArrayList<>();
+    Set<TopologyAclBinding> expected = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      desired.add(binding("topic" + i, "READ"));
+      if (i % 3 == 0) {
+        current.add(binding("topic" + i, "READ"));
+      } else {
+        expected.add(binding("topic" + i, "READ"));
+      }
+    }
+
+    assertThat(store(desired).minus(store(current))).isEqualTo(expected);
+    assertThat(store(current).minus(store(desired))).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyCompareStoresSharingADictionary() {
+    AclBindingStore desired = store(List.of(binding("foo", "READ")));
+    AclBindingStore other =
+        new AclBindingStore(new AclBindingStore.Dictionary(), List.of(binding("foo", "READ")));
+
+    assertThatThrownBy(() -> desired.minus(other)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private AclBindingStore store(List<TopologyAclBinding> bindings) {
+    return new AclBindingStore(dictionary, bindings);
+  }
+
+  private TopologyAclBinding binding(String topic, String operation) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", operation, "User:foo", "LITERAL");
+  }
+}
@@ -0,0 +1,169 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.CreateArtefactAction;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.accounts.ClearAccounts;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.clients.ArtefactClient;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlTableArtefact;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ActionGraphTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock SimpleAclsProvider aclsProvider;
+  @Mock SchemaRegistryManager schemaRegistryManager;
+  @Mock PrincipalProvider principalProvider;
+  @Mock ArtefactClient artefactClient;
+
+  @Test
+  public void shouldDeriveDependenciesFromTheActionKinds() {
+    Topic topic = new Topic("foo");
+    Set<ServiceAccount> accounts = Collections.singleton(new ServiceAccount("1", "foo", "foo"));
+    List<Action> actions =
+        Arrays.asList(
+            new CreateAccounts(principalProvider, accounts),
+            new CreateTopicAction(adminClient, topic, "foo"),
+            new RegisterSchemaAction(schemaRegistryManager, topic, "foo"),
+            new DeleteTopics(adminClient, Collections.singletonList("bar")),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("foo"))),
+            new CreateArtefactAction(
+                artefactClient,
+                "/",
+                Collections.emptyList(),
+                new KsqlStreamArtefact("stream.sql", "server", "stream")),
+            new CreateArtefactAction(
+                artefactClient,
+                "/",
+                Collections.emptyList(),
+                new KsqlTableArtefact("table.sql", "server", "table")),
+            new ClearAccounts(principalProvider, accounts));
+
+    ActionGraph graph = new ActionGraph(actions);
+
+    assertThat(graph.dependencies(0)).isZero();
+    assertThat(graph.dependencies(1)).isZero();
+    assertThat(graph.dependents(1)).contains(2, 5, 6);
+    assertThat(graph.dependents(0)).contains(4);
+    // the stream after the topics and the ACLs, the table after the stream as well
+    assertThat(graph.dependencies(5)).isEqualTo(2);
+    assertThat(graph.dependencies(6)).isEqualTo(3);
+    assertThat(graph.dependents(5)).contains(6);
+    // the deletes after every other action, and after each other
+    assertThat(graph.dependencies(3)).isEqualTo(6);
+    assertThat(graph.dependents(3)).containsExactly(7);
+    assertThat(graph.dependencies(7)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldRunConnectorsAfterTheAcls() {
+    Topic topic = new Topic("foo");
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicAction(adminClient, topic, "foo"),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("foo"))),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("bar"))),
+            new CreateArtefactAction(
+                artefactClient,
+                "/",
+                Collections.emptyList(),
+                new KafkaConnectArtefact("connector.json", "server", "connector", null)));
+
+    ActionGraph graph = new ActionGraph(actions);
+
+    assertThat(graph.dependencies(3)).isEqualTo(3);
+    assertThat(graph.dependents(1)).containsExactly(3);
+    assertThat(graph.dependents(2)).containsExactly(3);
+  }
+
+  @Test
+  public void shouldRunIndependentActionsAtTheSameTime() throws Exception {
+    CyclicBarrier bothRunning = new CyclicBarrier(2);
+    List<String> runOrder = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(
+            invocation -> {
+              bothRunning.await(10, TimeUnit.SECONDS);
+              runOrder.add("acl");
+              return null;
+            })
+        .when(aclsProvider)
+        .createBindings(any());
+    doAnswer(
+            invocation -> {
+              runOrder.add("delete");
+              return null;
+            })
+        .when(adminClient)
+        .deleteTopicsInChunks(anyList());
+
+    List<Action> actions =
+        Arrays.asList(
+            new DeleteTopics(adminClient, Collections.singletonList("bar")),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("foo"))),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("bar"))));
+    List<Action> completed = new ArrayList<>();
+
+    new ActionGraph(actions).run(4, (action, failure) -> completed.add(action));
+
+    assertThat(runOrder).containsExactly("acl", "acl", "delete");
+    assertThat(completed).containsExactly(actions.get(1), actions.get(2), actions.get(0));
+  }
+
+  @Test
+  public void shouldNotStartDependentActionsAfterAFailure() throws IOException {
+    Topic topic = new Topic("foo");
+    doThrow(new IOException("boom")).when(adminClient).createTopic(topic, "foo");
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicAction(adminClient, topic, "foo"),
+            new RegisterSchemaAction(schemaRegistryManager, topic, "foo"));
+    List<Throwable> failures = new ArrayList<>();
+
+    assertThatThrownBy(
+            () -> new ActionGraph(actions).run(2, (action, failure) -> failures.add(failure)))
+        .isInstanceOf(IOException.class)
+        .hasMessage("boom");
+    assertThat(failures).hasSize(1);
+    verifyNoInteractions(schemaRegistryManager);
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
+}
@@ -8,7 +8,6 @@ import com.purbon.kafka.topology.model.Topology;
 import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
 import com.purbon.kafka.topology.utils.TestUtils;
 import java.io.IOException;
-import java.io.PrintStream;
 import java.util.*;
 import org.junit.Rule;
 import org.junit.Test;
@@ -56,9 +55,6 @@ public class ArtefactManagerTest {
     String rootPath() {
       return "";
     }
-
-    @Override
-    public void printCurrentState(PrintStream out) {}
   }
 
   @Mock public ArtefactClient mockClient1;
@@ -0,0 +1,107 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Artefact;
+import com.purbon.kafka.topology.model.artefact.KafkaConnectArtefact;
+import com.purbon.kafka.topology.model.artefact.KsqlStreamArtefact;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Config;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ClusterSnapshotTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  private ClusterSnapshot snapshot;
+
+  @Before
+  public void before() {
+    snapshot = new ClusterSnapshot();
+  }
+
+  @Test
+  public void shouldListTopicsOnlyOnce() throws IOException {
+    when(adminClient.listApplicationTopics()).thenReturn(new HashSet<>(Arrays.asList("a", "b")));
+
+    assertThat(snapshot.getTopics(adminClient::listApplicationTopics)).containsOnly("a", "b");
+    assertThat(snapshot.getTopics(adminClient::listApplicationTopics)).containsOnly("a", "b");
+
+    verify(adminClient, times(1)).listApplicationTopics();
+  }
+
+  @Test
+  public void shouldKeepTheTopicListUpToDate() throws IOException {
+    when(adminClient.listApplicationTopics()).thenReturn(new HashSet<>(Arrays.asList("a", "b")));
+    snapshot.getTopics(adminClient::listApplicationTopics);
+
+    snapshot.topicsCreated(Collections.singletonList("c"));
+    snapshot.topicsDeleted(Collections.singletonList("a"));
+
+    assertThat(snapshot.getTopics(adminClient::listApplicationTopics)).containsOnly("b", "c");
+    verify(adminClient, times(1)).listApplicationTopics();
+  }
+
+  @Test
+  public void shouldOnlyFetchMissingTopicConfigs() throws IOException {
+    when(adminClient.getActualTopicConfigs(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              List<String> topics = invocation.getArgument(0);
+              return topics.stream()
+                  .collect(
+                      Collectors.toMap(
+                          topic -> topic, topic -> new Config(Collections.emptyList())));
+            });
+
+    snapshot.getTopicConfigs(Arrays.asList("a", "b"), adminClient::getActualTopicConfigs);
+    Map<String, Config> configs =
+        snapshot.getTopicConfigs(Arrays.asList("b", "c"), adminClient::getActualTopicConfigs);
+
+    assertThat(configs).containsOnlyKeys("b", "c");
+    verify(adminClient, times(1)).getActualTopicConfigs(Arrays.asList("a", "b"));
+    verify(adminClient, times(1)).getActualTopicConfigs(Collections.singletonList("c"));
+
+    snapshot.topicsUpdated(Collections.singletonList("b"));
+    snapshot.getTopicConfigs(Arrays.asList("b", "c"), adminClient::getActualTopicConfigs);
+    verify(adminClient, times(1)).getActualTopicConfigs(Collections.singletonList("b"));
+  }
+
+  @Test
+  public void shouldTrackArtefactsByKind() throws IOException {
+    var connector = new KafkaConnectArtefact("path", "label", "connector", null);
+    var stream = new KsqlStreamArtefact("path", "label", "stream");
+
+    snapshot.getConnectors(Collections::emptyList);
+    snapshot.getKSqlArtefacts(Collections::emptyList);
+    snapshot.artefactCreated(connector);
+    snapshot.artefactCreated(stream);
+
+    assertThat(new ArrayList<Artefact>(snapshot.getConnectors(Collections::emptyList)))
+        .containsOnly(connector);
+    assertThat(new ArrayList<Artefact>(snapshot.getKSqlArtefacts(Collections::emptyList)))
+        .containsOnly(stream);
+
+    snapshot.artefactDeleted(stream);
+    assertThat(snapshot.getKSqlArtefacts(Collections::emptyList)).isEmpty();
+  }
+}
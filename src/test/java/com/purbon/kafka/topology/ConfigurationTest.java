@@ -336,4 +336,19 @@ public class ConfigurationTest {
     Configuration config = new Configuration(cliOps, props);
     config.validateWith(topology);
   }
+
+  @Test
+  public void parallelismShouldBeAPositiveNumber() {
+    assertThat(new Configuration(cliOps, props).getParallelism()).isEqualTo(1);
+    cliOps.put(CommandLineInterface.PARALLELISM_OPTION, "4");
+    assertThat(new Configuration(cliOps, props).getParallelism()).isEqualTo(4);
+
+    for (String value : Arrays.asList("", "four", "0", "-2")) {
+      cliOps.put(CommandLineInterface.PARALLELISM_OPTION, value);
+      Configuration config = new Configuration(cliOps, props);
+      assertThatThrownBy(config::getParallelism)
+          .isInstanceOf(ConfigurationException.class)
+          .hasMessageContaining(CommandLineInterface.PARALLELISM_OPTION);
+    }
+  }
 }
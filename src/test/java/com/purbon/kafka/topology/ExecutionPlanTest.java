@@ -2,14 +2,22 @@ package com.purbon.kafka.topology;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.purbon.kafka.topology.actions.access.ClearBindings;
 import com.purbon.kafka.topology.actions.access.CreateBindings;
 import com.purbon.kafka.topology.actions.topics.CreateTopicAction;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
 import com.purbon.kafka.topology.actions.topics.DeleteTopics;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.exceptions.BindingsFailureException;
+import com.purbon.kafka.topology.exceptions.TopicDeletionFailureException;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.model.Project;
@@ -21,14 +29,21 @@ import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
 import com.purbon.kafka.topology.utils.TestUtils;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
 import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -73,6 +88,25 @@ public class ExecutionPlanTest {
     assertEquals(2, backendController.size());
   }
 
+  @Test
+  public void onlyCreatedBindingsAreTrackedOnPartialFailureTest() throws IOException {
+    TopologyAclBinding binding1 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicA", "*", "ALL", "User:foo", "LITERAL");
+    TopologyAclBinding binding2 =
+        new TopologyAclBinding(
+            ResourceType.ANY.name(), "topicB", "*", "ALL", "User:foo", "LITERAL");
+    Set<TopologyAclBinding> bindings = new HashSet<>(Arrays.asList(binding1, binding2));
+    doThrow(new BindingsFailureException("failed", Collections.singleton(binding2)))
+        .when(aclsProvider)
+        .createBindings(bindings);
+
+    plan.add(new CreateBindings(aclsProvider, bindings));
+
+    assertThrows(BindingsFailureException.class, () -> plan.run());
+    assertEquals(Collections.singleton(binding1), plan.getBindings());
+  }
+
   @Test
   public void deleteBindingsAfterCreateTest() throws IOException {
     TopologyAclBinding binding1 =
@@ -133,6 +167,44 @@ public class ExecutionPlanTest {
     assertEquals(2, backendController.size());
   }
 
+  @Test
+  public void addTopicsInBatchTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    Map<String, Topic> topics = new HashMap<>();
+    topics.put(topicFoo.toString(), topicFoo);
+    topics.put(topicBar.toString(), topicBar);
+
+    plan.add(new CreateTopicsAction(adminClient, topics));
+    plan.run();
+
+    verify(adminClient, times(1)).createTopics(topics);
+    assertEquals(2, backendController.size());
+  }
+
+  @Test
+  public void addTopicsInBatchWithPartialFailureTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    Map<String, Topic> topics = new HashMap<>();
+    topics.put(topicFoo.toString(), topicFoo);
+    topics.put(topicBar.toString(), topicBar);
+
+    when(adminClient.createTopics(topics))
+        .thenReturn(
+            Collections.singletonMap(
+                topicBar.toString(), new InvalidReplicationFactorException("too many replicas")));
+
+    plan.add(new CreateTopicsAction(adminClient, topics));
+    assertThrows(IOException.class, () -> plan.run());
+
+    assertEquals(Collections.singleton(topicFoo.toString()), plan.getTopics());
+  }
+
   @Test
   public void deleteTopicsPreviouslyAddedTest() throws IOException {
     Topology topology = buildTopologyForTest();
@@ -164,10 +236,108 @@ public class ExecutionPlanTest {
 
     plan.run();
 
-    verify(adminClient, times(1)).deleteTopics(singletonList(topicFoo.toString()));
+    verify(adminClient, times(1)).deleteTopicsInChunks(singletonList(topicFoo.toString()));
     assertEquals(1, backendController.size());
   }
 
+  @Test
+  public void onlyDeletedTopicsAreTrackedOnPartialFailureTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.run();
+
+    BackendController backendController = new BackendController();
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream);
+    var topics = Arrays.asList(topicFoo.toString(), topicBar.toString());
+    doThrow(new TopicDeletionFailureException("failed", Collections.singleton(topicFoo.toString())))
+        .when(adminClient)
+        .deleteTopicsInChunks(topics);
+
+    plan.add(new DeleteTopics(adminClient, topics));
+
+    assertThrows(TopicDeletionFailureException.class, () -> plan.run());
+    assertEquals(Collections.singleton(topicBar.toString()), plan.getTopics());
+  }
+
+  @Test
+  public void parallelRunTracksTheSameStateTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+    TopologyAclBinding binding =
+        new TopologyAclBinding(
+            ResourceType.TOPIC.name(), topicFoo.toString(), "*", "ALL", "User:foo", "LITERAL");
+
+    plan.add(new DeleteTopics(adminClient, singletonList(topicBar.toString())));
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    plan.add(new CreateBindings(aclsProvider, Collections.singleton(binding)));
+
+    plan.run(false, 4);
+
+    // the topic deletion runs and is tracked last, whatever its position in the plan
+    var inOrder = Mockito.inOrder(adminClient);
+    inOrder.verify(adminClient).createTopic(topicBar, topicBar.toString());
+    inOrder.verify(adminClient).deleteTopicsInChunks(singletonList(topicBar.toString()));
+    assertEquals(Collections.singleton(topicFoo.toString()), plan.getTopics());
+    assertEquals(Collections.singleton(binding), plan.getBindings());
+  }
+
+  @Test
+  public void failedRunIsResumedFromTheJournalTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    Topic topicBar = topology.getProjects().get(0).getTopics().get(1);
+    TopologyAclBinding binding =
+        new TopologyAclBinding(
+            ResourceType.TOPIC.name(), topicFoo.toString(), "*", "ALL", "User:foo", "LITERAL");
+    Set<TopologyAclBinding> bindings = Collections.singleton(binding);
+    doThrow(new IOException("failed")).when(aclsProvider).createBindings(bindings);
+
+    backendController.setJournalBatchSize(10);
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateBindings(aclsProvider, bindings));
+    plan.add(new CreateTopicAction(adminClient, topicBar, topicBar.toString()));
+    assertThrows(IOException.class, () -> plan.run());
+
+    BackendController backendController = new BackendController();
+    backendController.setJournalBatchSize(10);
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream);
+    assertEquals(Collections.singleton(topicFoo.toString()), plan.getTopics());
+    assertTrue(plan.getBindings().isEmpty());
+
+    plan.run();
+    assertFalse(Files.exists(Paths.get(BackendController.JOURNAL_FILE_NAME)));
+  }
+
+  @Test
+  public void leftoverJournalIsDiscardedWhenTheJournalIsDisabledTest() throws IOException {
+    Topology topology = buildTopologyForTest();
+    Topic topicFoo = topology.getProjects().get(0).getTopics().get(0);
+    TopologyAclBinding binding =
+        new TopologyAclBinding(
+            ResourceType.TOPIC.name(), topicFoo.toString(), "*", "ALL", "User:foo", "LITERAL");
+    Set<TopologyAclBinding> bindings = Collections.singleton(binding);
+    doThrow(new IOException("failed")).when(aclsProvider).createBindings(bindings);
+
+    backendController.setJournalBatchSize(10);
+    plan.add(new CreateTopicAction(adminClient, topicFoo, topicFoo.toString()));
+    plan.add(new CreateBindings(aclsProvider, bindings));
+    assertThrows(IOException.class, () -> plan.run());
+    assertTrue(Files.exists(Paths.get(BackendController.JOURNAL_FILE_NAME)));
+
+    // the journal is disabled: the leftover entries are not replayed, and are removed so they
+    // are not replayed over a newer state once the journal is enabled again
+    BackendController backendController = new BackendController();
+    ExecutionPlan plan = ExecutionPlan.init(backendController, mockPrintStream);
+    assertTrue(plan.getTopics().isEmpty());
+    assertFalse(Files.exists(Paths.get(BackendController.JOURNAL_FILE_NAME)));
+  }
+
   private Topology buildTopologyForTest() {
     Topology topology = new TopologyImpl();
     topology.setContext("context");
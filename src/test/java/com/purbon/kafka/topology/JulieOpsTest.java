@@ -2,6 +2,8 @@ package com.purbon.kafka.topology;
 
 import static com.purbon.kafka.topology.CommandLineInterface.*;
 import static com.purbon.kafka.topology.Constants.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
@@ -9,11 +11,16 @@ import com.purbon.kafka.topology.audit.VoidAuditor;
 import com.purbon.kafka.topology.backend.BackendState;
 import com.purbon.kafka.topology.backend.RedisBackend;
 import com.purbon.kafka.topology.exceptions.TopologyParsingException;
+import com.purbon.kafka.topology.exceptions.ValidationException;
 import com.purbon.kafka.topology.utils.TestUtils;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.junit.Before;
 import org.junit.Rule;
@@ -219,6 +226,135 @@ public class JulieOpsTest {
     verify(accessControlManager, times(1)).updatePlan(any(ExecutionPlan.class), any(Map.class));
   }
 
+  @Test
+  public void unchangedRunIsSkippedWithTheNoopFastPath() throws Exception {
+    props.put(JULIE_NOOP_FAST_PATH_ENABLED, "true");
+    String fileOrDirPath = TestUtils.getResourceFilename("/descriptor.yaml");
+
+    Configuration builderConfig = new Configuration(cliOps, props);
+
+    JulieOps builder =
+        JulieOps.build(
+            fileOrDirPath,
+            builderConfig,
+            topologyAdminClient,
+            accessControlProvider,
+            bindingsBuilderProvider);
+
+    builder.setTopicManager(topicManager);
+    builder.setAccessControlManager(accessControlManager);
+    builder.setConnectorManager(connectorManager);
+    builder.setKSqlArtefactManager(ksqlArtefactManager);
+
+    // the state saved by a run is the one loaded by the next one
+    BackendState state = new BackendState();
+    when(stateProcessor.load()).thenReturn(state);
+
+    builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor());
+    builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor());
+    verify(topicManager, times(1)).updatePlan(any(ExecutionPlan.class), any(Map.class));
+
+    when(topicManager.currentTopics(any(ClusterSnapshot.class))).thenReturn(Set.of("foo"));
+    builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor());
+    builder.close();
+
+    verify(topicManager, times(2)).updatePlan(any(ExecutionPlan.class), any(Map.class));
+    verify(accessControlManager, times(2)).updatePlan(any(ExecutionPlan.class), any(Map.class));
+  }
+
+  @Test
+  public void planIsWrittenWhenNothingChangedWithTheNoopFastPath() throws Exception {
+    props.put(JULIE_NOOP_FAST_PATH_ENABLED, "true");
+    BackendState state = new BackendState();
+    when(stateProcessor.load()).thenReturn(state);
+    Path planFile = Files.createTempFile("plan", ".json");
+    Files.delete(planFile);
+
+    JulieOps builder = buildWithMockedManagers(new Configuration(cliOps, props));
+    builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor());
+    builder.close();
+
+    Map<String, String> planOutOps = new HashMap<>(cliOps);
+    planOutOps.put(PLAN_OUT_OPTION, planFile.toString());
+    builder = buildWithMockedManagers(new Configuration(planOutOps, props));
+    builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor());
+    builder.close();
+
+    assertThat(planFile).exists();
+    verify(topicManager, times(2)).updatePlan(any(ExecutionPlan.class), any(Map.class));
+    Files.delete(planFile);
+  }
+
+  @Test
+  public void planOfAChangedClusterIsNotApplied() throws Exception {
+    Path planFile = Files.createTempFile("plan", ".json");
+    PlanArtifact.write(planFile, Collections.emptyList(), "fingerprint of another cluster state");
+    cliOps.put(APPLY_PLAN_OPTION, planFile.toString());
+
+    JulieOps builder = buildWithMockedManagers(new Configuration(cliOps, props));
+
+    assertThatThrownBy(
+            () -> builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor()))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("The cluster changed since the execution plan");
+    builder.close();
+
+    verify(topicManager, never()).updatePlan(any(ExecutionPlan.class), any(Map.class));
+    Files.delete(planFile);
+  }
+
+  @Test
+  public void failingToWriteTheProfileKeepsTheFailureOfTheRun() throws Exception {
+    Path planFile = Files.createTempFile("plan", ".json");
+    PlanArtifact.write(planFile, Collections.emptyList(), "fingerprint of another cluster state");
+    cliOps.put(APPLY_PLAN_OPTION, planFile.toString());
+    cliOps.put(
+        PROFILE_OPTION, planFile.resolveSibling("missing-dir").resolve("profile.json").toString());
+
+    JulieOps builder = buildWithMockedManagers(new Configuration(cliOps, props));
+
+    assertThatThrownBy(
+            () -> builder.run(new BackendController(stateProcessor), System.out, new VoidAuditor()))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("The cluster changed since the execution plan");
+    builder.close();
+    Files.delete(planFile);
+  }
+
+  @Test
+  public void profileIsWrittenWhenTheTopologyFailsValidation() throws Exception {
+    Path profile = Files.createTempFile("profile", ".json");
+    Files.delete(profile);
+    cliOps.put(PROFILE_OPTION, profile.toString());
+    props.put(
+        TOPOLOGY_VALIDATIONS_CONFIG,
+        Collections.singletonList(
+            "com.purbon.kafka.topology.validation.topic.TopicNameRegexValidation"));
+    props.put(TOPOLOGY_VALIDATIONS_TOPIC_NAME_REGEXP, "[0-9]*");
+
+    assertThatThrownBy(() -> buildWithMockedManagers(new Configuration(cliOps, props)))
+        .isInstanceOf(ValidationException.class);
+
+    assertThat(profile).exists();
+    assertThat(Files.readString(profile)).contains("validate topology");
+    Files.delete(profile);
+  }
+
+  private JulieOps buildWithMockedManagers(Configuration builderConfig) throws Exception {
+    JulieOps builder =
+        JulieOps.build(
+            TestUtils.getResourceFilename("/descriptor.yaml"),
+            builderConfig,
+            topologyAdminClient,
+            accessControlProvider,
+            bindingsBuilderProvider);
+    builder.setTopicManager(topicManager);
+    builder.setAccessControlManager(accessControlManager);
+    builder.setConnectorManager(connectorManager);
+    builder.setKSqlArtefactManager(ksqlArtefactManager);
+    return builder;
+  }
+
   @Test
   public void builderRunTestAsFromDirectoryWithSchema() throws Exception {
     String fileOrDirPath = TestUtils.getResourceFilename("/dir_with_subdir");
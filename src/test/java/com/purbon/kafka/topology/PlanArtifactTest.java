@@ -0,0 +1,166 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.access.ClearBindings;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.accounts.CreateAccounts;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.api.adminclient.AclBuilder;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.cluster.ServiceAccount;
+import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PlanArtifactTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock SimpleAclsProvider aclsProvider;
+  @Mock PrincipalProvider principalProvider;
+  @Mock SchemaRegistryManager schemaRegistryManager;
+  @Mock KafkaConnectArtefactManager connectorManager;
+  @Mock TopicManager topicManager;
+  @Mock AccessControlManager accessControlManager;
+
+  private Path planFile;
+  private PlanArtifact.Clients clients;
+
+  @Before
+  public void before() throws IOException {
+    planFile = Files.createTempFile("plan", ".json");
+    clients =
+        new PlanArtifact.Clients(
+            adminClient, aclsProvider, principalProvider, schemaRegistryManager, connectorManager);
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(planFile);
+  }
+
+  @Test
+  public void shouldWriteAndReadThePlan() throws IOException {
+    Map<String, String> config = new HashMap<>();
+    config.put("num.partitions", "3");
+    config.put("retention.ms", "1000");
+    Topic topic = new Topic("foo", config);
+    List<Action> actions =
+        Arrays.asList(
+            new CreateAccounts(
+                principalProvider,
+                Collections.singleton(new ServiceAccount("1", "User:foo", "the foo account"))),
+            new CreateTopicsAction(adminClient, Collections.singletonMap("ctx.foo", topic)),
+            new CreateBindings(aclsProvider, Collections.singleton(aclBinding("ctx.foo"))),
+            new ClearBindings(aclsProvider, Collections.singleton(binding("ctx.old"))),
+            new DeleteTopics(adminClient, Collections.singletonList("ctx.old")));
+
+    PlanArtifact.write(planFile, actions, "fingerprint");
+    PlanArtifact artifact = PlanArtifact.read(planFile);
+    List<Action> decoded = artifact.actions(clients);
+
+    assertThat(artifact.getRemoteStateFingerprint()).isEqualTo("fingerprint");
+    assertThat(decoded).hasSize(5);
+    assertThat(((CreateAccounts) decoded.get(0)).getPrincipals())
+        .extracting(ServiceAccount::getName)
+        .containsExactly("User:foo");
+    Topic decodedTopic = ((CreateTopicsAction) decoded.get(1)).getTopics().get("ctx.foo");
+    assertThat(decodedTopic.partitionsCount()).isEqualTo(3);
+    assertThat(decodedTopic.getRawConfig()).containsEntry("retention.ms", "1000");
+    List<TopologyAclBinding> created = ((CreateBindings) decoded.get(2)).getAclBindings();
+    assertThat(created).containsExactly(aclBinding("ctx.foo"));
+    assertThat(created.get(0).asAclBinding()).contains(aclBinding("ctx.foo").asAclBinding().get());
+    assertThat(((ClearBindings) decoded.get(3)).getAclBindings())
+        .containsExactly(binding("ctx.old"));
+    assertThat(((DeleteTopics) decoded.get(4)).getTopicsToBeDeleted()).containsExactly("ctx.old");
+  }
+
+  @Test
+  public void shouldRejectPlansOfAnotherVersion() throws IOException {
+    Files.writeString(planFile, "{\"version\":0,\"remoteStateFingerprint\":\"\",\"actions\":[]}");
+
+    assertThatThrownBy(() -> PlanArtifact.read(planFile))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("version 0");
+  }
+
+  @Test
+  public void shouldRejectActionsThatCanNotBeWritten() {
+    Action action = () -> {};
+
+    assertThatThrownBy(
+            () -> PlanArtifact.write(planFile, Collections.singletonList(action), "fingerprint"))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("can not be written to a plan file");
+  }
+
+  @Test
+  public void shouldFingerprintTheRemoteState() throws IOException {
+    ClusterSnapshot snapshot = new ClusterSnapshot();
+    List<Action> actions =
+        Collections.singletonList(
+            new CreateBindings(aclsProvider, Collections.singleton(binding("ctx.foo"))));
+    when(topicManager.currentTopics(snapshot)).thenReturn(Set.of("ctx.foo"));
+    when(accessControlManager.currentBindings(snapshot))
+        .thenReturn(Collections.singleton(binding("ctx.bar")));
+
+    String fingerprint = remoteStateFingerprint(actions, snapshot);
+    assertThat(remoteStateFingerprint(actions, snapshot)).isEqualTo(fingerprint);
+
+    // same number of bindings, another binding
+    when(accessControlManager.currentBindings(snapshot))
+        .thenReturn(Collections.singleton(binding("ctx.baz")));
+    assertThat(remoteStateFingerprint(actions, snapshot)).isNotEqualTo(fingerprint);
+
+    when(accessControlManager.currentBindings(snapshot))
+        .thenReturn(Collections.singleton(binding("ctx.bar")));
+    when(topicManager.currentTopics(snapshot)).thenReturn(Set.of("ctx.foo", "ctx.new"));
+    assertThat(remoteStateFingerprint(actions, snapshot)).isNotEqualTo(fingerprint);
+  }
+
+  private String remoteStateFingerprint(List<Action> actions, ClusterSnapshot snapshot)
+      throws IOException {
+    return PlanArtifact.remoteStateFingerprint(
+        actions, snapshot, topicManager, accessControlManager, connectorManager);
+  }
+
+  private TopologyAclBinding aclBinding(String topic) {
+    return new TopologyAclBinding(
+        new AclBuilder("User:foo")
+            .addResource(ResourceType.TOPIC, topic, PatternType.LITERAL)
+            .addControlEntry("*", AclOperation.READ, AclPermissionType.ALLOW)
+            .build());
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
+}
@@ -0,0 +1,88 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.access.ClearBindings;
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.topics.CreateTopicsAction;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
+import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PlanOptimizerTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock TopologyBuilderAdminClient otherAdminClient;
+  @Mock SimpleAclsProvider aclsProvider;
+  @Mock SchemaRegistryManager schemaRegistryManager;
+
+  @Test
+  public void shouldRemoveActionsWithNothingToDo() {
+    Topic withSchema = new Topic("foo");
+    withSchema.setSchemas(
+        Collections.singletonList(new TopicSchemas(null, "schemas/foo-value.avsc")));
+    List<Action> actions =
+        Arrays.asList(
+            new RegisterSchemaAction(schemaRegistryManager, new Topic("bar"), "bar"),
+            new RegisterSchemaAction(schemaRegistryManager, withSchema, "foo"),
+            new CreateBindings(aclsProvider, Collections.emptySet()));
+
+    PlanOptimizer optimizer = new PlanOptimizer();
+    List<Action> optimized = optimizer.optimize(actions);
+
+    assertThat(optimized).hasSize(1);
+    assertThat(((RegisterSchemaAction) optimized.get(0)).getTopics()).containsExactly("foo");
+    assertThat(optimizer.getRemovedActions()).isEqualTo(2);
+    assertThat(optimizer.getMergedActions()).isZero();
+  }
+
+  @Test
+  public void shouldMergeActionsOfTheSameTypeAndClient() {
+    List<Action> actions =
+        Arrays.asList(
+            new CreateTopicsAction(adminClient, Collections.singletonMap("foo", new Topic("foo"))),
+            new DeleteTopics(adminClient, Collections.singletonList("old")),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("foo"))),
+            new CreateTopicsAction(adminClient, Collections.singletonMap("bar", new Topic("bar"))),
+            new CreateTopicsAction(
+                otherAdminClient, Collections.singletonMap("zet", new Topic("zet"))),
+            new ClearBindings(aclsProvider, Collections.singleton(binding("old"))),
+            new CreateBindings(aclsProvider, Collections.singleton(binding("bar"))));
+
+    PlanOptimizer optimizer = new PlanOptimizer();
+    List<Action> optimized = optimizer.optimize(actions);
+
+    assertThat(optimized).hasSize(5);
+    assertThat(((CreateTopicsAction) optimized.get(0)).getTopics()).containsOnlyKeys("foo", "bar");
+    assertThat(((CreateTopicsAction) optimized.get(1)).getTopics()).containsOnlyKeys("zet");
+    assertThat(((CreateBindings) optimized.get(2)).getAclBindings())
+        .containsExactlyInAnyOrder(binding("foo"), binding("bar"));
+    // deletions are moved last, in plan order
+    assertThat(optimized.get(3)).isInstanceOf(DeleteTopics.class);
+    assertThat(optimized.get(4)).isInstanceOf(ClearBindings.class);
+    assertThat(optimizer.getMergedActions()).isEqualTo(2);
+    assertThat(optimizer.getRemovedActions()).isZero();
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
+}
@@ -0,0 +1,64 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.actions.access.CreateBindings;
+import com.purbon.kafka.topology.actions.topics.DeleteTopics;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PlanPrinterTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopologyBuilderAdminClient adminClient;
+  @Mock SimpleAclsProvider aclsProvider;
+
+  private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+  @Test
+  public void shouldPrintOneActionPerLine() throws IOException {
+    PlanPrinter printer = new PlanPrinter(new PrintStream(output), PlanPrinter.Format.JSONL);
+    printer.print(new DeleteTopics(adminClient, Arrays.asList("foo", "bar")));
+    printer.print(new CreateBindings(aclsProvider, new HashSet<>()));
+    printer.finish();
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(JSON.toNode(lines[0]).get("topics").size()).isEqualTo(2);
+    assertThat(JSON.toNode(lines[1]).get("Bindings").size()).isZero();
+  }
+
+  @Test
+  public void shouldPrintASummary() throws IOException {
+    PlanPrinter printer = new PlanPrinter(new PrintStream(output), PlanPrinter.Format.SUMMARY);
+    printer.print(new DeleteTopics(adminClient, Arrays.asList("foo", "bar")));
+    printer.print(new CreateBindings(aclsProvider, new HashSet<>(Arrays.asList(binding("foo")))));
+    printer.print(new CreateBindings(aclsProvider, new HashSet<>(Arrays.asList(binding("bar")))));
+    printer.finish();
+
+    assertThat(output.toString(StandardCharsets.UTF_8))
+        .contains("DeleteTopics: 1 actions, 2 resources")
+        .contains("CreateBindings: 2 actions, 2 resources")
+        .contains("Total: 3 actions, 4 resources");
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
+}
@@ -0,0 +1,90 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class RunFingerprintTest {
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock TopicManager topicManager;
+  @Mock AccessControlManager accessControlManager;
+
+  private final ClusterSnapshot snapshot = new ClusterSnapshot();
+  private RunFingerprint fingerprint;
+
+  @Before
+  public void before() throws IOException {
+    fingerprint = new RunFingerprint("local", topicManager, accessControlManager);
+    when(topicManager.currentTopics(snapshot)).thenReturn(Set.of("foo", "bar"));
+    when(topicManager.currentTopicDescriptions(any(), anyCollection()))
+        .thenReturn(Collections.emptyMap());
+    configs("1000");
+    bindings(binding("foo"));
+  }
+
+  @Test
+  public void shouldDetectAReplacedBindingWithTheSameCount() throws IOException {
+    String before = fingerprint.compute(snapshot);
+
+    bindings(binding("bar"));
+
+    assertThat(fingerprint.compute(snapshot)).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldDetectAChangedTopicConfig() throws IOException {
+    String before = fingerprint.compute(snapshot);
+
+    configs("2000");
+
+    assertThat(fingerprint.compute(snapshot)).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldDetectARenamedTopic() throws IOException {
+    String before = fingerprint.compute(snapshot);
+
+    when(topicManager.currentTopics(snapshot)).thenReturn(Set.of("foo", "baz"));
+
+    assertThat(fingerprint.compute(snapshot)).isNotEqualTo(before);
+  }
+
+  @Test
+  public void shouldMatchAnUnchangedCluster() throws IOException {
+    assertThat(fingerprint.compute(snapshot)).isEqualTo(fingerprint.compute(snapshot));
+  }
+
+  private void configs(String retention) throws IOException {
+    Config config =
+        new Config(Collections.singletonList(new ConfigEntry("retention.ms", retention)));
+    when(topicManager.currentTopicConfigs(any(), anyCollection()))
+        .thenReturn(Map.of("foo", config, "bar", config));
+  }
+
+  private void bindings(TopologyAclBinding binding) throws IOException {
+    when(accessControlManager.currentBindings(snapshot)).thenReturn(Set.of(binding));
+  }
+
+  private TopologyAclBinding binding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
+}
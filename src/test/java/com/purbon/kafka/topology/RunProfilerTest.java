@@ -0,0 +1,58 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Test;
+
+public class RunProfilerTest {
+
+  @Test
+  public void shouldAddUpEachPhase() throws IOException {
+    RunProfiler profiler = new RunProfiler();
+    for (int i = 0; i < 2; i++) {
+      try (RunProfiler.Phase phase = profiler.start("execute CreateTopicsAction")) {
+        byte[] allocated = new byte[1024 * 1024];
+        assertThat(allocated).hasSize(1024 * 1024);
+      }
+    }
+    try (RunProfiler.Phase phase = profiler.start("backend flush")) {}
+
+    Path report = Files.createTempFile("profile", ".json");
+    try {
+      profiler.writeReport(report);
+      JsonNode phases = JSON.toNode(Files.readString(report)).get("phases");
+
+      assertThat(phases.size()).isEqualTo(2);
+      assertThat(phases.get(0).get("phase").asText()).isEqualTo("execute CreateTopicsAction");
+      assertThat(phases.get(0).get("count").asLong()).isEqualTo(2);
+      assertThat(phases.get(0).get("allocatedBytes").asLong()).isGreaterThan(2 * 1024 * 1024);
+      assertThat(phases.get(1).get("phase").asText()).isEqualTo("backend flush");
+    } finally {
+      Files.deleteIfExists(report);
+    }
+
+    ByteArrayOutputStream table = new ByteArrayOutputStream();
+    profiler.printTable(new PrintStream(table));
+    assertThat(table.toString(StandardCharsets.UTF_8))
+        .contains("Phase")
+        .contains("execute CreateTopicsAction")
+        .contains("backend flush");
+  }
+
+  @Test
+  public void shouldRecordNothingWhenDisabled() {
+    try (RunProfiler.Phase phase = RunProfiler.DISABLED.start("parse topology")) {}
+
+    ByteArrayOutputStream table = new ByteArrayOutputStream();
+    RunProfiler.DISABLED.printTable(new PrintStream(table));
+    assertThat(table.toString(StandardCharsets.UTF_8)).doesNotContain("parse topology");
+  }
+}
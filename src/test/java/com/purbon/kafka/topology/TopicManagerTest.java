@@ -3,15 +3,20 @@ package com.purbon.kafka.topology;
 import static com.purbon.kafka.topology.CommandLineInterface.BROKERS_OPTION;
 import static com.purbon.kafka.topology.Constants.*;
 import static com.purbon.kafka.topology.TopicManager.NUM_PARTITIONS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 import com.purbon.kafka.topology.actions.Action;
+import com.purbon.kafka.topology.actions.topics.RegisterSchemaAction;
+import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
+import com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
 import com.purbon.kafka.topology.model.Project;
 import com.purbon.kafka.topology.model.Topic;
 import com.purbon.kafka.topology.model.Topology;
+import com.purbon.kafka.topology.model.schema.TopicSchemas;
 import com.purbon.kafka.topology.model.users.Consumer;
 import com.purbon.kafka.topology.model.users.Producer;
 import com.purbon.kafka.topology.schemas.SchemaRegistryManager;
@@ -23,9 +28,11 @@ import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -80,8 +87,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
+    assertThat(createdTopics()).contains(topicA.toString());
+    assertThat(createdTopics()).contains(topicB.toString());
   }
 
   @Test
@@ -99,9 +106,9 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
-    verify(adminClient, times(0)).updatePartitionCount(topicB, topicB.toString());
+    assertThat(createdTopics()).contains(topicA.toString());
+    assertThat(createdTopics()).contains(topicB.toString());
+    verify(adminClient, times(0)).updatePartitionCounts(anyMap());
 
     ExecutionPlan plan = ExecutionPlan.init(backendController, System.out);
     Configuration config = new Configuration(cliOps, props);
@@ -123,10 +130,11 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(0)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(0)).createTopic(topicB, topicB.toString());
-    verify(adminClient, times(0)).updatePartitionCount(topicA, topicB.toString());
-    verify(adminClient, times(1)).updatePartitionCount(topicB, topicB.toString());
+    // only the batch of the first run has been sent
+    verify(adminClient, times(1)).createTopics(anyMap());
+    String topicBName = topicB.toString();
+    verify(adminClient, times(1))
+        .updatePartitionCounts(argThat(counts -> counts.get(topicBName) == 12));
   }
 
   @Test
@@ -171,9 +179,9 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
-    verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicCFullName));
+    assertThat(createdTopics()).contains(topicA.toString());
+    assertThat(createdTopics()).contains(topicB.toString());
+    verify(adminClient, times(1)).deleteTopicsInChunks(Collections.singletonList(topicCFullName));
   }
 
   @Test
@@ -210,9 +218,9 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(1)).createTopic(topicB, topicB.toString());
-    verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicC));
+    assertThat(createdTopics()).contains(topicA.toString());
+    assertThat(createdTopics()).contains(topicB.toString());
+    verify(adminClient, times(1)).deleteTopicsInChunks(Collections.singletonList(topicC));
   }
 
   @Test
@@ -246,7 +254,7 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(0)).deleteTopics(Collections.singletonList(topicC));
+    verify(adminClient, times(0)).deleteTopicsInChunks(Collections.singletonList(topicC));
   }
 
   @Test
@@ -280,7 +288,7 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).deleteTopics(Collections.singletonList(topicC));
+    verify(adminClient, times(1)).deleteTopicsInChunks(Collections.singletonList(topicC));
   }
 
   @Test
@@ -314,7 +322,105 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(0)).deleteTopics(Collections.singletonList(topicC));
+    verify(adminClient, times(0)).deleteTopicsInChunks(Collections.singletonList(topicC));
+  }
+
+  @Test
+  public void remoteTopicsAreListedOncePerRun() throws IOException {
+    props.put(TOPOLOGY_TOPIC_STATE_FROM_CLUSTER, "true");
+    props.put(JULIE_VERIFY_STATE_SYNC, "true");
+    props.put(ALLOW_DELETE_TOPICS, "true");
+    Configuration config = new Configuration(cliOps, props);
+    TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Project project = new ProjectImpl("project");
+    Topic topicA = new Topic("topicA");
+    project.addTopic(topicA);
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+
+    when(adminClient.listApplicationTopics()).thenReturn(new HashSet<>());
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+    Set<String> currentTopics = topicManager.currentTopics(plan.getClusterSnapshot());
+
+    verify(adminClient, times(1)).listApplicationTopics();
+    verify(adminClient, times(0)).listTopics();
+    assertThat(currentTopics).containsExactly(topicA.toString());
+  }
+
+  @Test
+  public void unchangedTopicsAreNotComparedUntilTheNextFullSweep() throws IOException {
+    props.put(JULIE_TOPIC_FULL_SWEEP_INTERVAL_MS, "3600000");
+    Configuration config = new Configuration(cliOps, props);
+    TopicManager topicManager = new TopicManager(adminClient, schemaRegistryManager, config);
+
+    Map<String, String> retention = Collections.singletonMap("retention.ms", "1000");
+    Project project = new ProjectImpl("project");
+    project.addTopic(new Topic("topicA", retention));
+    project.addTopic(new Topic("topicB"));
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+
+    topicManager.updatePlan(topology, plan);
+    plan.run();
+
+    project = new ProjectImpl("project");
+    Topic topicA = new Topic("topicA", retention);
+    project.addTopic(topicA);
+    Topic topicB = new Topic("topicB", retention);
+    project.addTopic(topicB);
+    topology = new TopologyImpl();
+    topology.addProject(project);
+
+    // the retention of topicA was changed outside of JulieOps, only a full sweep detects it
+    Config changed = new Config(Collections.singletonList(new ConfigEntry("retention.ms", "5000")));
+    doAnswer(
+            invocation -> {
+              Collection<String> names = invocation.getArgument(0);
+              return names.stream().collect(Collectors.toMap(name -> name, name -> changed));
+            })
+        .when(adminClient)
+        .getActualTopicConfigs(anyCollection());
+    ExecutionPlan plan = ExecutionPlan.init(backendController, System.out);
+    topicManager.updatePlan(topology, plan);
+
+    verify(adminClient, times(1)).getActualTopicConfigs(List.of(topicB.toString()));
+    verify(adminClient, times(1)).getTopicDescriptions(List.of(topicB.toString()));
+    verify(adminClient, never()).getActualTopicConfig(any());
+    List<TopicConfigUpdatePlan> updates =
+        plan.getActions().stream()
+            .filter(action -> action instanceof UpdateTopicConfigsAction)
+            .flatMap(
+                action -> ((UpdateTopicConfigsAction) action).getTopicConfigUpdatePlans().stream())
+            .collect(Collectors.toList());
+    assertThat(updates)
+        .extracting(TopicConfigUpdatePlan::getFullTopicName)
+        .containsExactly(topicB.toString());
+  }
+
+  @Test
+  public void schemasOfAllTopicsAreRegisteredByASingleAction() throws IOException {
+    Project project = new ProjectImpl("project");
+    Topic topicA = new Topic("topicA");
+    topicA.setSchemas(Collections.singletonList(new TopicSchemas(null, "schemas/a-value.avsc")));
+    project.addTopic(topicA);
+    Topic topicB = new Topic("topicB");
+    topicB.setSchemas(Collections.singletonList(new TopicSchemas(null, "schemas/b-value.avsc")));
+    project.addTopic(topicB);
+    project.addTopic(new Topic("topicC"));
+    Topology topology = new TopologyImpl();
+    topology.addProject(project);
+
+    topicManager.updatePlan(topology, plan);
+
+    List<RegisterSchemaAction> actions =
+        plan.getActions().stream()
+            .filter(action -> action instanceof RegisterSchemaAction)
+            .map(action -> (RegisterSchemaAction) action)
+            .collect(Collectors.toList());
+    assertThat(actions).hasSize(1);
+    assertThat(actions.get(0).getTopics()).contains(topicA.toString(), topicB.toString());
   }
 
   @Test
@@ -336,7 +442,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run(true);
 
-    verify(outputStream, times(2)).println(any(Action.class));
+    // both new topics are created by a single batched action
+    verify(outputStream, times(1)).println(any(Action.class));
   }
 
   @Test
@@ -361,8 +468,8 @@ public class TopicManagerTest {
     topicManager.updatePlan(topology, plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, topicA.toString());
-    verify(adminClient, times(0)).createTopic(topicB, topicB.toString());
+    assertThat(createdTopics()).contains(topicA.toString());
+    assertThat(createdTopics()).doesNotContain(topicB.toString());
   }
 
   @Test
@@ -379,6 +486,14 @@ public class TopicManagerTest {
     topicManager.updatePlan(builder.buildTopology(), plan);
     plan.run();
 
-    verify(adminClient, times(1)).createTopic(topicA, "TopicA");
+    assertThat(createdTopics()).contains("TopicA");
+  }
+
+  /** The topics created by the single batched createTopics request of the run. */
+  @SuppressWarnings("unchecked")
+  private Set<String> createdTopics() throws IOException {
+    ArgumentCaptor<Map<String, Topic>> captor = ArgumentCaptor.forClass(Map.class);
+    verify(adminClient, times(1)).createTopics(captor.capture());
+    return captor.getValue().keySet();
   }
 }
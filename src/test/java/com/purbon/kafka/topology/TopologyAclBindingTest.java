@@ -0,0 +1,85 @@
+package com.purbon.kafka.topology;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
+import com.purbon.kafka.topology.utils.JSON;
+import java.io.IOException;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.junit.Test;
+
+public class TopologyAclBindingTest {
+
+  @Test
+  public void shouldKeepTheJsonFormat() throws IOException {
+    String json =
+        "{\"resourceType\":\"TOPIC\",\"resourceName\":\"topicD\",\"host\":\"*\",\"operation\":\"DeveloperWrite\",\"principal\":\"User:Streams0\",\"pattern\":\"LITERAL\"}";
+
+    TopologyAclBinding binding = (TopologyAclBinding) JSON.toObject(json, TopologyAclBinding.class);
+
+    assertThat(binding)
+        .isEqualTo(
+            new TopologyAclBinding(
+                "TOPIC", "topicD", "*", "DeveloperWrite", "User:Streams0", "LITERAL"));
+    assertThat(JSON.toNode(JSON.asString(binding)).get("resourceName").asText())
+        .isEqualTo("topicD");
+    assertThat(JSON.toNode(JSON.asString(binding)).has("permissionType")).isFalse();
+  }
+
+  @Test
+  public void shouldShareTheValuesOfEqualBindings() {
+    TopologyAclBinding binding = binding("foo", "READ");
+    TopologyAclBinding other =
+        new TopologyAclBinding(
+            new String("TOPIC"),
+            new String("foo"),
+            "*",
+            new String("READ"),
+            new String("User:foo"),
+            "LITERAL");
+
+    assertThat(other).isEqualTo(binding).hasSameHashCodeAs(binding);
+    assertThat(other.getPrincipal()).isSameAs(binding.getPrincipal());
+    assertThat(other.getResourceName()).isSameAs(binding.getResourceName());
+  }
+
+  @Test
+  public void shouldUpdateTheHashWhenChanged() {
+    TopologyAclBinding binding = binding("foo", "READ");
+    int hash = binding.hashCode();
+
+    binding.setOperation("WRITE");
+
+    assertThat(binding.hashCode()).isNotEqualTo(hash);
+    assertThat(binding).isEqualTo(binding("foo", "WRITE"));
+  }
+
+  @Test
+  public void shouldCompareFieldByField() {
+    assertThat(binding("bar", "WRITE")).isLessThan(binding("foo", "READ"));
+    assertThat(binding("foo", "READ")).isLessThan(binding("foo", "WRITE"));
+    assertThat(binding("foo", "READ").compareTo(binding("foo", "READ"))).isZero();
+  }
+
+  @Test
+  public void shouldBuildBackTheKafkaAcl() {
+    AclBinding acl =
+        new AclBinding(
+            new ResourcePattern(ResourceType.GROUP, "app", PatternType.PREFIXED),
+            new AccessControlEntry("User:foo", "*", AclOperation.READ, AclPermissionType.ALLOW));
+
+    assertThat(new TopologyAclBinding(acl).asAclBinding()).contains(acl);
+    assertThat(binding("foo", "READ").asAclBinding()).isEmpty();
+  }
+
+  private TopologyAclBinding binding(String topic, String operation) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", operation, "User:foo", "LITERAL");
+  }
+}
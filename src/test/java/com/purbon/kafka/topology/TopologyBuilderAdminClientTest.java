@@ -1,8 +1,18 @@
 package com.purbon.kafka.topology;
 
+import static com.purbon.kafka.topology.Constants.JULIE_ADMIN_REQUEST_BATCH_SIZE;
+import static com.purbon.kafka.topology.Constants.JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT;
+import static com.purbon.kafka.topology.Constants.JULIE_ADMIN_REQUEST_TIMEOUT_MS;
+import static com.purbon.kafka.topology.Constants.TOPIC_MANAGED_PREFIXES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.Mockito.*;
 
+import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
 import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.backend.BackendState;
+import com.purbon.kafka.topology.exceptions.BindingsFailureException;
 import com.purbon.kafka.topology.model.*;
 import com.purbon.kafka.topology.model.Impl.ProjectImpl;
 import com.purbon.kafka.topology.model.Impl.TopologyImpl;
@@ -15,13 +25,45 @@ import com.purbon.kafka.topology.model.users.platform.ControlCenterInstance;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistry;
 import com.purbon.kafka.topology.model.users.platform.SchemaRegistryInstance;
 import com.purbon.kafka.topology.roles.SimpleAclsProvider;
+import com.purbon.kafka.topology.roles.TopologyAclBinding;
 import com.purbon.kafka.topology.roles.acls.AclsBindingsBuilder;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
 import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult.FilterResults;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.ClusterAuthorizationException;
+import org.apache.kafka.common.errors.InvalidConfigurationException;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.apache.kafka.common.errors.PolicyViolationException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -33,7 +75,6 @@ import org.mockito.junit.MockitoRule;
 public class TopologyBuilderAdminClientTest {
 
   @Mock CreateAclsResult createAclsResult;
-  @Mock KafkaFuture<Void> kafkaFuture;
   @Mock AdminClient kafkaAdminClient;
   @Mock Configuration config;
 
@@ -56,6 +97,7 @@ public class TopologyBuilderAdminClientTest {
     bindingsBuilder = new AclsBindingsBuilder(config);
     accessControlManager = new AccessControlManager(aclsProvider, bindingsBuilder);
 
+    when(backendController.getState()).thenAnswer(invocation -> new BackendState());
     plan = ExecutionPlan.init(backendController, System.out);
 
     doNothing().when(backendController).addBindings(ArgumentMatchers.anyList());
@@ -65,9 +107,16 @@ public class TopologyBuilderAdminClientTest {
     doReturn("foo").when(config).getConfluentMetricsTopic();
     doReturn("foo").when(config).getConfluentMonitoringTopic();
 
-    doReturn(new Object()).when(kafkaFuture).get();
-    doReturn(kafkaFuture).when(createAclsResult).all();
-    doReturn(createAclsResult).when(kafkaAdminClient).createAcls(anyCollection());
+    doAnswer(
+            invocation -> {
+              Collection<AclBinding> acls = invocation.getArgument(0);
+              Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+              acls.forEach(acl -> values.put(acl, KafkaFuture.completedFuture(null)));
+              doReturn(values).when(createAclsResult).values();
+              return createAclsResult;
+            })
+        .when(kafkaAdminClient)
+        .createAcls(anyCollection());
   }
 
   @Test
@@ -203,4 +252,445 @@ public class TopologyBuilderAdminClientTest {
 
     verify(kafkaAdminClient, times(1)).createAcls(anyCollection());
   }
+
+  @Test
+  public void partitionCountsAreDescribedInChunks() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    doAnswer(
+            invocation -> {
+              Collection<String> names = invocation.getArgument(0);
+              Map<String, TopicDescription> descriptions = new HashMap<>();
+              names.forEach(name -> descriptions.put(name, topicDescription(name, 3)));
+              DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+              doReturn(KafkaFuture.completedFuture(descriptions)).when(result).allTopicNames();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .describeTopics(anyCollection());
+
+    Map<String, Integer> counts = client.getPartitionCounts(Arrays.asList("a", "b", "c", "d", "e"));
+
+    assertThat(counts).hasSize(5).containsEntry("e", 3);
+    verify(kafkaAdminClient, times(3)).describeTopics(anyCollection());
+  }
+
+  @Test
+  public void topicsAreCreatedInChunksWithPerTopicResults() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    doAnswer(
+            invocation -> {
+              Collection<NewTopic> newTopics = invocation.getArgument(0);
+              Map<String, KafkaFuture<Void>> values = new HashMap<>();
+              for (NewTopic newTopic : newTopics) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (newTopic.name().equals("b")) {
+                  future.completeExceptionally(new TopicExistsException("b already exists"));
+                } else if (newTopic.name().equals("c")) {
+                  future.completeExceptionally(new InvalidReplicationFactorException("c"));
+                } else {
+                  future.complete(null);
+                }
+                values.put(newTopic.name(), future);
+              }
+              CreateTopicsResult result = mock(CreateTopicsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .createTopics(anyCollection(), any(CreateTopicsOptions.class));
+
+    Map<String, Topic> topics = new LinkedHashMap<>();
+    for (String name : Arrays.asList("a", "b", "c")) {
+      topics.put(name, new Topic(name));
+    }
+    Map<String, Throwable> errors = client.createTopics(topics);
+
+    assertThat(errors).containsOnlyKeys("c");
+    assertThat(errors.get("c")).isInstanceOf(InvalidReplicationFactorException.class);
+    verify(kafkaAdminClient, times(2))
+        .createTopics(anyCollection(), any(CreateTopicsOptions.class));
+  }
+
+  @Test
+  public void bindingsOfAFailedCreateAclsChunkAreReportedAsFailed() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+    Map<AclBinding, TopologyAclBinding> bindings = new HashMap<>();
+    for (String topic : Arrays.asList("a", "b", "c")) {
+      AclBinding acl =
+          new AclBinding(
+              new ResourcePattern(ResourceType.TOPIC, topic, PatternType.LITERAL),
+              new AccessControlEntry("User:foo", "*", AclOperation.READ, AclPermissionType.ALLOW));
+      bindings.put(acl, new TopologyAclBinding(acl));
+    }
+    AclBinding failing = bindings.keySet().iterator().next();
+
+    List<Collection<AclBinding>> chunks = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              Collection<AclBinding> acls = new ArrayList<>(invocation.getArgument(0));
+              chunks.add(acls);
+              Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+              for (AclBinding acl : acls) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                // the whole chunk holding the failing binding is rejected
+                if (acls.contains(failing)) {
+                  future.completeExceptionally(new ClusterAuthorizationException("denied"));
+                } else {
+                  future.complete(null);
+                }
+                values.put(acl, future);
+              }
+              CreateAclsResult result = mock(CreateAclsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .createAcls(anyCollection());
+
+    BindingsFailureException error =
+        catchThrowableOfType(
+            () -> new SimpleAclsProvider(client).createBindings(new HashSet<>(bindings.values())),
+            BindingsFailureException.class);
+
+    assertThat(chunks).hasSize(2);
+    Collection<AclBinding> failedChunk =
+        chunks.stream().filter(chunk -> chunk.contains(failing)).findFirst().orElseThrow();
+    Collection<AclBinding> appliedChunk =
+        chunks.stream().filter(chunk -> !chunk.contains(failing)).findFirst().orElseThrow();
+    assertThat(error.getFailedBindings())
+        .containsExactlyInAnyOrderElementsOf(
+            failedChunk.stream().map(bindings::get).collect(Collectors.toList()))
+        .doesNotContainAnyElementsOf(
+            appliedChunk.stream().map(bindings::get).collect(Collectors.toList()));
+    assertThat(error)
+        .hasMessage(String.format("Failed to create %d out of 3 bindings", failedChunk.size()));
+  }
+
+  @Test
+  public void bindingsAreClearedInChunksWithPerFilterResults() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+    TopologyAclBinding failing = aclBinding("b");
+
+    doAnswer(
+            invocation -> {
+              Collection<AclBindingFilter> filters = invocation.getArgument(0);
+              Map<AclBindingFilter, KafkaFuture<FilterResults>> values = new HashMap<>();
+              for (AclBindingFilter filter : filters) {
+                KafkaFutureImpl<FilterResults> future = new KafkaFutureImpl<>();
+                if (filter.equals(TopologyBuilderAdminClient.filterOf(failing))) {
+                  future.completeExceptionally(new ClusterAuthorizationException("denied"));
+                } else {
+                  FilterResults filterResults = mock(FilterResults.class);
+                  doReturn(Collections.emptyList()).when(filterResults).values();
+                  future.complete(filterResults);
+                }
+                values.put(filter, future);
+              }
+              DeleteAclsResult result = mock(DeleteAclsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .deleteAcls(anyCollection());
+
+    Set<TopologyAclBinding> bindings =
+        new HashSet<>(Arrays.asList(aclBinding("a"), failing, aclBinding("c")));
+
+    assertThatThrownBy(() -> new SimpleAclsProvider(client).clearBindings(bindings))
+        .isInstanceOf(BindingsFailureException.class)
+        .hasMessage("Failed to remove 1 out of 3 bindings")
+        .extracting(e -> ((BindingsFailureException) e).getFailedBindings())
+        .isEqualTo(Collections.singleton(failing));
+    verify(kafkaAdminClient, times(2)).deleteAcls(anyCollection());
+  }
+
+  @Test
+  public void aclsAreListedWithinTheManagedPrefixes() throws IOException {
+    Properties props = new Properties();
+    props.put(TOPIC_MANAGED_PREFIXES, Collections.singletonList("ctx."));
+    SimpleAclsProvider provider =
+        new SimpleAclsProvider(adminClient, new Configuration(new HashMap<>(), props));
+
+    DescribeAclsResult result = mock(DescribeAclsResult.class);
+    doReturn(KafkaFuture.completedFuture(List.of(topicAcl("ctx.foo"), topicAcl("other.foo"))))
+        .when(result)
+        .values();
+    doReturn(result).when(kafkaAdminClient).describeAcls(AclBindingFilter.ANY);
+
+    Map<String, List<TopologyAclBinding>> acls = provider.listAcls();
+
+    assertThat(acls).containsOnlyKeys("ctx.foo");
+    verify(kafkaAdminClient, times(1)).describeAcls(any(AclBindingFilter.class));
+  }
+
+  @Test
+  public void aclsListingFailureFailsTheRun() {
+    KafkaFutureImpl<Collection<AclBinding>> failed = new KafkaFutureImpl<>();
+    failed.completeExceptionally(new ClusterAuthorizationException("not allowed"));
+    DescribeAclsResult result = mock(DescribeAclsResult.class);
+    doReturn(failed).when(result).values();
+    doReturn(result).when(kafkaAdminClient).describeAcls(AclBindingFilter.ANY);
+
+    assertThatThrownBy(() -> aclsProvider.listAcls())
+        .isInstanceOf(IOException.class)
+        .hasCauseInstanceOf(ClusterAuthorizationException.class);
+  }
+
+  @Test
+  public void throttledTopicsAreCreatedAgainInSmallerChunks() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "4");
+    props.put(JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT, "1");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    List<Integer> chunkSizes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              Collection<NewTopic> newTopics = invocation.getArgument(0);
+              chunkSizes.add(newTopics.size());
+              Map<String, KafkaFuture<Void>> values = new HashMap<>();
+              for (NewTopic newTopic : newTopics) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (chunkSizes.size() == 1 && newTopic.name().compareTo("b") > 0) {
+                  future.completeExceptionally(new ThrottlingQuotaExceededException(10, "quota"));
+                } else {
+                  future.complete(null);
+                }
+                values.put(newTopic.name(), future);
+              }
+              CreateTopicsResult result = mock(CreateTopicsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .createTopics(anyCollection(), any(CreateTopicsOptions.class));
+
+    Map<String, Topic> topics = new LinkedHashMap<>();
+    for (String name : Arrays.asList("a", "b", "c", "d")) {
+      topics.put(name, new Topic(name));
+    }
+    Map<String, Throwable> errors = client.createTopics(topics);
+
+    assertThat(errors).isEmpty();
+    // the throttled topics are sent again with half the batch size
+    assertThat(chunkSizes).containsExactly(4, 2);
+  }
+
+  @Test
+  public void requestsInFlightThrottledTogetherHalveTheLimitsOnce() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "8");
+    props.put(JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT, "4");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    List<Integer> chunkSizes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              Collection<NewTopic> newTopics = invocation.getArgument(0);
+              chunkSizes.add(newTopics.size());
+              Map<String, KafkaFuture<Void>> values = new HashMap<>();
+              for (NewTopic newTopic : newTopics) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (chunkSizes.size() <= 4) {
+                  future.completeExceptionally(new ThrottlingQuotaExceededException(10, "quota"));
+                } else {
+                  future.complete(null);
+                }
+                values.put(newTopic.name(), future);
+              }
+              CreateTopicsResult result = mock(CreateTopicsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .createTopics(anyCollection(), any(CreateTopicsOptions.class));
+
+    Map<String, Topic> topics = new LinkedHashMap<>();
+    for (int i = 0; i < 32; i++) {
+      topics.put("topic" + i, new Topic("topic" + i));
+    }
+    Map<String, Throwable> errors = client.createTopics(topics);
+
+    assertThat(errors).isEmpty();
+    // the four requests were throttled within the same window, the batch size is halved once
+    assertThat(chunkSizes.subList(0, 5)).containsExactly(8, 8, 8, 8, 4);
+  }
+
+  @Test
+  public void topicConfigsAreAlteredInChunksWithPerResourceResults() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    doAnswer(
+            invocation -> {
+              Map<ConfigResource, Collection<AlterConfigOp>> configs = invocation.getArgument(0);
+              Map<ConfigResource, KafkaFuture<Void>> values = new HashMap<>();
+              for (ConfigResource resource : configs.keySet()) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (resource.name().equals("b")) {
+                  future.completeExceptionally(new PolicyViolationException("b"));
+                } else {
+                  future.complete(null);
+                }
+                values.put(resource, future);
+              }
+              AlterConfigsResult result = mock(AlterConfigsResult.class);
+              doReturn(values).when(result).values();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .incrementalAlterConfigs(anyMap());
+
+    List<TopicConfigUpdatePlan> plans = new ArrayList<>();
+    for (String name : Arrays.asList("a", "b", "c")) {
+      TopicConfigUpdatePlan plan = new TopicConfigUpdatePlan(new Topic(name));
+      plan.addConfigToUpdate("retention.ms", "1000");
+      plans.add(plan);
+    }
+    Map<ConfigResource, Throwable> errors = client.updateTopicConfigs(plans);
+
+    assertThat(errors).containsOnlyKeys(new ConfigResource(ConfigResource.Type.TOPIC, "b"));
+    verify(kafkaAdminClient, times(2)).incrementalAlterConfigs(anyMap());
+  }
+
+  @Test
+  public void requestsAreLimitedByTheInFlightWindow() throws IOException {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "1");
+    props.put(JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT, "2");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    List<KafkaFutureImpl<Map<String, TopicDescription>>> pending =
+        Collections.synchronizedList(new ArrayList<>());
+    doAnswer(
+            invocation -> {
+              KafkaFutureImpl<Map<String, TopicDescription>> future = new KafkaFutureImpl<>();
+              pending.add(future);
+              DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+              doReturn(future).when(result).allTopicNames();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .describeTopics(anyCollection());
+
+    var first = client.describeTopicsAsync(Collections.singletonList("a"));
+    var second = client.describeTopicsAsync(Collections.singletonList("b"));
+    assertThat(pending).hasSize(2);
+
+    // queued without blocking the caller, and sent once a request completes
+    var third = client.describeTopicsAsync(List.of("c"));
+    assertThat(pending).hasSize(2);
+
+    pending.get(0).complete(Collections.singletonMap("a", topicDescription("a", 1)));
+    assertThat(pending).hasSize(3);
+    assertThat(first).isCompleted();
+    assertThat(second).isNotDone();
+    assertThat(third).isNotDone();
+  }
+
+  @Test
+  public void requestsCanBeSentFromACompletionCallbackWithAFullWindow() {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_BATCH_SIZE, "1");
+    props.put(JULIE_ADMIN_REQUEST_MAX_IN_FLIGHT, "1");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    List<KafkaFutureImpl<Map<String, TopicDescription>>> pending =
+        Collections.synchronizedList(new ArrayList<>());
+    doAnswer(
+            invocation -> {
+              KafkaFutureImpl<Map<String, TopicDescription>> future = new KafkaFutureImpl<>();
+              pending.add(future);
+              DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+              doReturn(future).when(result).allTopicNames();
+              return result;
+            })
+        .when(kafkaAdminClient)
+        .describeTopics(anyCollection());
+
+    var chained =
+        client
+            .describeTopicsAsync(List.of("a"))
+            .thenCompose(descriptions -> client.describeTopicsAsync(List.of("b")));
+    var queued = client.describeTopicsAsync(List.of("c"));
+
+    // the callback of "a" runs on the completing thread while "c" takes the window
+    pending.get(0).complete(Collections.singletonMap("a", topicDescription("a", 1)));
+    assertThat(pending).hasSize(2);
+    pending.get(1).complete(Collections.singletonMap("c", topicDescription("c", 1)));
+    assertThat(pending).hasSize(3);
+    pending.get(2).complete(Collections.singletonMap("b", topicDescription("b", 1)));
+
+    assertThat(queued).isCompleted();
+    assertThat(chained)
+        .isCompletedWithValue(Collections.singletonMap("b", topicDescription("b", 1)));
+  }
+
+  @Test
+  public void configurationErrorsKeepTheirType() {
+    doThrow(new InvalidConfigurationException("invalid"))
+        .when(kafkaAdminClient)
+        .createAcls(anyCollection());
+
+    assertThatThrownBy(() -> adminClient.createAcls(List.of(topicAcl("foo"))))
+        .isInstanceOf(InvalidConfigurationException.class);
+  }
+
+  @Test
+  public void requestsFailAfterTheOperationTimeout() {
+    Properties props = new Properties();
+    props.put(JULIE_ADMIN_REQUEST_TIMEOUT_MS, "50");
+    TopologyBuilderAdminClient client =
+        new TopologyBuilderAdminClient(kafkaAdminClient, new Configuration(new HashMap<>(), props));
+
+    DeleteTopicsResult result = mock(DeleteTopicsResult.class);
+    doReturn(new KafkaFutureImpl<Void>()).when(result).all();
+    doReturn(result).when(kafkaAdminClient).deleteTopics(anyCollection());
+
+    assertThatThrownBy(() -> client.deleteTopics(Collections.singletonList("foo")))
+        .isInstanceOf(IOException.class)
+        .hasRootCauseInstanceOf(TimeoutException.class);
+  }
+
+  private TopicDescription topicDescription(String name, int partitions) {
+    Node node = new Node(0, "localhost", 9092);
+    List<TopicPartitionInfo> infos = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      infos.add(
+          new TopicPartitionInfo(
+              i, node, Collections.singletonList(node), Collections.singletonList(node)));
+    }
+    return new TopicDescription(name, false, infos);
+  }
+
+  private AclBinding topicAcl(String topic) {
+    return new AclBinding(
+        new ResourcePattern(ResourceType.TOPIC, topic, PatternType.LITERAL),
+        new AccessControlEntry("User:foo", "*", AclOperation.READ, AclPermissionType.ALLOW));
+  }
+
+  private TopologyAclBinding aclBinding(String topic) {
+    return new TopologyAclBinding(
+        ResourceType.TOPIC.name(), topic, "*", "READ", "User:foo", "LITERAL");
+  }
 }
@@ -0,0 +1,77 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class CreateTopicsActionTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldCreateAllTopicsInOneRequest() throws IOException {
+    Map<String, Topic> topics = new HashMap<>();
+    topics.put("ctx.project.foo", new Topic("foo"));
+    topics.put("ctx.project.bar", new Topic("bar"));
+
+    var action = new CreateTopicsAction(adminClient, topics);
+    action.run();
+
+    verify(adminClient, times(1)).createTopics(anyMap());
+    assertThat(action.getCreatedTopics()).containsOnly("ctx.project.foo", "ctx.project.bar");
+  }
+
+  @Test
+  public void shouldReportFailuresPerTopic() throws IOException {
+    Map<String, Topic> topics = new HashMap<>();
+    topics.put("ctx.project.foo", new Topic("foo"));
+    topics.put("ctx.project.bar", new Topic("bar"));
+
+    when(adminClient.createTopics(anyMap()))
+        .thenReturn(
+            Collections.singletonMap(
+                "ctx.project.bar", new InvalidReplicationFactorException("too many replicas")));
+
+    var action = new CreateTopicsAction(adminClient, topics);
+
+    assertThatThrownBy(action::run)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("ctx.project.bar");
+    assertThat(action.getCreatedTopics()).containsOnly("ctx.project.foo");
+  }
+
+  @Test
+  public void shouldComposeDetailedViewOfProperties() {
+    Topic topic = new Topic("foo");
+    topic.setConfig(Collections.singletonMap("foo", "bar"));
+
+    var action =
+        new CreateTopicsAction(adminClient, Collections.singletonMap("ctx.project.foo", topic));
+    var refs = action.refs();
+    assertThat(refs).hasSize(1);
+    var ref = refs.get(0);
+    assertThat(ref)
+        .contains(
+            "\"resource_name\" : \"rn://create.topic/com.purbon.kafka.topology.actions.topics.CreateTopicsAction/ctx.project.foo\"");
+    assertThat(ref).contains("\"foo\" : \"bar\"");
+    assertThat(ref).contains("\"topic\" : \"ctx.project.foo\",");
+  }
+}
@@ -0,0 +1,109 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.model.Topic;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigSource;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigType;
+import org.apache.kafka.common.config.TopicConfig;
+import org.junit.Test;
+
+public class TopicConfigDiffTest {
+
+  @Test
+  public void shouldIgnoreEquivalentDecimals() {
+    var plan =
+        diff(
+            Collections.singletonMap(TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG, " 0.50"),
+            entry(
+                TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG,
+                "0.5",
+                ConfigSource.DYNAMIC_TOPIC_CONFIG));
+
+    assertThat(plan.hasConfigChanges()).isFalse();
+  }
+
+  @Test
+  public void shouldDetectIntegersWrittenAsDecimals() {
+    var plan =
+        diff(
+            Collections.singletonMap(TopicConfig.RETENTION_MS_CONFIG, " 86400000.0"),
+            entry(TopicConfig.RETENTION_MS_CONFIG, "86400000", ConfigSource.DYNAMIC_TOPIC_CONFIG));
+
+    assertThat(plan.getUpdatedConfigValues())
+        .containsEntry(TopicConfig.RETENTION_MS_CONFIG, " 86400000.0");
+  }
+
+  @Test
+  public void shouldIgnoreValuesEqualToTheEffectiveDefault() {
+    var plan =
+        diff(
+            Collections.singletonMap(TopicConfig.CLEANUP_POLICY_CONFIG, "delete"),
+            entry(TopicConfig.CLEANUP_POLICY_CONFIG, "delete", ConfigSource.DEFAULT_CONFIG),
+            entry(
+                TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG,
+                "false",
+                ConfigSource.STATIC_BROKER_CONFIG));
+
+    assertThat(plan.hasConfigChanges()).isFalse();
+  }
+
+  @Test
+  public void shouldNormalizeUsingTheKnownTypeWhenNotReported() {
+    var plan =
+        diff(
+            Collections.singletonMap(TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG, "TRUE"),
+            new ConfigEntry(TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG, "true"));
+
+    assertThat(plan.hasConfigChanges()).isFalse();
+  }
+
+  @Test
+  public void shouldDetectChangesByConfigSource() {
+    Map<String, String> configs = new HashMap<>();
+    configs.put(TopicConfig.RETENTION_MS_CONFIG, "1000");
+    configs.put(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+    configs.put("confluent.placement.constraints", "{}");
+
+    var plan =
+        diff(
+            configs,
+            entry(TopicConfig.RETENTION_MS_CONFIG, "2000", ConfigSource.DYNAMIC_TOPIC_CONFIG),
+            entry(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1", ConfigSource.DEFAULT_CONFIG),
+            entry(TopicConfig.SEGMENT_MS_CONFIG, "1000", ConfigSource.DYNAMIC_TOPIC_CONFIG));
+
+    assertThat(plan.getUpdatedConfigValues()).containsOnlyKeys(TopicConfig.RETENTION_MS_CONFIG);
+    assertThat(plan.getNewConfigValues())
+        .containsOnlyKeys(
+            TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "confluent.placement.constraints");
+    assertThat(plan.getDeletedConfigValues()).containsOnlyKeys(TopicConfig.SEGMENT_MS_CONFIG);
+  }
+
+  @Test
+  public void shouldNormalizeValuesByType() {
+    assertThat(TopicConfigDiff.normalize(ConfigType.DOUBLE, "0.50")).isEqualTo("0.5");
+    assertThat(TopicConfigDiff.normalize(ConfigType.DOUBLE, "1e3")).isEqualTo("1000");
+    assertThat(TopicConfigDiff.normalize(ConfigType.LONG, " 1e3 ")).isEqualTo("1e3");
+    assertThat(TopicConfigDiff.normalize(ConfigType.LIST, " compact , delete "))
+        .isEqualTo("compact,delete");
+    assertThat(TopicConfigDiff.normalize(ConfigType.STRING, " CreateTime "))
+        .isEqualTo("CreateTime");
+  }
+
+  private TopicConfigUpdatePlan diff(Map<String, String> configs, ConfigEntry... entries) {
+    var plan = new TopicConfigUpdatePlan(new Topic("foo"));
+    TopicConfigDiff.diff(plan, configs, new Config(Arrays.asList(entries)));
+    return plan;
+  }
+
+  private ConfigEntry entry(String name, String value, ConfigSource source) {
+    return new ConfigEntry(
+        name, value, source, false, false, Collections.emptyList(), ConfigType.UNKNOWN, null);
+  }
+}
@@ -0,0 +1,81 @@
+package com.purbon.kafka.topology.actions.topics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.TopicManager;
+import com.purbon.kafka.topology.api.adminclient.TopologyBuilderAdminClient;
+import com.purbon.kafka.topology.model.Topic;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.PolicyViolationException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class UpdateTopicConfigsActionTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Test
+  public void shouldMergeAllPlansIntoBatchedRequests() throws IOException {
+    var foo = new TopicConfigUpdatePlan(new Topic("foo"));
+    foo.addConfigToUpdate("retention.ms", "1000");
+    var bar =
+        new TopicConfigUpdatePlan(
+            new Topic("bar", Collections.singletonMap(TopicManager.NUM_PARTITIONS, "6")));
+    bar.setUpdatePartitionCount(true);
+
+    var action = new UpdateTopicConfigsAction(adminClient, Arrays.asList(foo, bar));
+    action.run();
+
+    verify(adminClient, times(1)).updatePartitionCounts(Collections.singletonMap("bar", 6));
+    verify(adminClient, times(1)).updateTopicConfigs(Collections.singletonList(foo));
+  }
+
+  @Test
+  public void shouldReportFailuresPerResource() throws IOException {
+    var foo = new TopicConfigUpdatePlan(new Topic("foo"));
+    foo.addConfigToUpdate("retention.ms", "1000");
+    var bar = new TopicConfigUpdatePlan(new Topic("bar"));
+    bar.addConfigToDelete("retention.ms", "1000");
+
+    when(adminClient.updateTopicConfigs(anyCollection()))
+        .thenReturn(
+            Collections.singletonMap(
+                new ConfigResource(ConfigResource.Type.TOPIC, "bar"),
+                new PolicyViolationException("not allowed")));
+
+    var action = new UpdateTopicConfigsAction(adminClient, Arrays.asList(foo, bar));
+
+    assertThatThrownBy(action::run)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("1 out of 2 topics: bar");
+    verify(adminClient, times(0)).updatePartitionCounts(anyMap());
+  }
+
+  @Test
+  public void shouldComposeDetailedViewOfProperties() {
+    var foo = new TopicConfigUpdatePlan(new Topic("foo"));
+    foo.addConfigToUpdate("retention.ms", "1000");
+
+    var action = new UpdateTopicConfigsAction(adminClient, Collections.singletonList(foo));
+    var refs = action.refs();
+    assertThat(refs).hasSize(1);
+    assertThat(refs.get(0))
+        .contains(
+            "\"resource_name\" : \"rn://update.topic.config/com.purbon.kafka.topology.actions.topics.UpdateTopicConfigsAction/foo\"");
+    assertThat(refs.get(0)).contains("\"retention.ms\" : \"1000\"");
+  }
+}
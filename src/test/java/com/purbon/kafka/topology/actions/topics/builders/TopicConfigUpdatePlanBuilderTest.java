@@ -1,7 +1,10 @@
 package com.purbon.kafka.topology.actions.topics.builders;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.purbon.kafka.topology.TopicManager;
 import com.purbon.kafka.topology.actions.topics.TopicConfigUpdatePlan;
@@ -103,6 +106,25 @@ public class TopicConfigUpdatePlanBuilderTest {
     assertNewUpdatedAndDeletedCounts(plan, 0, 0, 0);
   }
 
+  @Test
+  public void shouldUsePrefetchedStateWithoutPerTopicRequests() throws IOException {
+    var topics = Collections.singletonList(TOPIC_NAME);
+    doReturn(Collections.singletonMap(TOPIC_NAME, createAlreadyOverriddenRetentionConfig()))
+        .when(adminClient)
+        .getActualTopicConfigs(topics);
+    doReturn(Collections.singletonMap(TOPIC_NAME, 3)).when(adminClient).getPartitionCounts(topics);
+
+    var builder = new TopicConfigUpdatePlanBuilder(adminClient);
+    builder.prefetch(topics);
+    var topic = createTopic(TopicManager.NUM_PARTITIONS, "5");
+    var plan = builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
+
+    assertNewUpdatedAndDeletedCounts(plan, 0, 0, 1);
+    assertTrue(plan.isUpdatePartitionCount());
+    verify(adminClient, never()).getActualTopicConfig(anyString());
+    verify(adminClient, never()).getPartitionCount(anyString());
+  }
+
   private TopicConfigUpdatePlan getTopicConfigUpdatePlan(Topic topic) {
     var builder = new TopicConfigUpdatePlanBuilder(adminClient);
     return builder.createTopicConfigUpdatePlan(topic, TOPIC_NAME);
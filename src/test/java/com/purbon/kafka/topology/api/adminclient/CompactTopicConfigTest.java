@@ -0,0 +1,74 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigSource;
+import org.apache.kafka.common.config.TopicConfig;
+import org.junit.Test;
+
+public class CompactTopicConfigTest {
+
+  @Test
+  public void shouldShareDefaultEntriesBetweenTopics() {
+    Map<String, ConfigEntry> defaults = new HashMap<>();
+    Config foo =
+        CompactTopicConfig.of(
+            config(
+                entry(TopicConfig.RETENTION_MS_CONFIG, "604800000", ConfigSource.DEFAULT_CONFIG),
+                entry(TopicConfig.SEGMENT_MS_CONFIG, "1000", ConfigSource.DYNAMIC_TOPIC_CONFIG)),
+            defaults);
+    Config bar =
+        CompactTopicConfig.of(
+            config(
+                entry(TopicConfig.RETENTION_MS_CONFIG, "604800000", ConfigSource.DEFAULT_CONFIG),
+                entry(TopicConfig.SEGMENT_MS_CONFIG, "604800000", ConfigSource.DEFAULT_CONFIG)),
+            defaults);
+
+    assertThat(defaults)
+        .containsOnlyKeys(TopicConfig.RETENTION_MS_CONFIG, TopicConfig.SEGMENT_MS_CONFIG);
+    assertThat(foo.get(TopicConfig.RETENTION_MS_CONFIG))
+        .isSameAs(bar.get(TopicConfig.RETENTION_MS_CONFIG));
+    assertThat(foo.get(TopicConfig.SEGMENT_MS_CONFIG).value()).isEqualTo("1000");
+    assertThat(bar.get(TopicConfig.SEGMENT_MS_CONFIG).value()).isEqualTo("604800000");
+    // the overridden defaults are not listed
+    assertThat(foo.entries())
+        .hasSize(2)
+        .extracting(ConfigEntry::value)
+        .containsExactlyInAnyOrder("604800000", "1000");
+  }
+
+  @Test
+  public void shouldBeEqualToTheOriginalConfig() {
+    Config config =
+        config(
+            entry(TopicConfig.RETENTION_MS_CONFIG, "604800000", ConfigSource.DEFAULT_CONFIG),
+            entry(TopicConfig.SEGMENT_MS_CONFIG, "1000", ConfigSource.DYNAMIC_TOPIC_CONFIG));
+
+    Config compact = CompactTopicConfig.of(config, new HashMap<>());
+
+    assertThat(compact.entries()).containsExactlyInAnyOrderElementsOf(config.entries());
+    assertThat(compact).isEqualTo(config);
+  }
+
+  private Config config(ConfigEntry... entries) {
+    return new Config(Arrays.asList(entries));
+  }
+
+  private ConfigEntry entry(String name, String value, ConfigSource source) {
+    return new ConfigEntry(
+        name,
+        value,
+        source,
+        false,
+        false,
+        Collections.emptyList(),
+        ConfigEntry.ConfigType.LONG,
+        null);
+  }
+}
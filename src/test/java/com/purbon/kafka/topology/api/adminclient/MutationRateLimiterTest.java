@@ -0,0 +1,71 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class MutationRateLimiterTest {
+
+  private long now = 1000;
+
+  private final MutationRateLimiter limiter =
+      new MutationRateLimiter(100, 4) {
+        @Override
+        protected long currentTimeMillis() {
+          return now;
+        }
+      };
+
+  @Test
+  public void shouldDecreaseMultiplicativelyWhenThrottled() {
+    limiter.onThrottled(500);
+
+    assertThat(limiter.getBatchSize()).isEqualTo(50);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(2);
+    assertThat(limiter.getPauseMs()).isEqualTo(500);
+
+    now += 200;
+    limiter.onThrottled(100);
+
+    assertThat(limiter.getBatchSize()).isEqualTo(25);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(1);
+    // an earlier, longer pause is kept
+    assertThat(limiter.getPauseMs()).isEqualTo(300);
+  }
+
+  @Test
+  public void shouldDecreaseOncePerThrottleWindow() {
+    long version = limiter.getVersion();
+
+    limiter.onThrottled(500, version);
+    now += 100;
+    limiter.onThrottled(700, version);
+
+    assertThat(limiter.getBatchSize()).isEqualTo(50);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(2);
+    // the requests sent before the decrease still extend the pause
+    assertThat(limiter.getPauseMs()).isEqualTo(700);
+
+    limiter.onThrottled(100, limiter.getVersion());
+
+    assertThat(limiter.getBatchSize()).isEqualTo(25);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldIncreaseAdditivelyUpToTheLimits() {
+    limiter.onThrottled(0);
+    limiter.onThrottled(0);
+
+    limiter.onSuccess();
+    assertThat(limiter.getBatchSize()).isEqualTo(35);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(2);
+
+    for (int i = 0; i < 20; i++) {
+      limiter.onSuccess();
+    }
+    assertThat(limiter.getBatchSize()).isEqualTo(100);
+    assertThat(limiter.getMaxInFlight()).isEqualTo(4);
+    assertThat(limiter.getPauseMs()).isZero();
+  }
+}
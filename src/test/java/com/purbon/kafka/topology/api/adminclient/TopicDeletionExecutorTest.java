@@ -0,0 +1,118 @@
+package com.purbon.kafka.topology.api.adminclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.purbon.kafka.topology.exceptions.TopicDeletionFailureException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class TopicDeletionExecutorTest {
+
+  @Mock TopologyBuilderAdminClient adminClient;
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  private List<Long> sleeps;
+  private TopicDeletionExecutor executor;
+
+  @Before
+  public void before() throws IOException {
+    sleeps = new ArrayList<>();
+    executor =
+        new TopicDeletionExecutor(adminClient, 2, 1000, 10) {
+          @Override
+          protected void sleep(long millis) {
+            sleeps.add(millis);
+          }
+        };
+    when(adminClient.deleteTopicsPerTopicAsync(anyCollection()))
+        .thenReturn(CompletableFuture.completedFuture(Collections.emptyMap()));
+    when(adminClient.existingTopics(anyCollection())).thenReturn(Collections.emptySet());
+  }
+
+  @Test
+  public void shouldDeleteTopicsInChunks() throws IOException {
+    executor.delete(Arrays.asList("a", "b", "c", "d", "e"));
+
+    verify(adminClient, times(1)).deleteTopicsPerTopicAsync(Arrays.asList("a", "b"));
+    verify(adminClient, times(1)).deleteTopicsPerTopicAsync(Arrays.asList("c", "d"));
+    verify(adminClient, times(1)).deleteTopicsPerTopicAsync(Collections.singletonList("e"));
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  public void shouldRetryThrottledTopicsAfterThrottleTime() throws IOException {
+    Map<String, Throwable> throttled = new HashMap<>();
+    throttled.put("b", new ThrottlingQuotaExceededException(250, "throttled"));
+    when(adminClient.deleteTopicsPerTopicAsync(Arrays.asList("a", "b")))
+        .thenReturn(CompletableFuture.completedFuture(throttled));
+
+    executor.delete(Arrays.asList("a", "b"));
+
+    verify(adminClient, times(1)).deleteTopicsPerTopicAsync(Collections.singletonList("b"));
+    assertThat(sleeps).containsExactly(250L);
+  }
+
+  @Test
+  public void shouldWaitForMetadataToSettle() throws IOException {
+    when(adminClient.existingTopics(Arrays.asList("a", "b"))).thenReturn(Set.of("b"));
+    when(adminClient.existingTopics(Set.of("b"))).thenReturn(Collections.emptySet());
+
+    executor.delete(Arrays.asList("a", "b"));
+
+    verify(adminClient, times(1)).existingTopics(Set.of("b"));
+    assertThat(sleeps).containsExactly(10L);
+  }
+
+  @Test
+  public void shouldReportFailedTopics() throws IOException {
+    Map<String, Throwable> errors = new HashMap<>();
+    errors.put("a", new UnknownTopicOrPartitionException("already gone"));
+    errors.put("b", new InvalidTopicException("invalid"));
+    when(adminClient.deleteTopicsPerTopicAsync(Arrays.asList("a", "b")))
+        .thenReturn(CompletableFuture.completedFuture(errors));
+
+    assertThatThrownBy(() -> executor.delete(Arrays.asList("a", "b", "c")))
+        .isInstanceOf(IOException.class)
+        .isInstanceOfSatisfying(
+            TopicDeletionFailureException.class,
+            e -> assertThat(e.getDeletedTopics()).containsExactly("a", "c"))
+        .hasMessage("Failed to delete 1 out of 3 topics: b");
+    verify(adminClient, times(1)).deleteTopicsPerTopicAsync(Collections.singletonList("c"));
+  }
+
+  @Test
+  public void shouldReportTheTopicsDeletedBeforeAChunkFails() {
+    when(adminClient.deleteTopicsPerTopicAsync(Arrays.asList("c", "d")))
+        .thenReturn(CompletableFuture.failedFuture(new TimeoutException("timed out")));
+
+    assertThatThrownBy(() -> executor.delete(Arrays.asList("a", "b", "c", "d", "e")))
+        .isInstanceOfSatisfying(
+            TopicDeletionFailureException.class,
+            e -> assertThat(e.getDeletedTopics()).containsExactly("a", "b"))
+        .hasMessage("Failed to delete topics, 2 out of 5 deleted");
+    verify(adminClient, times(0)).deleteTopicsPerTopicAsync(Collections.singletonList("e"));
+  }
+}
@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.backend;
 
+import static com.purbon.kafka.topology.BackendController.JOURNAL_FILE_NAME;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +39,31 @@ public class FileBackendTest {
   @After
   public void after() throws IOException {
     Files.deleteIfExists(Paths.get(STATE_FILE_NAME));
+    Files.deleteIfExists(Paths.get(JOURNAL_FILE_NAME));
+  }
+
+  @Test
+  public void shouldAppendAndReplayTheJournal() throws IOException {
+    TopologyAclBinding binding =
+        TopologyAclBinding.build(
+            ResourceType.TOPIC.name(), "foo", "*", "READ", "User:foo", "LITERAL");
+    StateDelta created = new StateDelta();
+    created.getAdded().addTopics(Arrays.asList("foo", "bar"));
+    created.getAdded().addBindings(Collections.singleton(binding));
+    StateDelta deleted = new StateDelta();
+    deleted.getRemoved().addTopics(Collections.singleton("bar"));
+
+    backend.appendJournal(Collections.singletonList(created));
+    backend.appendJournal(Collections.singletonList(deleted));
+
+    BackendState state = new BackendState();
+    state.addTopics(Collections.singleton("zet"));
+    backend.loadJournal().forEach(entry -> entry.applyTo(state));
+    assertThat(state.getTopics()).containsExactlyInAnyOrder("foo", "zet");
+    assertThat(state.getBindings()).containsExactly(binding);
+
+    backend.clearJournal();
+    assertThat(backend.loadJournal()).isEmpty();
   }
 
   @Test
@@ -0,0 +1,73 @@
+package com.purbon.kafka.topology.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.purbon.kafka.topology.RunProfiler;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlightRecordingTest {
+
+  private Path file;
+
+  @Before
+  public void before() throws IOException {
+    file = Files.createTempFile("julie", ".jfr");
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void shouldRecordPhasesAndRemoteCalls() throws IOException {
+    try (FlightRecording recording = FlightRecording.start(file.toString())) {
+      try (RunProfiler.Phase phase = RunProfiler.DISABLED.start("parse topology")) {
+        RemoteCall call = new RemoteCallMetrics().start("admin", "kafka", "listTopics");
+        assertThat(call.isRecorded()).isTrue();
+        call.response("200", 42);
+        call.complete(false);
+      }
+    }
+
+    List<RecordedEvent> events =
+        RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().startsWith("com.purbon"))
+            .collect(Collectors.toList());
+    assertThat(events)
+        .extracting(event -> event.getEventType().getName())
+        .containsExactly("com.purbon.kafka.topology.RemoteCall", "com.purbon.kafka.topology.Phase");
+    assertThat(events.get(0).getString("method")).isEqualTo("listTopics");
+    assertThat(events.get(0).getString("status")).isEqualTo("200");
+    assertThat(events.get(0).getLong("bytes")).isEqualTo(42);
+    assertThat(events.get(1).getString("name")).isEqualTo("parse topology");
+  }
+
+  @Test
+  public void shouldOnlyCountRemoteCallsWithoutARecording() {
+    RemoteCallMetrics metrics = new RemoteCallMetrics();
+    RemoteCall call = metrics.start("admin", "kafka", "listTopics");
+    call.complete(false);
+
+    assertThat(call.isRecorded()).isFalse();
+    assertThat(metrics.getStats()).extracting(RemoteCallStats::getCalls).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldRecordNothingWithoutAFile() throws IOException {
+    Files.delete(file);
+    try (FlightRecording recording = FlightRecording.start(null)) {
+      RunProfiler.DISABLED.start("parse topology").close();
+    }
+    assertThat(file).doesNotExist();
+  }
+}
@@ -0,0 +1,97 @@
+package com.purbon.kafka.topology.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RemoteCallMetricsTest {
+
+  private RemoteCallMetrics metrics;
+  private Path file;
+
+  @Before
+  public void before() throws IOException {
+    metrics = new RemoteCallMetrics();
+    file = Files.createTempFile("metrics", ".prom");
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void shouldCountCallsErrorsAndRetries() {
+    try (RemoteCall call = metrics.start("admin", "kafka", "createTopics")) {
+      call.success();
+    }
+    try (RemoteCall call = metrics.start("admin", "kafka", "createTopics")) {
+      // closed without success, counted as an error
+    }
+    metrics.retry("admin", "kafka", "createTopics");
+
+    assertThat(metrics.getStats()).hasSize(1);
+    RemoteCallStats stats = metrics.getStats().get(0);
+    assertThat(stats.getCalls()).isEqualTo(2);
+    assertThat(stats.getErrors()).isEqualTo(1);
+    assertThat(stats.getRetries()).isEqualTo(1);
+    assertThat(stats.getErrorRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void shouldWriteThePrometheusTextFormat() throws IOException {
+    metrics.start("admin", "kafka", "describeAcls").complete(false);
+    metrics.start("MDSApiClient", "http://mds:8090", "GET \"/security\"").complete(true);
+
+    metrics.writePrometheus(file);
+
+    String text = Files.readString(file, StandardCharsets.UTF_8);
+    assertThat(text)
+        .contains("# TYPE julie_remote_calls_total counter")
+        .contains(
+            "julie_remote_calls_total{client=\"admin\",endpoint=\"kafka\",operation=\"describeAcls\"} 1")
+        .contains(
+            "julie_remote_call_errors_total{client=\"MDSApiClient\",endpoint=\"http://mds:8090\",operation=\"GET \\\"/security\\\"\"} 1")
+        .contains("# TYPE julie_remote_call_latency_seconds histogram")
+        .contains(
+            "julie_remote_call_latency_seconds_bucket{client=\"admin\",endpoint=\"kafka\",operation=\"describeAcls\",le=\"+Inf\"} 1")
+        .contains(
+            "julie_remote_call_latency_seconds_count{client=\"admin\",endpoint=\"kafka\",operation=\"describeAcls\"} 1");
+  }
+
+  @Test
+  public void shouldComputeLatencyPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 99; i++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(3));
+    }
+    histogram.record(TimeUnit.SECONDS.toNanos(3));
+
+    assertThat(histogram.getCount()).isEqualTo(100);
+    assertThat(histogram.getPercentileMs(50)).isEqualTo(5);
+    assertThat(histogram.getPercentileMs(99)).isEqualTo(5);
+    assertThat(histogram.getPercentileMs(100)).isEqualTo(3000);
+  }
+
+  @Test
+  public void shouldExposeTheStatsOverJmx() throws Exception {
+    metrics.start("jmx-test", "kafka", "listTopics").complete(false);
+    metrics.enableJmx();
+
+    ObjectName name =
+        new ObjectName(
+            "com.purbon.kafka.topology:type=RemoteCalls,client=\"jmx-test\",endpoint=\"kafka\",operation=\"listTopics\"");
+    assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Calls"))
+        .isEqualTo(1L);
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+  }
+}
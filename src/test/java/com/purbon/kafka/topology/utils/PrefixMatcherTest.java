@@ -0,0 +1,43 @@
+package com.purbon.kafka.topology.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class PrefixMatcherTest {
+
+  @Test
+  public void shouldMatchAnyOfThePrefixes() {
+    var matcher = PrefixMatcher.of(Arrays.asList("team.b.", "_", "team.a.", "app"));
+
+    assertThat(matcher.matches("team.a.topic")).isTrue();
+    assertThat(matcher.matches("team.b.topic")).isTrue();
+    assertThat(matcher.matches("_confluent")).isTrue();
+    assertThat(matcher.matches("application")).isTrue();
+    assertThat(matcher.matches("app")).isTrue();
+    assertThat(matcher.matches("team.c.topic")).isFalse();
+    assertThat(matcher.matches("ap")).isFalse();
+    assertThat(matcher.matches("")).isFalse();
+  }
+
+  @Test
+  public void shouldDropPrefixesCoveredByShorterOnes() {
+    var matcher = PrefixMatcher.of(Arrays.asList("team.", "team.a.", "team.a.b", "teams"));
+
+    assertThat(matcher.toString()).isEqualTo("[team., teams]");
+    assertThat(matcher.matches("team.a.b.c")).isTrue();
+    assertThat(matcher.matches("teamsters")).isTrue();
+    assertThat(matcher.matches("tea")).isFalse();
+  }
+
+  @Test
+  public void shouldMatchEverythingOnlyWhenAskedToForEmptyPrefixes() {
+    var matcher = PrefixMatcher.of(Collections.emptyList());
+
+    assertThat(matcher.isEmpty()).isTrue();
+    assertThat(matcher.matches("topic")).isFalse();
+    assertThat(matcher.matchesOrEmpty("topic")).isTrue();
+  }
+}
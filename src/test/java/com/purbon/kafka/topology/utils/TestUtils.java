@@ -1,5 +1,6 @@
 package com.purbon.kafka.topology.utils;
 
+import static com.purbon.kafka.topology.BackendController.JOURNAL_FILE_NAME;
 import static com.purbon.kafka.topology.BackendController.STATE_FILE_NAME;
 
 import java.io.File;
@@ -16,6 +17,7 @@ public final class TestUtils {
   public static void deleteStateFile() {
     try {
       Files.deleteIfExists(Paths.get(STATE_FILE_NAME));
+      Files.deleteIfExists(Paths.get(JOURNAL_FILE_NAME));
     } catch (final IOException e) {
       throw new RuntimeException(e);
     }